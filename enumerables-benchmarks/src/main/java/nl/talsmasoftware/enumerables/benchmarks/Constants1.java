@@ -0,0 +1,30 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.enumerables.benchmarks;
+
+import nl.talsmasoftware.enumerables.Enumerable;
+
+/**
+ * Enumerable type with 1 constant, used as benchmark fixture.
+ */
+public final class Constants1 extends Enumerable {
+    public static final Constants1 C0 = new Constants1("Value 0");
+
+    private Constants1(String value) {
+        super(value);
+    }
+
+}
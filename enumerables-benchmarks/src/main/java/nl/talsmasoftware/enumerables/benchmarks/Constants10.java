@@ -0,0 +1,39 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.enumerables.benchmarks;
+
+import nl.talsmasoftware.enumerables.Enumerable;
+
+/**
+ * Enumerable type with 10 constants, used as benchmark fixture.
+ */
+public final class Constants10 extends Enumerable {
+    public static final Constants10 C0 = new Constants10("Value 0");
+    public static final Constants10 C1 = new Constants10("Value 1");
+    public static final Constants10 C2 = new Constants10("Value 2");
+    public static final Constants10 C3 = new Constants10("Value 3");
+    public static final Constants10 C4 = new Constants10("Value 4");
+    public static final Constants10 C5 = new Constants10("Value 5");
+    public static final Constants10 C6 = new Constants10("Value 6");
+    public static final Constants10 C7 = new Constants10("Value 7");
+    public static final Constants10 C8 = new Constants10("Value 8");
+    public static final Constants10 C9 = new Constants10("Value 9");
+
+    private Constants10(String value) {
+        super(value);
+    }
+
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.enumerables.benchmarks;
+
+import nl.talsmasoftware.enumerables.Enumerable;
+
+/**
+ * Enumerable type with 100 constants, used as benchmark fixture.
+ */
+public final class Constants100 extends Enumerable {
+    public static final Constants100 C00 = new Constants100("Value 00");
+    public static final Constants100 C01 = new Constants100("Value 01");
+    public static final Constants100 C02 = new Constants100("Value 02");
+    public static final Constants100 C03 = new Constants100("Value 03");
+    public static final Constants100 C04 = new Constants100("Value 04");
+    public static final Constants100 C05 = new Constants100("Value 05");
+    public static final Constants100 C06 = new Constants100("Value 06");
+    public static final Constants100 C07 = new Constants100("Value 07");
+    public static final Constants100 C08 = new Constants100("Value 08");
+    public static final Constants100 C09 = new Constants100("Value 09");
+    public static final Constants100 C10 = new Constants100("Value 10");
+    public static final Constants100 C11 = new Constants100("Value 11");
+    public static final Constants100 C12 = new Constants100("Value 12");
+    public static final Constants100 C13 = new Constants100("Value 13");
+    public static final Constants100 C14 = new Constants100("Value 14");
+    public static final Constants100 C15 = new Constants100("Value 15");
+    public static final Constants100 C16 = new Constants100("Value 16");
+    public static final Constants100 C17 = new Constants100("Value 17");
+    public static final Constants100 C18 = new Constants100("Value 18");
+    public static final Constants100 C19 = new Constants100("Value 19");
+    public static final Constants100 C20 = new Constants100("Value 20");
+    public static final Constants100 C21 = new Constants100("Value 21");
+    public static final Constants100 C22 = new Constants100("Value 22");
+    public static final Constants100 C23 = new Constants100("Value 23");
+    public static final Constants100 C24 = new Constants100("Value 24");
+    public static final Constants100 C25 = new Constants100("Value 25");
+    public static final Constants100 C26 = new Constants100("Value 26");
+    public static final Constants100 C27 = new Constants100("Value 27");
+    public static final Constants100 C28 = new Constants100("Value 28");
+    public static final Constants100 C29 = new Constants100("Value 29");
+    public static final Constants100 C30 = new Constants100("Value 30");
+    public static final Constants100 C31 = new Constants100("Value 31");
+    public static final Constants100 C32 = new Constants100("Value 32");
+    public static final Constants100 C33 = new Constants100("Value 33");
+    public static final Constants100 C34 = new Constants100("Value 34");
+    public static final Constants100 C35 = new Constants100("Value 35");
+    public static final Constants100 C36 = new Constants100("Value 36");
+    public static final Constants100 C37 = new Constants100("Value 37");
+    public static final Constants100 C38 = new Constants100("Value 38");
+    public static final Constants100 C39 = new Constants100("Value 39");
+    public static final Constants100 C40 = new Constants100("Value 40");
+    public static final Constants100 C41 = new Constants100("Value 41");
+    public static final Constants100 C42 = new Constants100("Value 42");
+    public static final Constants100 C43 = new Constants100("Value 43");
+    public static final Constants100 C44 = new Constants100("Value 44");
+    public static final Constants100 C45 = new Constants100("Value 45");
+    public static final Constants100 C46 = new Constants100("Value 46");
+    public static final Constants100 C47 = new Constants100("Value 47");
+    public static final Constants100 C48 = new Constants100("Value 48");
+    public static final Constants100 C49 = new Constants100("Value 49");
+    public static final Constants100 C50 = new Constants100("Value 50");
+    public static final Constants100 C51 = new Constants100("Value 51");
+    public static final Constants100 C52 = new Constants100("Value 52");
+    public static final Constants100 C53 = new Constants100("Value 53");
+    public static final Constants100 C54 = new Constants100("Value 54");
+    public static final Constants100 C55 = new Constants100("Value 55");
+    public static final Constants100 C56 = new Constants100("Value 56");
+    public static final Constants100 C57 = new Constants100("Value 57");
+    public static final Constants100 C58 = new Constants100("Value 58");
+    public static final Constants100 C59 = new Constants100("Value 59");
+    public static final Constants100 C60 = new Constants100("Value 60");
+    public static final Constants100 C61 = new Constants100("Value 61");
+    public static final Constants100 C62 = new Constants100("Value 62");
+    public static final Constants100 C63 = new Constants100("Value 63");
+    public static final Constants100 C64 = new Constants100("Value 64");
+    public static final Constants100 C65 = new Constants100("Value 65");
+    public static final Constants100 C66 = new Constants100("Value 66");
+    public static final Constants100 C67 = new Constants100("Value 67");
+    public static final Constants100 C68 = new Constants100("Value 68");
+    public static final Constants100 C69 = new Constants100("Value 69");
+    public static final Constants100 C70 = new Constants100("Value 70");
+    public static final Constants100 C71 = new Constants100("Value 71");
+    public static final Constants100 C72 = new Constants100("Value 72");
+    public static final Constants100 C73 = new Constants100("Value 73");
+    public static final Constants100 C74 = new Constants100("Value 74");
+    public static final Constants100 C75 = new Constants100("Value 75");
+    public static final Constants100 C76 = new Constants100("Value 76");
+    public static final Constants100 C77 = new Constants100("Value 77");
+    public static final Constants100 C78 = new Constants100("Value 78");
+    public static final Constants100 C79 = new Constants100("Value 79");
+    public static final Constants100 C80 = new Constants100("Value 80");
+    public static final Constants100 C81 = new Constants100("Value 81");
+    public static final Constants100 C82 = new Constants100("Value 82");
+    public static final Constants100 C83 = new Constants100("Value 83");
+    public static final Constants100 C84 = new Constants100("Value 84");
+    public static final Constants100 C85 = new Constants100("Value 85");
+    public static final Constants100 C86 = new Constants100("Value 86");
+    public static final Constants100 C87 = new Constants100("Value 87");
+    public static final Constants100 C88 = new Constants100("Value 88");
+    public static final Constants100 C89 = new Constants100("Value 89");
+    public static final Constants100 C90 = new Constants100("Value 90");
+    public static final Constants100 C91 = new Constants100("Value 91");
+    public static final Constants100 C92 = new Constants100("Value 92");
+    public static final Constants100 C93 = new Constants100("Value 93");
+    public static final Constants100 C94 = new Constants100("Value 94");
+    public static final Constants100 C95 = new Constants100("Value 95");
+    public static final Constants100 C96 = new Constants100("Value 96");
+    public static final Constants100 C97 = new Constants100("Value 97");
+    public static final Constants100 C98 = new Constants100("Value 98");
+    public static final Constants100 C99 = new Constants100("Value 99");
+
+    private Constants100(String value) {
+        super(value);
+    }
+
+}
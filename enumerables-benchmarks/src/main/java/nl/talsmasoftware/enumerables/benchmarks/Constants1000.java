@@ -0,0 +1,1029 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.enumerables.benchmarks;
+
+import nl.talsmasoftware.enumerables.Enumerable;
+
+/**
+ * Enumerable type with 1000 constants, used as benchmark fixture.
+ */
+public final class Constants1000 extends Enumerable {
+    public static final Constants1000 C000 = new Constants1000("Value 000");
+    public static final Constants1000 C001 = new Constants1000("Value 001");
+    public static final Constants1000 C002 = new Constants1000("Value 002");
+    public static final Constants1000 C003 = new Constants1000("Value 003");
+    public static final Constants1000 C004 = new Constants1000("Value 004");
+    public static final Constants1000 C005 = new Constants1000("Value 005");
+    public static final Constants1000 C006 = new Constants1000("Value 006");
+    public static final Constants1000 C007 = new Constants1000("Value 007");
+    public static final Constants1000 C008 = new Constants1000("Value 008");
+    public static final Constants1000 C009 = new Constants1000("Value 009");
+    public static final Constants1000 C010 = new Constants1000("Value 010");
+    public static final Constants1000 C011 = new Constants1000("Value 011");
+    public static final Constants1000 C012 = new Constants1000("Value 012");
+    public static final Constants1000 C013 = new Constants1000("Value 013");
+    public static final Constants1000 C014 = new Constants1000("Value 014");
+    public static final Constants1000 C015 = new Constants1000("Value 015");
+    public static final Constants1000 C016 = new Constants1000("Value 016");
+    public static final Constants1000 C017 = new Constants1000("Value 017");
+    public static final Constants1000 C018 = new Constants1000("Value 018");
+    public static final Constants1000 C019 = new Constants1000("Value 019");
+    public static final Constants1000 C020 = new Constants1000("Value 020");
+    public static final Constants1000 C021 = new Constants1000("Value 021");
+    public static final Constants1000 C022 = new Constants1000("Value 022");
+    public static final Constants1000 C023 = new Constants1000("Value 023");
+    public static final Constants1000 C024 = new Constants1000("Value 024");
+    public static final Constants1000 C025 = new Constants1000("Value 025");
+    public static final Constants1000 C026 = new Constants1000("Value 026");
+    public static final Constants1000 C027 = new Constants1000("Value 027");
+    public static final Constants1000 C028 = new Constants1000("Value 028");
+    public static final Constants1000 C029 = new Constants1000("Value 029");
+    public static final Constants1000 C030 = new Constants1000("Value 030");
+    public static final Constants1000 C031 = new Constants1000("Value 031");
+    public static final Constants1000 C032 = new Constants1000("Value 032");
+    public static final Constants1000 C033 = new Constants1000("Value 033");
+    public static final Constants1000 C034 = new Constants1000("Value 034");
+    public static final Constants1000 C035 = new Constants1000("Value 035");
+    public static final Constants1000 C036 = new Constants1000("Value 036");
+    public static final Constants1000 C037 = new Constants1000("Value 037");
+    public static final Constants1000 C038 = new Constants1000("Value 038");
+    public static final Constants1000 C039 = new Constants1000("Value 039");
+    public static final Constants1000 C040 = new Constants1000("Value 040");
+    public static final Constants1000 C041 = new Constants1000("Value 041");
+    public static final Constants1000 C042 = new Constants1000("Value 042");
+    public static final Constants1000 C043 = new Constants1000("Value 043");
+    public static final Constants1000 C044 = new Constants1000("Value 044");
+    public static final Constants1000 C045 = new Constants1000("Value 045");
+    public static final Constants1000 C046 = new Constants1000("Value 046");
+    public static final Constants1000 C047 = new Constants1000("Value 047");
+    public static final Constants1000 C048 = new Constants1000("Value 048");
+    public static final Constants1000 C049 = new Constants1000("Value 049");
+    public static final Constants1000 C050 = new Constants1000("Value 050");
+    public static final Constants1000 C051 = new Constants1000("Value 051");
+    public static final Constants1000 C052 = new Constants1000("Value 052");
+    public static final Constants1000 C053 = new Constants1000("Value 053");
+    public static final Constants1000 C054 = new Constants1000("Value 054");
+    public static final Constants1000 C055 = new Constants1000("Value 055");
+    public static final Constants1000 C056 = new Constants1000("Value 056");
+    public static final Constants1000 C057 = new Constants1000("Value 057");
+    public static final Constants1000 C058 = new Constants1000("Value 058");
+    public static final Constants1000 C059 = new Constants1000("Value 059");
+    public static final Constants1000 C060 = new Constants1000("Value 060");
+    public static final Constants1000 C061 = new Constants1000("Value 061");
+    public static final Constants1000 C062 = new Constants1000("Value 062");
+    public static final Constants1000 C063 = new Constants1000("Value 063");
+    public static final Constants1000 C064 = new Constants1000("Value 064");
+    public static final Constants1000 C065 = new Constants1000("Value 065");
+    public static final Constants1000 C066 = new Constants1000("Value 066");
+    public static final Constants1000 C067 = new Constants1000("Value 067");
+    public static final Constants1000 C068 = new Constants1000("Value 068");
+    public static final Constants1000 C069 = new Constants1000("Value 069");
+    public static final Constants1000 C070 = new Constants1000("Value 070");
+    public static final Constants1000 C071 = new Constants1000("Value 071");
+    public static final Constants1000 C072 = new Constants1000("Value 072");
+    public static final Constants1000 C073 = new Constants1000("Value 073");
+    public static final Constants1000 C074 = new Constants1000("Value 074");
+    public static final Constants1000 C075 = new Constants1000("Value 075");
+    public static final Constants1000 C076 = new Constants1000("Value 076");
+    public static final Constants1000 C077 = new Constants1000("Value 077");
+    public static final Constants1000 C078 = new Constants1000("Value 078");
+    public static final Constants1000 C079 = new Constants1000("Value 079");
+    public static final Constants1000 C080 = new Constants1000("Value 080");
+    public static final Constants1000 C081 = new Constants1000("Value 081");
+    public static final Constants1000 C082 = new Constants1000("Value 082");
+    public static final Constants1000 C083 = new Constants1000("Value 083");
+    public static final Constants1000 C084 = new Constants1000("Value 084");
+    public static final Constants1000 C085 = new Constants1000("Value 085");
+    public static final Constants1000 C086 = new Constants1000("Value 086");
+    public static final Constants1000 C087 = new Constants1000("Value 087");
+    public static final Constants1000 C088 = new Constants1000("Value 088");
+    public static final Constants1000 C089 = new Constants1000("Value 089");
+    public static final Constants1000 C090 = new Constants1000("Value 090");
+    public static final Constants1000 C091 = new Constants1000("Value 091");
+    public static final Constants1000 C092 = new Constants1000("Value 092");
+    public static final Constants1000 C093 = new Constants1000("Value 093");
+    public static final Constants1000 C094 = new Constants1000("Value 094");
+    public static final Constants1000 C095 = new Constants1000("Value 095");
+    public static final Constants1000 C096 = new Constants1000("Value 096");
+    public static final Constants1000 C097 = new Constants1000("Value 097");
+    public static final Constants1000 C098 = new Constants1000("Value 098");
+    public static final Constants1000 C099 = new Constants1000("Value 099");
+    public static final Constants1000 C100 = new Constants1000("Value 100");
+    public static final Constants1000 C101 = new Constants1000("Value 101");
+    public static final Constants1000 C102 = new Constants1000("Value 102");
+    public static final Constants1000 C103 = new Constants1000("Value 103");
+    public static final Constants1000 C104 = new Constants1000("Value 104");
+    public static final Constants1000 C105 = new Constants1000("Value 105");
+    public static final Constants1000 C106 = new Constants1000("Value 106");
+    public static final Constants1000 C107 = new Constants1000("Value 107");
+    public static final Constants1000 C108 = new Constants1000("Value 108");
+    public static final Constants1000 C109 = new Constants1000("Value 109");
+    public static final Constants1000 C110 = new Constants1000("Value 110");
+    public static final Constants1000 C111 = new Constants1000("Value 111");
+    public static final Constants1000 C112 = new Constants1000("Value 112");
+    public static final Constants1000 C113 = new Constants1000("Value 113");
+    public static final Constants1000 C114 = new Constants1000("Value 114");
+    public static final Constants1000 C115 = new Constants1000("Value 115");
+    public static final Constants1000 C116 = new Constants1000("Value 116");
+    public static final Constants1000 C117 = new Constants1000("Value 117");
+    public static final Constants1000 C118 = new Constants1000("Value 118");
+    public static final Constants1000 C119 = new Constants1000("Value 119");
+    public static final Constants1000 C120 = new Constants1000("Value 120");
+    public static final Constants1000 C121 = new Constants1000("Value 121");
+    public static final Constants1000 C122 = new Constants1000("Value 122");
+    public static final Constants1000 C123 = new Constants1000("Value 123");
+    public static final Constants1000 C124 = new Constants1000("Value 124");
+    public static final Constants1000 C125 = new Constants1000("Value 125");
+    public static final Constants1000 C126 = new Constants1000("Value 126");
+    public static final Constants1000 C127 = new Constants1000("Value 127");
+    public static final Constants1000 C128 = new Constants1000("Value 128");
+    public static final Constants1000 C129 = new Constants1000("Value 129");
+    public static final Constants1000 C130 = new Constants1000("Value 130");
+    public static final Constants1000 C131 = new Constants1000("Value 131");
+    public static final Constants1000 C132 = new Constants1000("Value 132");
+    public static final Constants1000 C133 = new Constants1000("Value 133");
+    public static final Constants1000 C134 = new Constants1000("Value 134");
+    public static final Constants1000 C135 = new Constants1000("Value 135");
+    public static final Constants1000 C136 = new Constants1000("Value 136");
+    public static final Constants1000 C137 = new Constants1000("Value 137");
+    public static final Constants1000 C138 = new Constants1000("Value 138");
+    public static final Constants1000 C139 = new Constants1000("Value 139");
+    public static final Constants1000 C140 = new Constants1000("Value 140");
+    public static final Constants1000 C141 = new Constants1000("Value 141");
+    public static final Constants1000 C142 = new Constants1000("Value 142");
+    public static final Constants1000 C143 = new Constants1000("Value 143");
+    public static final Constants1000 C144 = new Constants1000("Value 144");
+    public static final Constants1000 C145 = new Constants1000("Value 145");
+    public static final Constants1000 C146 = new Constants1000("Value 146");
+    public static final Constants1000 C147 = new Constants1000("Value 147");
+    public static final Constants1000 C148 = new Constants1000("Value 148");
+    public static final Constants1000 C149 = new Constants1000("Value 149");
+    public static final Constants1000 C150 = new Constants1000("Value 150");
+    public static final Constants1000 C151 = new Constants1000("Value 151");
+    public static final Constants1000 C152 = new Constants1000("Value 152");
+    public static final Constants1000 C153 = new Constants1000("Value 153");
+    public static final Constants1000 C154 = new Constants1000("Value 154");
+    public static final Constants1000 C155 = new Constants1000("Value 155");
+    public static final Constants1000 C156 = new Constants1000("Value 156");
+    public static final Constants1000 C157 = new Constants1000("Value 157");
+    public static final Constants1000 C158 = new Constants1000("Value 158");
+    public static final Constants1000 C159 = new Constants1000("Value 159");
+    public static final Constants1000 C160 = new Constants1000("Value 160");
+    public static final Constants1000 C161 = new Constants1000("Value 161");
+    public static final Constants1000 C162 = new Constants1000("Value 162");
+    public static final Constants1000 C163 = new Constants1000("Value 163");
+    public static final Constants1000 C164 = new Constants1000("Value 164");
+    public static final Constants1000 C165 = new Constants1000("Value 165");
+    public static final Constants1000 C166 = new Constants1000("Value 166");
+    public static final Constants1000 C167 = new Constants1000("Value 167");
+    public static final Constants1000 C168 = new Constants1000("Value 168");
+    public static final Constants1000 C169 = new Constants1000("Value 169");
+    public static final Constants1000 C170 = new Constants1000("Value 170");
+    public static final Constants1000 C171 = new Constants1000("Value 171");
+    public static final Constants1000 C172 = new Constants1000("Value 172");
+    public static final Constants1000 C173 = new Constants1000("Value 173");
+    public static final Constants1000 C174 = new Constants1000("Value 174");
+    public static final Constants1000 C175 = new Constants1000("Value 175");
+    public static final Constants1000 C176 = new Constants1000("Value 176");
+    public static final Constants1000 C177 = new Constants1000("Value 177");
+    public static final Constants1000 C178 = new Constants1000("Value 178");
+    public static final Constants1000 C179 = new Constants1000("Value 179");
+    public static final Constants1000 C180 = new Constants1000("Value 180");
+    public static final Constants1000 C181 = new Constants1000("Value 181");
+    public static final Constants1000 C182 = new Constants1000("Value 182");
+    public static final Constants1000 C183 = new Constants1000("Value 183");
+    public static final Constants1000 C184 = new Constants1000("Value 184");
+    public static final Constants1000 C185 = new Constants1000("Value 185");
+    public static final Constants1000 C186 = new Constants1000("Value 186");
+    public static final Constants1000 C187 = new Constants1000("Value 187");
+    public static final Constants1000 C188 = new Constants1000("Value 188");
+    public static final Constants1000 C189 = new Constants1000("Value 189");
+    public static final Constants1000 C190 = new Constants1000("Value 190");
+    public static final Constants1000 C191 = new Constants1000("Value 191");
+    public static final Constants1000 C192 = new Constants1000("Value 192");
+    public static final Constants1000 C193 = new Constants1000("Value 193");
+    public static final Constants1000 C194 = new Constants1000("Value 194");
+    public static final Constants1000 C195 = new Constants1000("Value 195");
+    public static final Constants1000 C196 = new Constants1000("Value 196");
+    public static final Constants1000 C197 = new Constants1000("Value 197");
+    public static final Constants1000 C198 = new Constants1000("Value 198");
+    public static final Constants1000 C199 = new Constants1000("Value 199");
+    public static final Constants1000 C200 = new Constants1000("Value 200");
+    public static final Constants1000 C201 = new Constants1000("Value 201");
+    public static final Constants1000 C202 = new Constants1000("Value 202");
+    public static final Constants1000 C203 = new Constants1000("Value 203");
+    public static final Constants1000 C204 = new Constants1000("Value 204");
+    public static final Constants1000 C205 = new Constants1000("Value 205");
+    public static final Constants1000 C206 = new Constants1000("Value 206");
+    public static final Constants1000 C207 = new Constants1000("Value 207");
+    public static final Constants1000 C208 = new Constants1000("Value 208");
+    public static final Constants1000 C209 = new Constants1000("Value 209");
+    public static final Constants1000 C210 = new Constants1000("Value 210");
+    public static final Constants1000 C211 = new Constants1000("Value 211");
+    public static final Constants1000 C212 = new Constants1000("Value 212");
+    public static final Constants1000 C213 = new Constants1000("Value 213");
+    public static final Constants1000 C214 = new Constants1000("Value 214");
+    public static final Constants1000 C215 = new Constants1000("Value 215");
+    public static final Constants1000 C216 = new Constants1000("Value 216");
+    public static final Constants1000 C217 = new Constants1000("Value 217");
+    public static final Constants1000 C218 = new Constants1000("Value 218");
+    public static final Constants1000 C219 = new Constants1000("Value 219");
+    public static final Constants1000 C220 = new Constants1000("Value 220");
+    public static final Constants1000 C221 = new Constants1000("Value 221");
+    public static final Constants1000 C222 = new Constants1000("Value 222");
+    public static final Constants1000 C223 = new Constants1000("Value 223");
+    public static final Constants1000 C224 = new Constants1000("Value 224");
+    public static final Constants1000 C225 = new Constants1000("Value 225");
+    public static final Constants1000 C226 = new Constants1000("Value 226");
+    public static final Constants1000 C227 = new Constants1000("Value 227");
+    public static final Constants1000 C228 = new Constants1000("Value 228");
+    public static final Constants1000 C229 = new Constants1000("Value 229");
+    public static final Constants1000 C230 = new Constants1000("Value 230");
+    public static final Constants1000 C231 = new Constants1000("Value 231");
+    public static final Constants1000 C232 = new Constants1000("Value 232");
+    public static final Constants1000 C233 = new Constants1000("Value 233");
+    public static final Constants1000 C234 = new Constants1000("Value 234");
+    public static final Constants1000 C235 = new Constants1000("Value 235");
+    public static final Constants1000 C236 = new Constants1000("Value 236");
+    public static final Constants1000 C237 = new Constants1000("Value 237");
+    public static final Constants1000 C238 = new Constants1000("Value 238");
+    public static final Constants1000 C239 = new Constants1000("Value 239");
+    public static final Constants1000 C240 = new Constants1000("Value 240");
+    public static final Constants1000 C241 = new Constants1000("Value 241");
+    public static final Constants1000 C242 = new Constants1000("Value 242");
+    public static final Constants1000 C243 = new Constants1000("Value 243");
+    public static final Constants1000 C244 = new Constants1000("Value 244");
+    public static final Constants1000 C245 = new Constants1000("Value 245");
+    public static final Constants1000 C246 = new Constants1000("Value 246");
+    public static final Constants1000 C247 = new Constants1000("Value 247");
+    public static final Constants1000 C248 = new Constants1000("Value 248");
+    public static final Constants1000 C249 = new Constants1000("Value 249");
+    public static final Constants1000 C250 = new Constants1000("Value 250");
+    public static final Constants1000 C251 = new Constants1000("Value 251");
+    public static final Constants1000 C252 = new Constants1000("Value 252");
+    public static final Constants1000 C253 = new Constants1000("Value 253");
+    public static final Constants1000 C254 = new Constants1000("Value 254");
+    public static final Constants1000 C255 = new Constants1000("Value 255");
+    public static final Constants1000 C256 = new Constants1000("Value 256");
+    public static final Constants1000 C257 = new Constants1000("Value 257");
+    public static final Constants1000 C258 = new Constants1000("Value 258");
+    public static final Constants1000 C259 = new Constants1000("Value 259");
+    public static final Constants1000 C260 = new Constants1000("Value 260");
+    public static final Constants1000 C261 = new Constants1000("Value 261");
+    public static final Constants1000 C262 = new Constants1000("Value 262");
+    public static final Constants1000 C263 = new Constants1000("Value 263");
+    public static final Constants1000 C264 = new Constants1000("Value 264");
+    public static final Constants1000 C265 = new Constants1000("Value 265");
+    public static final Constants1000 C266 = new Constants1000("Value 266");
+    public static final Constants1000 C267 = new Constants1000("Value 267");
+    public static final Constants1000 C268 = new Constants1000("Value 268");
+    public static final Constants1000 C269 = new Constants1000("Value 269");
+    public static final Constants1000 C270 = new Constants1000("Value 270");
+    public static final Constants1000 C271 = new Constants1000("Value 271");
+    public static final Constants1000 C272 = new Constants1000("Value 272");
+    public static final Constants1000 C273 = new Constants1000("Value 273");
+    public static final Constants1000 C274 = new Constants1000("Value 274");
+    public static final Constants1000 C275 = new Constants1000("Value 275");
+    public static final Constants1000 C276 = new Constants1000("Value 276");
+    public static final Constants1000 C277 = new Constants1000("Value 277");
+    public static final Constants1000 C278 = new Constants1000("Value 278");
+    public static final Constants1000 C279 = new Constants1000("Value 279");
+    public static final Constants1000 C280 = new Constants1000("Value 280");
+    public static final Constants1000 C281 = new Constants1000("Value 281");
+    public static final Constants1000 C282 = new Constants1000("Value 282");
+    public static final Constants1000 C283 = new Constants1000("Value 283");
+    public static final Constants1000 C284 = new Constants1000("Value 284");
+    public static final Constants1000 C285 = new Constants1000("Value 285");
+    public static final Constants1000 C286 = new Constants1000("Value 286");
+    public static final Constants1000 C287 = new Constants1000("Value 287");
+    public static final Constants1000 C288 = new Constants1000("Value 288");
+    public static final Constants1000 C289 = new Constants1000("Value 289");
+    public static final Constants1000 C290 = new Constants1000("Value 290");
+    public static final Constants1000 C291 = new Constants1000("Value 291");
+    public static final Constants1000 C292 = new Constants1000("Value 292");
+    public static final Constants1000 C293 = new Constants1000("Value 293");
+    public static final Constants1000 C294 = new Constants1000("Value 294");
+    public static final Constants1000 C295 = new Constants1000("Value 295");
+    public static final Constants1000 C296 = new Constants1000("Value 296");
+    public static final Constants1000 C297 = new Constants1000("Value 297");
+    public static final Constants1000 C298 = new Constants1000("Value 298");
+    public static final Constants1000 C299 = new Constants1000("Value 299");
+    public static final Constants1000 C300 = new Constants1000("Value 300");
+    public static final Constants1000 C301 = new Constants1000("Value 301");
+    public static final Constants1000 C302 = new Constants1000("Value 302");
+    public static final Constants1000 C303 = new Constants1000("Value 303");
+    public static final Constants1000 C304 = new Constants1000("Value 304");
+    public static final Constants1000 C305 = new Constants1000("Value 305");
+    public static final Constants1000 C306 = new Constants1000("Value 306");
+    public static final Constants1000 C307 = new Constants1000("Value 307");
+    public static final Constants1000 C308 = new Constants1000("Value 308");
+    public static final Constants1000 C309 = new Constants1000("Value 309");
+    public static final Constants1000 C310 = new Constants1000("Value 310");
+    public static final Constants1000 C311 = new Constants1000("Value 311");
+    public static final Constants1000 C312 = new Constants1000("Value 312");
+    public static final Constants1000 C313 = new Constants1000("Value 313");
+    public static final Constants1000 C314 = new Constants1000("Value 314");
+    public static final Constants1000 C315 = new Constants1000("Value 315");
+    public static final Constants1000 C316 = new Constants1000("Value 316");
+    public static final Constants1000 C317 = new Constants1000("Value 317");
+    public static final Constants1000 C318 = new Constants1000("Value 318");
+    public static final Constants1000 C319 = new Constants1000("Value 319");
+    public static final Constants1000 C320 = new Constants1000("Value 320");
+    public static final Constants1000 C321 = new Constants1000("Value 321");
+    public static final Constants1000 C322 = new Constants1000("Value 322");
+    public static final Constants1000 C323 = new Constants1000("Value 323");
+    public static final Constants1000 C324 = new Constants1000("Value 324");
+    public static final Constants1000 C325 = new Constants1000("Value 325");
+    public static final Constants1000 C326 = new Constants1000("Value 326");
+    public static final Constants1000 C327 = new Constants1000("Value 327");
+    public static final Constants1000 C328 = new Constants1000("Value 328");
+    public static final Constants1000 C329 = new Constants1000("Value 329");
+    public static final Constants1000 C330 = new Constants1000("Value 330");
+    public static final Constants1000 C331 = new Constants1000("Value 331");
+    public static final Constants1000 C332 = new Constants1000("Value 332");
+    public static final Constants1000 C333 = new Constants1000("Value 333");
+    public static final Constants1000 C334 = new Constants1000("Value 334");
+    public static final Constants1000 C335 = new Constants1000("Value 335");
+    public static final Constants1000 C336 = new Constants1000("Value 336");
+    public static final Constants1000 C337 = new Constants1000("Value 337");
+    public static final Constants1000 C338 = new Constants1000("Value 338");
+    public static final Constants1000 C339 = new Constants1000("Value 339");
+    public static final Constants1000 C340 = new Constants1000("Value 340");
+    public static final Constants1000 C341 = new Constants1000("Value 341");
+    public static final Constants1000 C342 = new Constants1000("Value 342");
+    public static final Constants1000 C343 = new Constants1000("Value 343");
+    public static final Constants1000 C344 = new Constants1000("Value 344");
+    public static final Constants1000 C345 = new Constants1000("Value 345");
+    public static final Constants1000 C346 = new Constants1000("Value 346");
+    public static final Constants1000 C347 = new Constants1000("Value 347");
+    public static final Constants1000 C348 = new Constants1000("Value 348");
+    public static final Constants1000 C349 = new Constants1000("Value 349");
+    public static final Constants1000 C350 = new Constants1000("Value 350");
+    public static final Constants1000 C351 = new Constants1000("Value 351");
+    public static final Constants1000 C352 = new Constants1000("Value 352");
+    public static final Constants1000 C353 = new Constants1000("Value 353");
+    public static final Constants1000 C354 = new Constants1000("Value 354");
+    public static final Constants1000 C355 = new Constants1000("Value 355");
+    public static final Constants1000 C356 = new Constants1000("Value 356");
+    public static final Constants1000 C357 = new Constants1000("Value 357");
+    public static final Constants1000 C358 = new Constants1000("Value 358");
+    public static final Constants1000 C359 = new Constants1000("Value 359");
+    public static final Constants1000 C360 = new Constants1000("Value 360");
+    public static final Constants1000 C361 = new Constants1000("Value 361");
+    public static final Constants1000 C362 = new Constants1000("Value 362");
+    public static final Constants1000 C363 = new Constants1000("Value 363");
+    public static final Constants1000 C364 = new Constants1000("Value 364");
+    public static final Constants1000 C365 = new Constants1000("Value 365");
+    public static final Constants1000 C366 = new Constants1000("Value 366");
+    public static final Constants1000 C367 = new Constants1000("Value 367");
+    public static final Constants1000 C368 = new Constants1000("Value 368");
+    public static final Constants1000 C369 = new Constants1000("Value 369");
+    public static final Constants1000 C370 = new Constants1000("Value 370");
+    public static final Constants1000 C371 = new Constants1000("Value 371");
+    public static final Constants1000 C372 = new Constants1000("Value 372");
+    public static final Constants1000 C373 = new Constants1000("Value 373");
+    public static final Constants1000 C374 = new Constants1000("Value 374");
+    public static final Constants1000 C375 = new Constants1000("Value 375");
+    public static final Constants1000 C376 = new Constants1000("Value 376");
+    public static final Constants1000 C377 = new Constants1000("Value 377");
+    public static final Constants1000 C378 = new Constants1000("Value 378");
+    public static final Constants1000 C379 = new Constants1000("Value 379");
+    public static final Constants1000 C380 = new Constants1000("Value 380");
+    public static final Constants1000 C381 = new Constants1000("Value 381");
+    public static final Constants1000 C382 = new Constants1000("Value 382");
+    public static final Constants1000 C383 = new Constants1000("Value 383");
+    public static final Constants1000 C384 = new Constants1000("Value 384");
+    public static final Constants1000 C385 = new Constants1000("Value 385");
+    public static final Constants1000 C386 = new Constants1000("Value 386");
+    public static final Constants1000 C387 = new Constants1000("Value 387");
+    public static final Constants1000 C388 = new Constants1000("Value 388");
+    public static final Constants1000 C389 = new Constants1000("Value 389");
+    public static final Constants1000 C390 = new Constants1000("Value 390");
+    public static final Constants1000 C391 = new Constants1000("Value 391");
+    public static final Constants1000 C392 = new Constants1000("Value 392");
+    public static final Constants1000 C393 = new Constants1000("Value 393");
+    public static final Constants1000 C394 = new Constants1000("Value 394");
+    public static final Constants1000 C395 = new Constants1000("Value 395");
+    public static final Constants1000 C396 = new Constants1000("Value 396");
+    public static final Constants1000 C397 = new Constants1000("Value 397");
+    public static final Constants1000 C398 = new Constants1000("Value 398");
+    public static final Constants1000 C399 = new Constants1000("Value 399");
+    public static final Constants1000 C400 = new Constants1000("Value 400");
+    public static final Constants1000 C401 = new Constants1000("Value 401");
+    public static final Constants1000 C402 = new Constants1000("Value 402");
+    public static final Constants1000 C403 = new Constants1000("Value 403");
+    public static final Constants1000 C404 = new Constants1000("Value 404");
+    public static final Constants1000 C405 = new Constants1000("Value 405");
+    public static final Constants1000 C406 = new Constants1000("Value 406");
+    public static final Constants1000 C407 = new Constants1000("Value 407");
+    public static final Constants1000 C408 = new Constants1000("Value 408");
+    public static final Constants1000 C409 = new Constants1000("Value 409");
+    public static final Constants1000 C410 = new Constants1000("Value 410");
+    public static final Constants1000 C411 = new Constants1000("Value 411");
+    public static final Constants1000 C412 = new Constants1000("Value 412");
+    public static final Constants1000 C413 = new Constants1000("Value 413");
+    public static final Constants1000 C414 = new Constants1000("Value 414");
+    public static final Constants1000 C415 = new Constants1000("Value 415");
+    public static final Constants1000 C416 = new Constants1000("Value 416");
+    public static final Constants1000 C417 = new Constants1000("Value 417");
+    public static final Constants1000 C418 = new Constants1000("Value 418");
+    public static final Constants1000 C419 = new Constants1000("Value 419");
+    public static final Constants1000 C420 = new Constants1000("Value 420");
+    public static final Constants1000 C421 = new Constants1000("Value 421");
+    public static final Constants1000 C422 = new Constants1000("Value 422");
+    public static final Constants1000 C423 = new Constants1000("Value 423");
+    public static final Constants1000 C424 = new Constants1000("Value 424");
+    public static final Constants1000 C425 = new Constants1000("Value 425");
+    public static final Constants1000 C426 = new Constants1000("Value 426");
+    public static final Constants1000 C427 = new Constants1000("Value 427");
+    public static final Constants1000 C428 = new Constants1000("Value 428");
+    public static final Constants1000 C429 = new Constants1000("Value 429");
+    public static final Constants1000 C430 = new Constants1000("Value 430");
+    public static final Constants1000 C431 = new Constants1000("Value 431");
+    public static final Constants1000 C432 = new Constants1000("Value 432");
+    public static final Constants1000 C433 = new Constants1000("Value 433");
+    public static final Constants1000 C434 = new Constants1000("Value 434");
+    public static final Constants1000 C435 = new Constants1000("Value 435");
+    public static final Constants1000 C436 = new Constants1000("Value 436");
+    public static final Constants1000 C437 = new Constants1000("Value 437");
+    public static final Constants1000 C438 = new Constants1000("Value 438");
+    public static final Constants1000 C439 = new Constants1000("Value 439");
+    public static final Constants1000 C440 = new Constants1000("Value 440");
+    public static final Constants1000 C441 = new Constants1000("Value 441");
+    public static final Constants1000 C442 = new Constants1000("Value 442");
+    public static final Constants1000 C443 = new Constants1000("Value 443");
+    public static final Constants1000 C444 = new Constants1000("Value 444");
+    public static final Constants1000 C445 = new Constants1000("Value 445");
+    public static final Constants1000 C446 = new Constants1000("Value 446");
+    public static final Constants1000 C447 = new Constants1000("Value 447");
+    public static final Constants1000 C448 = new Constants1000("Value 448");
+    public static final Constants1000 C449 = new Constants1000("Value 449");
+    public static final Constants1000 C450 = new Constants1000("Value 450");
+    public static final Constants1000 C451 = new Constants1000("Value 451");
+    public static final Constants1000 C452 = new Constants1000("Value 452");
+    public static final Constants1000 C453 = new Constants1000("Value 453");
+    public static final Constants1000 C454 = new Constants1000("Value 454");
+    public static final Constants1000 C455 = new Constants1000("Value 455");
+    public static final Constants1000 C456 = new Constants1000("Value 456");
+    public static final Constants1000 C457 = new Constants1000("Value 457");
+    public static final Constants1000 C458 = new Constants1000("Value 458");
+    public static final Constants1000 C459 = new Constants1000("Value 459");
+    public static final Constants1000 C460 = new Constants1000("Value 460");
+    public static final Constants1000 C461 = new Constants1000("Value 461");
+    public static final Constants1000 C462 = new Constants1000("Value 462");
+    public static final Constants1000 C463 = new Constants1000("Value 463");
+    public static final Constants1000 C464 = new Constants1000("Value 464");
+    public static final Constants1000 C465 = new Constants1000("Value 465");
+    public static final Constants1000 C466 = new Constants1000("Value 466");
+    public static final Constants1000 C467 = new Constants1000("Value 467");
+    public static final Constants1000 C468 = new Constants1000("Value 468");
+    public static final Constants1000 C469 = new Constants1000("Value 469");
+    public static final Constants1000 C470 = new Constants1000("Value 470");
+    public static final Constants1000 C471 = new Constants1000("Value 471");
+    public static final Constants1000 C472 = new Constants1000("Value 472");
+    public static final Constants1000 C473 = new Constants1000("Value 473");
+    public static final Constants1000 C474 = new Constants1000("Value 474");
+    public static final Constants1000 C475 = new Constants1000("Value 475");
+    public static final Constants1000 C476 = new Constants1000("Value 476");
+    public static final Constants1000 C477 = new Constants1000("Value 477");
+    public static final Constants1000 C478 = new Constants1000("Value 478");
+    public static final Constants1000 C479 = new Constants1000("Value 479");
+    public static final Constants1000 C480 = new Constants1000("Value 480");
+    public static final Constants1000 C481 = new Constants1000("Value 481");
+    public static final Constants1000 C482 = new Constants1000("Value 482");
+    public static final Constants1000 C483 = new Constants1000("Value 483");
+    public static final Constants1000 C484 = new Constants1000("Value 484");
+    public static final Constants1000 C485 = new Constants1000("Value 485");
+    public static final Constants1000 C486 = new Constants1000("Value 486");
+    public static final Constants1000 C487 = new Constants1000("Value 487");
+    public static final Constants1000 C488 = new Constants1000("Value 488");
+    public static final Constants1000 C489 = new Constants1000("Value 489");
+    public static final Constants1000 C490 = new Constants1000("Value 490");
+    public static final Constants1000 C491 = new Constants1000("Value 491");
+    public static final Constants1000 C492 = new Constants1000("Value 492");
+    public static final Constants1000 C493 = new Constants1000("Value 493");
+    public static final Constants1000 C494 = new Constants1000("Value 494");
+    public static final Constants1000 C495 = new Constants1000("Value 495");
+    public static final Constants1000 C496 = new Constants1000("Value 496");
+    public static final Constants1000 C497 = new Constants1000("Value 497");
+    public static final Constants1000 C498 = new Constants1000("Value 498");
+    public static final Constants1000 C499 = new Constants1000("Value 499");
+    public static final Constants1000 C500 = new Constants1000("Value 500");
+    public static final Constants1000 C501 = new Constants1000("Value 501");
+    public static final Constants1000 C502 = new Constants1000("Value 502");
+    public static final Constants1000 C503 = new Constants1000("Value 503");
+    public static final Constants1000 C504 = new Constants1000("Value 504");
+    public static final Constants1000 C505 = new Constants1000("Value 505");
+    public static final Constants1000 C506 = new Constants1000("Value 506");
+    public static final Constants1000 C507 = new Constants1000("Value 507");
+    public static final Constants1000 C508 = new Constants1000("Value 508");
+    public static final Constants1000 C509 = new Constants1000("Value 509");
+    public static final Constants1000 C510 = new Constants1000("Value 510");
+    public static final Constants1000 C511 = new Constants1000("Value 511");
+    public static final Constants1000 C512 = new Constants1000("Value 512");
+    public static final Constants1000 C513 = new Constants1000("Value 513");
+    public static final Constants1000 C514 = new Constants1000("Value 514");
+    public static final Constants1000 C515 = new Constants1000("Value 515");
+    public static final Constants1000 C516 = new Constants1000("Value 516");
+    public static final Constants1000 C517 = new Constants1000("Value 517");
+    public static final Constants1000 C518 = new Constants1000("Value 518");
+    public static final Constants1000 C519 = new Constants1000("Value 519");
+    public static final Constants1000 C520 = new Constants1000("Value 520");
+    public static final Constants1000 C521 = new Constants1000("Value 521");
+    public static final Constants1000 C522 = new Constants1000("Value 522");
+    public static final Constants1000 C523 = new Constants1000("Value 523");
+    public static final Constants1000 C524 = new Constants1000("Value 524");
+    public static final Constants1000 C525 = new Constants1000("Value 525");
+    public static final Constants1000 C526 = new Constants1000("Value 526");
+    public static final Constants1000 C527 = new Constants1000("Value 527");
+    public static final Constants1000 C528 = new Constants1000("Value 528");
+    public static final Constants1000 C529 = new Constants1000("Value 529");
+    public static final Constants1000 C530 = new Constants1000("Value 530");
+    public static final Constants1000 C531 = new Constants1000("Value 531");
+    public static final Constants1000 C532 = new Constants1000("Value 532");
+    public static final Constants1000 C533 = new Constants1000("Value 533");
+    public static final Constants1000 C534 = new Constants1000("Value 534");
+    public static final Constants1000 C535 = new Constants1000("Value 535");
+    public static final Constants1000 C536 = new Constants1000("Value 536");
+    public static final Constants1000 C537 = new Constants1000("Value 537");
+    public static final Constants1000 C538 = new Constants1000("Value 538");
+    public static final Constants1000 C539 = new Constants1000("Value 539");
+    public static final Constants1000 C540 = new Constants1000("Value 540");
+    public static final Constants1000 C541 = new Constants1000("Value 541");
+    public static final Constants1000 C542 = new Constants1000("Value 542");
+    public static final Constants1000 C543 = new Constants1000("Value 543");
+    public static final Constants1000 C544 = new Constants1000("Value 544");
+    public static final Constants1000 C545 = new Constants1000("Value 545");
+    public static final Constants1000 C546 = new Constants1000("Value 546");
+    public static final Constants1000 C547 = new Constants1000("Value 547");
+    public static final Constants1000 C548 = new Constants1000("Value 548");
+    public static final Constants1000 C549 = new Constants1000("Value 549");
+    public static final Constants1000 C550 = new Constants1000("Value 550");
+    public static final Constants1000 C551 = new Constants1000("Value 551");
+    public static final Constants1000 C552 = new Constants1000("Value 552");
+    public static final Constants1000 C553 = new Constants1000("Value 553");
+    public static final Constants1000 C554 = new Constants1000("Value 554");
+    public static final Constants1000 C555 = new Constants1000("Value 555");
+    public static final Constants1000 C556 = new Constants1000("Value 556");
+    public static final Constants1000 C557 = new Constants1000("Value 557");
+    public static final Constants1000 C558 = new Constants1000("Value 558");
+    public static final Constants1000 C559 = new Constants1000("Value 559");
+    public static final Constants1000 C560 = new Constants1000("Value 560");
+    public static final Constants1000 C561 = new Constants1000("Value 561");
+    public static final Constants1000 C562 = new Constants1000("Value 562");
+    public static final Constants1000 C563 = new Constants1000("Value 563");
+    public static final Constants1000 C564 = new Constants1000("Value 564");
+    public static final Constants1000 C565 = new Constants1000("Value 565");
+    public static final Constants1000 C566 = new Constants1000("Value 566");
+    public static final Constants1000 C567 = new Constants1000("Value 567");
+    public static final Constants1000 C568 = new Constants1000("Value 568");
+    public static final Constants1000 C569 = new Constants1000("Value 569");
+    public static final Constants1000 C570 = new Constants1000("Value 570");
+    public static final Constants1000 C571 = new Constants1000("Value 571");
+    public static final Constants1000 C572 = new Constants1000("Value 572");
+    public static final Constants1000 C573 = new Constants1000("Value 573");
+    public static final Constants1000 C574 = new Constants1000("Value 574");
+    public static final Constants1000 C575 = new Constants1000("Value 575");
+    public static final Constants1000 C576 = new Constants1000("Value 576");
+    public static final Constants1000 C577 = new Constants1000("Value 577");
+    public static final Constants1000 C578 = new Constants1000("Value 578");
+    public static final Constants1000 C579 = new Constants1000("Value 579");
+    public static final Constants1000 C580 = new Constants1000("Value 580");
+    public static final Constants1000 C581 = new Constants1000("Value 581");
+    public static final Constants1000 C582 = new Constants1000("Value 582");
+    public static final Constants1000 C583 = new Constants1000("Value 583");
+    public static final Constants1000 C584 = new Constants1000("Value 584");
+    public static final Constants1000 C585 = new Constants1000("Value 585");
+    public static final Constants1000 C586 = new Constants1000("Value 586");
+    public static final Constants1000 C587 = new Constants1000("Value 587");
+    public static final Constants1000 C588 = new Constants1000("Value 588");
+    public static final Constants1000 C589 = new Constants1000("Value 589");
+    public static final Constants1000 C590 = new Constants1000("Value 590");
+    public static final Constants1000 C591 = new Constants1000("Value 591");
+    public static final Constants1000 C592 = new Constants1000("Value 592");
+    public static final Constants1000 C593 = new Constants1000("Value 593");
+    public static final Constants1000 C594 = new Constants1000("Value 594");
+    public static final Constants1000 C595 = new Constants1000("Value 595");
+    public static final Constants1000 C596 = new Constants1000("Value 596");
+    public static final Constants1000 C597 = new Constants1000("Value 597");
+    public static final Constants1000 C598 = new Constants1000("Value 598");
+    public static final Constants1000 C599 = new Constants1000("Value 599");
+    public static final Constants1000 C600 = new Constants1000("Value 600");
+    public static final Constants1000 C601 = new Constants1000("Value 601");
+    public static final Constants1000 C602 = new Constants1000("Value 602");
+    public static final Constants1000 C603 = new Constants1000("Value 603");
+    public static final Constants1000 C604 = new Constants1000("Value 604");
+    public static final Constants1000 C605 = new Constants1000("Value 605");
+    public static final Constants1000 C606 = new Constants1000("Value 606");
+    public static final Constants1000 C607 = new Constants1000("Value 607");
+    public static final Constants1000 C608 = new Constants1000("Value 608");
+    public static final Constants1000 C609 = new Constants1000("Value 609");
+    public static final Constants1000 C610 = new Constants1000("Value 610");
+    public static final Constants1000 C611 = new Constants1000("Value 611");
+    public static final Constants1000 C612 = new Constants1000("Value 612");
+    public static final Constants1000 C613 = new Constants1000("Value 613");
+    public static final Constants1000 C614 = new Constants1000("Value 614");
+    public static final Constants1000 C615 = new Constants1000("Value 615");
+    public static final Constants1000 C616 = new Constants1000("Value 616");
+    public static final Constants1000 C617 = new Constants1000("Value 617");
+    public static final Constants1000 C618 = new Constants1000("Value 618");
+    public static final Constants1000 C619 = new Constants1000("Value 619");
+    public static final Constants1000 C620 = new Constants1000("Value 620");
+    public static final Constants1000 C621 = new Constants1000("Value 621");
+    public static final Constants1000 C622 = new Constants1000("Value 622");
+    public static final Constants1000 C623 = new Constants1000("Value 623");
+    public static final Constants1000 C624 = new Constants1000("Value 624");
+    public static final Constants1000 C625 = new Constants1000("Value 625");
+    public static final Constants1000 C626 = new Constants1000("Value 626");
+    public static final Constants1000 C627 = new Constants1000("Value 627");
+    public static final Constants1000 C628 = new Constants1000("Value 628");
+    public static final Constants1000 C629 = new Constants1000("Value 629");
+    public static final Constants1000 C630 = new Constants1000("Value 630");
+    public static final Constants1000 C631 = new Constants1000("Value 631");
+    public static final Constants1000 C632 = new Constants1000("Value 632");
+    public static final Constants1000 C633 = new Constants1000("Value 633");
+    public static final Constants1000 C634 = new Constants1000("Value 634");
+    public static final Constants1000 C635 = new Constants1000("Value 635");
+    public static final Constants1000 C636 = new Constants1000("Value 636");
+    public static final Constants1000 C637 = new Constants1000("Value 637");
+    public static final Constants1000 C638 = new Constants1000("Value 638");
+    public static final Constants1000 C639 = new Constants1000("Value 639");
+    public static final Constants1000 C640 = new Constants1000("Value 640");
+    public static final Constants1000 C641 = new Constants1000("Value 641");
+    public static final Constants1000 C642 = new Constants1000("Value 642");
+    public static final Constants1000 C643 = new Constants1000("Value 643");
+    public static final Constants1000 C644 = new Constants1000("Value 644");
+    public static final Constants1000 C645 = new Constants1000("Value 645");
+    public static final Constants1000 C646 = new Constants1000("Value 646");
+    public static final Constants1000 C647 = new Constants1000("Value 647");
+    public static final Constants1000 C648 = new Constants1000("Value 648");
+    public static final Constants1000 C649 = new Constants1000("Value 649");
+    public static final Constants1000 C650 = new Constants1000("Value 650");
+    public static final Constants1000 C651 = new Constants1000("Value 651");
+    public static final Constants1000 C652 = new Constants1000("Value 652");
+    public static final Constants1000 C653 = new Constants1000("Value 653");
+    public static final Constants1000 C654 = new Constants1000("Value 654");
+    public static final Constants1000 C655 = new Constants1000("Value 655");
+    public static final Constants1000 C656 = new Constants1000("Value 656");
+    public static final Constants1000 C657 = new Constants1000("Value 657");
+    public static final Constants1000 C658 = new Constants1000("Value 658");
+    public static final Constants1000 C659 = new Constants1000("Value 659");
+    public static final Constants1000 C660 = new Constants1000("Value 660");
+    public static final Constants1000 C661 = new Constants1000("Value 661");
+    public static final Constants1000 C662 = new Constants1000("Value 662");
+    public static final Constants1000 C663 = new Constants1000("Value 663");
+    public static final Constants1000 C664 = new Constants1000("Value 664");
+    public static final Constants1000 C665 = new Constants1000("Value 665");
+    public static final Constants1000 C666 = new Constants1000("Value 666");
+    public static final Constants1000 C667 = new Constants1000("Value 667");
+    public static final Constants1000 C668 = new Constants1000("Value 668");
+    public static final Constants1000 C669 = new Constants1000("Value 669");
+    public static final Constants1000 C670 = new Constants1000("Value 670");
+    public static final Constants1000 C671 = new Constants1000("Value 671");
+    public static final Constants1000 C672 = new Constants1000("Value 672");
+    public static final Constants1000 C673 = new Constants1000("Value 673");
+    public static final Constants1000 C674 = new Constants1000("Value 674");
+    public static final Constants1000 C675 = new Constants1000("Value 675");
+    public static final Constants1000 C676 = new Constants1000("Value 676");
+    public static final Constants1000 C677 = new Constants1000("Value 677");
+    public static final Constants1000 C678 = new Constants1000("Value 678");
+    public static final Constants1000 C679 = new Constants1000("Value 679");
+    public static final Constants1000 C680 = new Constants1000("Value 680");
+    public static final Constants1000 C681 = new Constants1000("Value 681");
+    public static final Constants1000 C682 = new Constants1000("Value 682");
+    public static final Constants1000 C683 = new Constants1000("Value 683");
+    public static final Constants1000 C684 = new Constants1000("Value 684");
+    public static final Constants1000 C685 = new Constants1000("Value 685");
+    public static final Constants1000 C686 = new Constants1000("Value 686");
+    public static final Constants1000 C687 = new Constants1000("Value 687");
+    public static final Constants1000 C688 = new Constants1000("Value 688");
+    public static final Constants1000 C689 = new Constants1000("Value 689");
+    public static final Constants1000 C690 = new Constants1000("Value 690");
+    public static final Constants1000 C691 = new Constants1000("Value 691");
+    public static final Constants1000 C692 = new Constants1000("Value 692");
+    public static final Constants1000 C693 = new Constants1000("Value 693");
+    public static final Constants1000 C694 = new Constants1000("Value 694");
+    public static final Constants1000 C695 = new Constants1000("Value 695");
+    public static final Constants1000 C696 = new Constants1000("Value 696");
+    public static final Constants1000 C697 = new Constants1000("Value 697");
+    public static final Constants1000 C698 = new Constants1000("Value 698");
+    public static final Constants1000 C699 = new Constants1000("Value 699");
+    public static final Constants1000 C700 = new Constants1000("Value 700");
+    public static final Constants1000 C701 = new Constants1000("Value 701");
+    public static final Constants1000 C702 = new Constants1000("Value 702");
+    public static final Constants1000 C703 = new Constants1000("Value 703");
+    public static final Constants1000 C704 = new Constants1000("Value 704");
+    public static final Constants1000 C705 = new Constants1000("Value 705");
+    public static final Constants1000 C706 = new Constants1000("Value 706");
+    public static final Constants1000 C707 = new Constants1000("Value 707");
+    public static final Constants1000 C708 = new Constants1000("Value 708");
+    public static final Constants1000 C709 = new Constants1000("Value 709");
+    public static final Constants1000 C710 = new Constants1000("Value 710");
+    public static final Constants1000 C711 = new Constants1000("Value 711");
+    public static final Constants1000 C712 = new Constants1000("Value 712");
+    public static final Constants1000 C713 = new Constants1000("Value 713");
+    public static final Constants1000 C714 = new Constants1000("Value 714");
+    public static final Constants1000 C715 = new Constants1000("Value 715");
+    public static final Constants1000 C716 = new Constants1000("Value 716");
+    public static final Constants1000 C717 = new Constants1000("Value 717");
+    public static final Constants1000 C718 = new Constants1000("Value 718");
+    public static final Constants1000 C719 = new Constants1000("Value 719");
+    public static final Constants1000 C720 = new Constants1000("Value 720");
+    public static final Constants1000 C721 = new Constants1000("Value 721");
+    public static final Constants1000 C722 = new Constants1000("Value 722");
+    public static final Constants1000 C723 = new Constants1000("Value 723");
+    public static final Constants1000 C724 = new Constants1000("Value 724");
+    public static final Constants1000 C725 = new Constants1000("Value 725");
+    public static final Constants1000 C726 = new Constants1000("Value 726");
+    public static final Constants1000 C727 = new Constants1000("Value 727");
+    public static final Constants1000 C728 = new Constants1000("Value 728");
+    public static final Constants1000 C729 = new Constants1000("Value 729");
+    public static final Constants1000 C730 = new Constants1000("Value 730");
+    public static final Constants1000 C731 = new Constants1000("Value 731");
+    public static final Constants1000 C732 = new Constants1000("Value 732");
+    public static final Constants1000 C733 = new Constants1000("Value 733");
+    public static final Constants1000 C734 = new Constants1000("Value 734");
+    public static final Constants1000 C735 = new Constants1000("Value 735");
+    public static final Constants1000 C736 = new Constants1000("Value 736");
+    public static final Constants1000 C737 = new Constants1000("Value 737");
+    public static final Constants1000 C738 = new Constants1000("Value 738");
+    public static final Constants1000 C739 = new Constants1000("Value 739");
+    public static final Constants1000 C740 = new Constants1000("Value 740");
+    public static final Constants1000 C741 = new Constants1000("Value 741");
+    public static final Constants1000 C742 = new Constants1000("Value 742");
+    public static final Constants1000 C743 = new Constants1000("Value 743");
+    public static final Constants1000 C744 = new Constants1000("Value 744");
+    public static final Constants1000 C745 = new Constants1000("Value 745");
+    public static final Constants1000 C746 = new Constants1000("Value 746");
+    public static final Constants1000 C747 = new Constants1000("Value 747");
+    public static final Constants1000 C748 = new Constants1000("Value 748");
+    public static final Constants1000 C749 = new Constants1000("Value 749");
+    public static final Constants1000 C750 = new Constants1000("Value 750");
+    public static final Constants1000 C751 = new Constants1000("Value 751");
+    public static final Constants1000 C752 = new Constants1000("Value 752");
+    public static final Constants1000 C753 = new Constants1000("Value 753");
+    public static final Constants1000 C754 = new Constants1000("Value 754");
+    public static final Constants1000 C755 = new Constants1000("Value 755");
+    public static final Constants1000 C756 = new Constants1000("Value 756");
+    public static final Constants1000 C757 = new Constants1000("Value 757");
+    public static final Constants1000 C758 = new Constants1000("Value 758");
+    public static final Constants1000 C759 = new Constants1000("Value 759");
+    public static final Constants1000 C760 = new Constants1000("Value 760");
+    public static final Constants1000 C761 = new Constants1000("Value 761");
+    public static final Constants1000 C762 = new Constants1000("Value 762");
+    public static final Constants1000 C763 = new Constants1000("Value 763");
+    public static final Constants1000 C764 = new Constants1000("Value 764");
+    public static final Constants1000 C765 = new Constants1000("Value 765");
+    public static final Constants1000 C766 = new Constants1000("Value 766");
+    public static final Constants1000 C767 = new Constants1000("Value 767");
+    public static final Constants1000 C768 = new Constants1000("Value 768");
+    public static final Constants1000 C769 = new Constants1000("Value 769");
+    public static final Constants1000 C770 = new Constants1000("Value 770");
+    public static final Constants1000 C771 = new Constants1000("Value 771");
+    public static final Constants1000 C772 = new Constants1000("Value 772");
+    public static final Constants1000 C773 = new Constants1000("Value 773");
+    public static final Constants1000 C774 = new Constants1000("Value 774");
+    public static final Constants1000 C775 = new Constants1000("Value 775");
+    public static final Constants1000 C776 = new Constants1000("Value 776");
+    public static final Constants1000 C777 = new Constants1000("Value 777");
+    public static final Constants1000 C778 = new Constants1000("Value 778");
+    public static final Constants1000 C779 = new Constants1000("Value 779");
+    public static final Constants1000 C780 = new Constants1000("Value 780");
+    public static final Constants1000 C781 = new Constants1000("Value 781");
+    public static final Constants1000 C782 = new Constants1000("Value 782");
+    public static final Constants1000 C783 = new Constants1000("Value 783");
+    public static final Constants1000 C784 = new Constants1000("Value 784");
+    public static final Constants1000 C785 = new Constants1000("Value 785");
+    public static final Constants1000 C786 = new Constants1000("Value 786");
+    public static final Constants1000 C787 = new Constants1000("Value 787");
+    public static final Constants1000 C788 = new Constants1000("Value 788");
+    public static final Constants1000 C789 = new Constants1000("Value 789");
+    public static final Constants1000 C790 = new Constants1000("Value 790");
+    public static final Constants1000 C791 = new Constants1000("Value 791");
+    public static final Constants1000 C792 = new Constants1000("Value 792");
+    public static final Constants1000 C793 = new Constants1000("Value 793");
+    public static final Constants1000 C794 = new Constants1000("Value 794");
+    public static final Constants1000 C795 = new Constants1000("Value 795");
+    public static final Constants1000 C796 = new Constants1000("Value 796");
+    public static final Constants1000 C797 = new Constants1000("Value 797");
+    public static final Constants1000 C798 = new Constants1000("Value 798");
+    public static final Constants1000 C799 = new Constants1000("Value 799");
+    public static final Constants1000 C800 = new Constants1000("Value 800");
+    public static final Constants1000 C801 = new Constants1000("Value 801");
+    public static final Constants1000 C802 = new Constants1000("Value 802");
+    public static final Constants1000 C803 = new Constants1000("Value 803");
+    public static final Constants1000 C804 = new Constants1000("Value 804");
+    public static final Constants1000 C805 = new Constants1000("Value 805");
+    public static final Constants1000 C806 = new Constants1000("Value 806");
+    public static final Constants1000 C807 = new Constants1000("Value 807");
+    public static final Constants1000 C808 = new Constants1000("Value 808");
+    public static final Constants1000 C809 = new Constants1000("Value 809");
+    public static final Constants1000 C810 = new Constants1000("Value 810");
+    public static final Constants1000 C811 = new Constants1000("Value 811");
+    public static final Constants1000 C812 = new Constants1000("Value 812");
+    public static final Constants1000 C813 = new Constants1000("Value 813");
+    public static final Constants1000 C814 = new Constants1000("Value 814");
+    public static final Constants1000 C815 = new Constants1000("Value 815");
+    public static final Constants1000 C816 = new Constants1000("Value 816");
+    public static final Constants1000 C817 = new Constants1000("Value 817");
+    public static final Constants1000 C818 = new Constants1000("Value 818");
+    public static final Constants1000 C819 = new Constants1000("Value 819");
+    public static final Constants1000 C820 = new Constants1000("Value 820");
+    public static final Constants1000 C821 = new Constants1000("Value 821");
+    public static final Constants1000 C822 = new Constants1000("Value 822");
+    public static final Constants1000 C823 = new Constants1000("Value 823");
+    public static final Constants1000 C824 = new Constants1000("Value 824");
+    public static final Constants1000 C825 = new Constants1000("Value 825");
+    public static final Constants1000 C826 = new Constants1000("Value 826");
+    public static final Constants1000 C827 = new Constants1000("Value 827");
+    public static final Constants1000 C828 = new Constants1000("Value 828");
+    public static final Constants1000 C829 = new Constants1000("Value 829");
+    public static final Constants1000 C830 = new Constants1000("Value 830");
+    public static final Constants1000 C831 = new Constants1000("Value 831");
+    public static final Constants1000 C832 = new Constants1000("Value 832");
+    public static final Constants1000 C833 = new Constants1000("Value 833");
+    public static final Constants1000 C834 = new Constants1000("Value 834");
+    public static final Constants1000 C835 = new Constants1000("Value 835");
+    public static final Constants1000 C836 = new Constants1000("Value 836");
+    public static final Constants1000 C837 = new Constants1000("Value 837");
+    public static final Constants1000 C838 = new Constants1000("Value 838");
+    public static final Constants1000 C839 = new Constants1000("Value 839");
+    public static final Constants1000 C840 = new Constants1000("Value 840");
+    public static final Constants1000 C841 = new Constants1000("Value 841");
+    public static final Constants1000 C842 = new Constants1000("Value 842");
+    public static final Constants1000 C843 = new Constants1000("Value 843");
+    public static final Constants1000 C844 = new Constants1000("Value 844");
+    public static final Constants1000 C845 = new Constants1000("Value 845");
+    public static final Constants1000 C846 = new Constants1000("Value 846");
+    public static final Constants1000 C847 = new Constants1000("Value 847");
+    public static final Constants1000 C848 = new Constants1000("Value 848");
+    public static final Constants1000 C849 = new Constants1000("Value 849");
+    public static final Constants1000 C850 = new Constants1000("Value 850");
+    public static final Constants1000 C851 = new Constants1000("Value 851");
+    public static final Constants1000 C852 = new Constants1000("Value 852");
+    public static final Constants1000 C853 = new Constants1000("Value 853");
+    public static final Constants1000 C854 = new Constants1000("Value 854");
+    public static final Constants1000 C855 = new Constants1000("Value 855");
+    public static final Constants1000 C856 = new Constants1000("Value 856");
+    public static final Constants1000 C857 = new Constants1000("Value 857");
+    public static final Constants1000 C858 = new Constants1000("Value 858");
+    public static final Constants1000 C859 = new Constants1000("Value 859");
+    public static final Constants1000 C860 = new Constants1000("Value 860");
+    public static final Constants1000 C861 = new Constants1000("Value 861");
+    public static final Constants1000 C862 = new Constants1000("Value 862");
+    public static final Constants1000 C863 = new Constants1000("Value 863");
+    public static final Constants1000 C864 = new Constants1000("Value 864");
+    public static final Constants1000 C865 = new Constants1000("Value 865");
+    public static final Constants1000 C866 = new Constants1000("Value 866");
+    public static final Constants1000 C867 = new Constants1000("Value 867");
+    public static final Constants1000 C868 = new Constants1000("Value 868");
+    public static final Constants1000 C869 = new Constants1000("Value 869");
+    public static final Constants1000 C870 = new Constants1000("Value 870");
+    public static final Constants1000 C871 = new Constants1000("Value 871");
+    public static final Constants1000 C872 = new Constants1000("Value 872");
+    public static final Constants1000 C873 = new Constants1000("Value 873");
+    public static final Constants1000 C874 = new Constants1000("Value 874");
+    public static final Constants1000 C875 = new Constants1000("Value 875");
+    public static final Constants1000 C876 = new Constants1000("Value 876");
+    public static final Constants1000 C877 = new Constants1000("Value 877");
+    public static final Constants1000 C878 = new Constants1000("Value 878");
+    public static final Constants1000 C879 = new Constants1000("Value 879");
+    public static final Constants1000 C880 = new Constants1000("Value 880");
+    public static final Constants1000 C881 = new Constants1000("Value 881");
+    public static final Constants1000 C882 = new Constants1000("Value 882");
+    public static final Constants1000 C883 = new Constants1000("Value 883");
+    public static final Constants1000 C884 = new Constants1000("Value 884");
+    public static final Constants1000 C885 = new Constants1000("Value 885");
+    public static final Constants1000 C886 = new Constants1000("Value 886");
+    public static final Constants1000 C887 = new Constants1000("Value 887");
+    public static final Constants1000 C888 = new Constants1000("Value 888");
+    public static final Constants1000 C889 = new Constants1000("Value 889");
+    public static final Constants1000 C890 = new Constants1000("Value 890");
+    public static final Constants1000 C891 = new Constants1000("Value 891");
+    public static final Constants1000 C892 = new Constants1000("Value 892");
+    public static final Constants1000 C893 = new Constants1000("Value 893");
+    public static final Constants1000 C894 = new Constants1000("Value 894");
+    public static final Constants1000 C895 = new Constants1000("Value 895");
+    public static final Constants1000 C896 = new Constants1000("Value 896");
+    public static final Constants1000 C897 = new Constants1000("Value 897");
+    public static final Constants1000 C898 = new Constants1000("Value 898");
+    public static final Constants1000 C899 = new Constants1000("Value 899");
+    public static final Constants1000 C900 = new Constants1000("Value 900");
+    public static final Constants1000 C901 = new Constants1000("Value 901");
+    public static final Constants1000 C902 = new Constants1000("Value 902");
+    public static final Constants1000 C903 = new Constants1000("Value 903");
+    public static final Constants1000 C904 = new Constants1000("Value 904");
+    public static final Constants1000 C905 = new Constants1000("Value 905");
+    public static final Constants1000 C906 = new Constants1000("Value 906");
+    public static final Constants1000 C907 = new Constants1000("Value 907");
+    public static final Constants1000 C908 = new Constants1000("Value 908");
+    public static final Constants1000 C909 = new Constants1000("Value 909");
+    public static final Constants1000 C910 = new Constants1000("Value 910");
+    public static final Constants1000 C911 = new Constants1000("Value 911");
+    public static final Constants1000 C912 = new Constants1000("Value 912");
+    public static final Constants1000 C913 = new Constants1000("Value 913");
+    public static final Constants1000 C914 = new Constants1000("Value 914");
+    public static final Constants1000 C915 = new Constants1000("Value 915");
+    public static final Constants1000 C916 = new Constants1000("Value 916");
+    public static final Constants1000 C917 = new Constants1000("Value 917");
+    public static final Constants1000 C918 = new Constants1000("Value 918");
+    public static final Constants1000 C919 = new Constants1000("Value 919");
+    public static final Constants1000 C920 = new Constants1000("Value 920");
+    public static final Constants1000 C921 = new Constants1000("Value 921");
+    public static final Constants1000 C922 = new Constants1000("Value 922");
+    public static final Constants1000 C923 = new Constants1000("Value 923");
+    public static final Constants1000 C924 = new Constants1000("Value 924");
+    public static final Constants1000 C925 = new Constants1000("Value 925");
+    public static final Constants1000 C926 = new Constants1000("Value 926");
+    public static final Constants1000 C927 = new Constants1000("Value 927");
+    public static final Constants1000 C928 = new Constants1000("Value 928");
+    public static final Constants1000 C929 = new Constants1000("Value 929");
+    public static final Constants1000 C930 = new Constants1000("Value 930");
+    public static final Constants1000 C931 = new Constants1000("Value 931");
+    public static final Constants1000 C932 = new Constants1000("Value 932");
+    public static final Constants1000 C933 = new Constants1000("Value 933");
+    public static final Constants1000 C934 = new Constants1000("Value 934");
+    public static final Constants1000 C935 = new Constants1000("Value 935");
+    public static final Constants1000 C936 = new Constants1000("Value 936");
+    public static final Constants1000 C937 = new Constants1000("Value 937");
+    public static final Constants1000 C938 = new Constants1000("Value 938");
+    public static final Constants1000 C939 = new Constants1000("Value 939");
+    public static final Constants1000 C940 = new Constants1000("Value 940");
+    public static final Constants1000 C941 = new Constants1000("Value 941");
+    public static final Constants1000 C942 = new Constants1000("Value 942");
+    public static final Constants1000 C943 = new Constants1000("Value 943");
+    public static final Constants1000 C944 = new Constants1000("Value 944");
+    public static final Constants1000 C945 = new Constants1000("Value 945");
+    public static final Constants1000 C946 = new Constants1000("Value 946");
+    public static final Constants1000 C947 = new Constants1000("Value 947");
+    public static final Constants1000 C948 = new Constants1000("Value 948");
+    public static final Constants1000 C949 = new Constants1000("Value 949");
+    public static final Constants1000 C950 = new Constants1000("Value 950");
+    public static final Constants1000 C951 = new Constants1000("Value 951");
+    public static final Constants1000 C952 = new Constants1000("Value 952");
+    public static final Constants1000 C953 = new Constants1000("Value 953");
+    public static final Constants1000 C954 = new Constants1000("Value 954");
+    public static final Constants1000 C955 = new Constants1000("Value 955");
+    public static final Constants1000 C956 = new Constants1000("Value 956");
+    public static final Constants1000 C957 = new Constants1000("Value 957");
+    public static final Constants1000 C958 = new Constants1000("Value 958");
+    public static final Constants1000 C959 = new Constants1000("Value 959");
+    public static final Constants1000 C960 = new Constants1000("Value 960");
+    public static final Constants1000 C961 = new Constants1000("Value 961");
+    public static final Constants1000 C962 = new Constants1000("Value 962");
+    public static final Constants1000 C963 = new Constants1000("Value 963");
+    public static final Constants1000 C964 = new Constants1000("Value 964");
+    public static final Constants1000 C965 = new Constants1000("Value 965");
+    public static final Constants1000 C966 = new Constants1000("Value 966");
+    public static final Constants1000 C967 = new Constants1000("Value 967");
+    public static final Constants1000 C968 = new Constants1000("Value 968");
+    public static final Constants1000 C969 = new Constants1000("Value 969");
+    public static final Constants1000 C970 = new Constants1000("Value 970");
+    public static final Constants1000 C971 = new Constants1000("Value 971");
+    public static final Constants1000 C972 = new Constants1000("Value 972");
+    public static final Constants1000 C973 = new Constants1000("Value 973");
+    public static final Constants1000 C974 = new Constants1000("Value 974");
+    public static final Constants1000 C975 = new Constants1000("Value 975");
+    public static final Constants1000 C976 = new Constants1000("Value 976");
+    public static final Constants1000 C977 = new Constants1000("Value 977");
+    public static final Constants1000 C978 = new Constants1000("Value 978");
+    public static final Constants1000 C979 = new Constants1000("Value 979");
+    public static final Constants1000 C980 = new Constants1000("Value 980");
+    public static final Constants1000 C981 = new Constants1000("Value 981");
+    public static final Constants1000 C982 = new Constants1000("Value 982");
+    public static final Constants1000 C983 = new Constants1000("Value 983");
+    public static final Constants1000 C984 = new Constants1000("Value 984");
+    public static final Constants1000 C985 = new Constants1000("Value 985");
+    public static final Constants1000 C986 = new Constants1000("Value 986");
+    public static final Constants1000 C987 = new Constants1000("Value 987");
+    public static final Constants1000 C988 = new Constants1000("Value 988");
+    public static final Constants1000 C989 = new Constants1000("Value 989");
+    public static final Constants1000 C990 = new Constants1000("Value 990");
+    public static final Constants1000 C991 = new Constants1000("Value 991");
+    public static final Constants1000 C992 = new Constants1000("Value 992");
+    public static final Constants1000 C993 = new Constants1000("Value 993");
+    public static final Constants1000 C994 = new Constants1000("Value 994");
+    public static final Constants1000 C995 = new Constants1000("Value 995");
+    public static final Constants1000 C996 = new Constants1000("Value 996");
+    public static final Constants1000 C997 = new Constants1000("Value 997");
+    public static final Constants1000 C998 = new Constants1000("Value 998");
+    public static final Constants1000 C999 = new Constants1000("Value 999");
+
+    private Constants1000(String value) {
+        super(value);
+    }
+
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.enumerables.benchmarks;
+
+import nl.talsmasoftware.enumerables.Enumerable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the hot paths of {@link Enumerable}.
+ * <p>
+ * Every benchmark invocation operates on the next element of a fixed set of pre-generated inputs,
+ * a fraction {@link #hitRatio} of which match a constant of a type with {@link #constantCount} constants.
+ * The same inputs serve as values (for parsing) and as names (for lookups by name).
+ *
+ * @author Sjoerd Talsma
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EnumerableBenchmark {
+    /**
+     * Number of pre-generated inputs, must be a power of two.
+     */
+    static final int INPUTS = 1024;
+
+    @Param({"1", "10", "100", "1000"})
+    public int constantCount;
+
+    @Param({"1.0", "0.5", "0.0"})
+    public double hitRatio;
+
+    private Class<? extends Enumerable> type;
+    private String[] values;
+    private String[] names;
+    private Enumerable[] parsed;
+    private Enumerable[] copies;
+    private byte[][] serialized;
+
+    @Setup
+    public void setUp() throws IOException {
+        type = typeWithConstants(constantCount);
+        final Enumerable[] constants = Enumerable.values(type);
+        final Random random = new Random(constantCount);
+        values = new String[INPUTS];
+        names = new String[INPUTS];
+        parsed = new Enumerable[INPUTS];
+        copies = new Enumerable[INPUTS];
+        serialized = new byte[INPUTS][];
+        for (int i = 0; i < INPUTS; i++) {
+            final Enumerable constant = constants[random.nextInt(constants.length)];
+            final boolean hit = random.nextDouble() < hitRatio;
+            values[i] = hit ? constant.getValue() : "Unknown value " + i;
+            names[i] = hit ? constant.name() : "UNKNOWN_NAME_" + i;
+            parsed[i] = Enumerable.parse(type, values[i]);
+            copies[i] = Enumerable.parse(type, new StringBuilder(values[i])); // equal, but not always the same
+            serialized[i] = serialize(parsed[i]);
+        }
+    }
+
+    static Class<? extends Enumerable> typeWithConstants(int constantCount) {
+        switch (constantCount) {
+            case 1:
+                return Constants1.class;
+            case 10:
+                return Constants10.class;
+            case 100:
+                return Constants100.class;
+            case 1000:
+                return Constants1000.class;
+            default:
+                throw new IllegalArgumentException("No enumerable type with " + constantCount + " constants.");
+        }
+    }
+
+    private static byte[] serialize(Enumerable value) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final ObjectOutputStream out = new ObjectOutputStream(bytes);
+        out.writeObject(value);
+        out.close();
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Position in the inputs, per benchmark thread.
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int position;
+
+        int next() {
+            return position++ & (INPUTS - 1);
+        }
+    }
+
+    @Benchmark
+    public Enumerable parse(Cursor cursor) {
+        return Enumerable.parse(type, values[cursor.next()]);
+    }
+
+    /**
+     * Lookup by name, where misses throw (and catch) a {@link Enumerable.ConstantNotFoundException}.
+     */
+    @Benchmark
+    public Enumerable valueOf(Cursor cursor) {
+        try {
+            return Enumerable.valueOf(type, names[cursor.next()]);
+        } catch (Enumerable.ConstantNotFoundException notFound) {
+            return null;
+        }
+    }
+
+    @Benchmark
+    public Enumerable findByName(Cursor cursor) {
+        return Enumerable.findByName(type, names[cursor.next()]);
+    }
+
+    @Benchmark
+    public int ordinal(Cursor cursor) {
+        return parsed[cursor.next()].ordinal();
+    }
+
+    @Benchmark
+    public int compareTo(Cursor cursor) {
+        final int i = cursor.next();
+        return parsed[i].compareTo(parsed[(i + 1) & (INPUTS - 1)]);
+    }
+
+    @Benchmark
+    public boolean equals(Cursor cursor) {
+        final int i = cursor.next();
+        return parsed[i].equals(copies[i]);
+    }
+
+    @Benchmark
+    public int hashCode(Cursor cursor) {
+        return parsed[cursor.next()].hashCode();
+    }
+
+    @Benchmark
+    public Enumerable[] values() {
+        return Enumerable.values(type);
+    }
+
+    /**
+     * Deserialization, including the <code>readResolve</code> lookup of the deserialized value.
+     */
+    @Benchmark
+    public Object deserialize(Cursor cursor) throws IOException, ClassNotFoundException {
+        return new ObjectInputStream(new ByteArrayInputStream(serialized[cursor.next()])).readObject();
+    }
+
+}
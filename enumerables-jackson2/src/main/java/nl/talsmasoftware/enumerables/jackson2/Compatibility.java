@@ -53,6 +53,8 @@ final class Compatibility {
 
     private static boolean supportsContextualType = true;
     private static boolean supportsTypeId = true;
+    private static boolean supportsDefaultPropertyInclusion = true;
+    private static boolean supportsSerializationInclusion = true;
 
     /**
      * {@link DeserializationContext#getContextualType()} exists since Jackson 2.5
@@ -81,17 +83,19 @@ final class Compatibility {
     }
 
     static boolean mustIncludeNull(SerializationConfig config, Class<? extends Enumerable> enumerableType) {
-        try { // getDefaultPropertyInclusion exists since Jackson 2.7
+        if (supportsDefaultPropertyInclusion) try { // getDefaultPropertyInclusion exists since Jackson 2.7
             JsonInclude.Value inclusion = config.getDefaultPropertyInclusion(enumerableType);
             if (inclusion != null) return !SKIP_NULL_INCLUSIONS.contains(inclusion.getValueInclusion().name());
         } catch (LinkageError le) {
             LOGGER.log(Level.FINEST, "SerializationConfig.getDefaultPropertyInclusion() unavailable. Using Jackson < 2.7?", le);
+            supportsDefaultPropertyInclusion = false;
         }
-        try {
+        if (supportsSerializationInclusion) try {
             JsonInclude.Include inclusion = config.getSerializationInclusion();
             if (inclusion != null) return !SKIP_NULL_INCLUSIONS.contains(inclusion.name());
         } catch (LinkageError le) {
             LOGGER.log(Level.FINEST, "SerializationConfig.getSerializationInclusion() unavailable. Deprecation removed?", le);
+            supportsSerializationInclusion = false;
         }
         return true;
     }
@@ -26,39 +26,74 @@ import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
 import nl.talsmasoftware.enumerables.Enumerable;
 
 import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Deserializer for {@link Enumerable} objects of a specific type.
+ * <p>
+ * The 'untyped' deserializer creates a contextual deserializer for each concrete enumerable type it encounters.
+ * These are cached, so each type gets resolved only once and not for every deserialized value.
  *
  * @author Sjoerd Talsma
  */
 public class EnumerableDeserializer extends StdDeserializer<Enumerable> implements ContextualDeserializer {
-    private final JavaType javaType;
+    /**
+     * The resolved type to deserialize, or <code>null</code> for the 'untyped' deserializer.
+     */
+    private final Class<? extends Enumerable> type;
+
+    /**
+     * Contextual deserializers by resolved type, or <code>null</code> for the contextual deserializers themselves.
+     */
+    private final ConcurrentMap<Class<? extends Enumerable>, EnumerableDeserializer> contextual;
 
     public EnumerableDeserializer() {
         super(Enumerable.class);
-        this.javaType = null;
+        this.type = null;
+        this.contextual = new ConcurrentHashMap<Class<? extends Enumerable>, EnumerableDeserializer>();
     }
 
-    private EnumerableDeserializer(JavaType javaType) {
-        super(javaType);
-        this.javaType = javaType;
+    private EnumerableDeserializer(Class<? extends Enumerable> type) {
+        super(type);
+        this.type = type;
+        this.contextual = null;
     }
 
     public JsonDeserializer<?> createContextual(DeserializationContext ctxt, BeanProperty property) {
-        if (javaType == null) { // Are we the 'untyped' Enumerable deserializer?
+        if (type == null) { // Are we the 'untyped' Enumerable deserializer?
             if (property != null && property.getType() != null) {
-                return new EnumerableDeserializer(property.getType());
+                return contextualFor(property.getType());
             } else if (ctxt != null) {
                 final JavaType contextualType = Compatibility.getContextualType(ctxt);
                 if (contextualType != null) {
-                    return new EnumerableDeserializer(contextualType);
+                    return contextualFor(contextualType);
                 }
             }
         }
         return this;
     }
 
+    /**
+     * Returns the cached deserializer for the enumerable type, creating it upon first use.
+     *
+     * @param javaType The contextual type to deserialize.
+     * @return The deserializer for the resolved type,
+     * or this deserializer if the type does not resolve to an enumerable type.
+     */
+    private EnumerableDeserializer contextualFor(JavaType javaType) {
+        Class<? extends Enumerable> resolved = asEnumerableSubtype(javaType);
+        if (resolved == null) return this;
+        else if (Enumerable.class.equals(resolved)) resolved = UnknownEnumerable.class;
+        EnumerableDeserializer deserializer = contextual.get(resolved);
+        if (deserializer == null) {
+            deserializer = new EnumerableDeserializer(resolved);
+            final EnumerableDeserializer existing = contextual.putIfAbsent(resolved, deserializer);
+            if (existing != null) deserializer = existing;
+        }
+        return deserializer;
+    }
+
     /**
      * Determines specific Enumerable subtype when known.
      * If no subtype can be determined, the {@link UnknownEnumerable} type is returned.
@@ -69,11 +104,10 @@ public class EnumerableDeserializer extends StdDeserializer<Enumerable> implemen
      * @throws IOException when reading the parser threw I/O exceptions.
      */
     protected Class<? extends Enumerable> getType(JsonParser jp) throws IOException {
-        Class<? extends Enumerable> type = javaType == null ? null : asEnumerableSubtype(javaType);
-        if (type == null) {
-            final Object typeId = Compatibility.getTypeId(jp);
-            type = asEnumerableSubtype(typeId instanceof JavaType ? ((JavaType) typeId).getRawClass() : typeId);
-        }
+        if (this.type != null) return this.type;
+        final Object typeId = Compatibility.getTypeId(jp);
+        final Class<? extends Enumerable> type =
+                asEnumerableSubtype(typeId instanceof JavaType ? ((JavaType) typeId).getRawClass() : typeId);
         return type == null || Enumerable.class.equals(type) ? UnknownEnumerable.class : type;
     }
 
@@ -102,8 +136,9 @@ public class EnumerableDeserializer extends StdDeserializer<Enumerable> implemen
         final JsonToken currentToken = jp.getCurrentToken();
         switch (currentToken) {
             case VALUE_NULL:
-            case VALUE_STRING:
                 return Enumerable.parse(type, jp.getText());
+            case VALUE_STRING:
+                return parseText(jp, type);
             case START_OBJECT:
                 return parseObject(jp, type);
             default:
@@ -117,11 +152,15 @@ public class EnumerableDeserializer extends StdDeserializer<Enumerable> implemen
         for (JsonToken nextToken = jp.nextToken(); nextToken != null; nextToken = jp.nextToken()) {
             switch (nextToken) {
                 case VALUE_NULL:
-                case VALUE_STRING:
                     if (value == null && "value".equals(jp.getCurrentName())) {
                         value = Enumerable.parse(type, jp.getText());
                     }
                     break;
+                case VALUE_STRING:
+                    if (value == null && "value".equals(jp.getCurrentName())) {
+                        value = parseText(jp, type);
+                    }
+                    break;
                 case END_OBJECT:
                     jp.clearCurrentToken();
                     if (value != null) return value;
@@ -136,6 +175,24 @@ public class EnumerableDeserializer extends StdDeserializer<Enumerable> implemen
         throw new IllegalStateException("JSON stream ended while parsing an Enumerable object.");
     }
 
+    /**
+     * Parses the current string token of the parser.
+     * <p>
+     * If the parser has the text in its character buffer, the constants are matched against that buffer directly
+     * so no String is created for constant values.
+     *
+     * @param jp   Jackson parser positioned at a string token.
+     * @param type The enumerable type to parse.
+     * @return The parsed enumerable value.
+     * @throws IOException when accessing the JsonParser threw an I/O exception.
+     */
+    private static Enumerable parseText(JsonParser jp, Class<? extends Enumerable> type) throws IOException {
+        if (jp.hasTextCharacters()) {
+            return Enumerable.parse(type, jp.getTextCharacters(), jp.getTextOffset(), jp.getTextLength());
+        }
+        return Enumerable.parse(type, jp.getText());
+    }
+
     /**
      * Non-abstract {@link Enumerable} class to serialize to if the concrete type can somehow not be determined.
      */
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.enumerables.jackson2;
+
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.KeyDeserializer;
+import nl.talsmasoftware.enumerables.Enumerable;
+
+/**
+ * Deserializer for {@link Enumerable} map keys of a specific type.
+ * <p>
+ * Keys are {@link Enumerable#parse(Class, CharSequence) parsed}, so constants are looked up by value
+ * and any other key becomes a non-constant value of the type.
+ *
+ * @author Sjoerd Talsma
+ */
+public class EnumerableKeyDeserializer extends KeyDeserializer {
+    private final Class<? extends Enumerable> type;
+
+    /**
+     * @param type The enumerable type of the keys (<code>Enumerable</code> itself if the subtype is unknown).
+     */
+    public EnumerableKeyDeserializer(Class<? extends Enumerable> type) {
+        if (type == null) throw new IllegalArgumentException("Enumerable type is <null>.");
+        this.type = Enumerable.class.equals(type) ? EnumerableDeserializer.UnknownEnumerable.class : type;
+    }
+
+    @Override
+    public Enumerable deserializeKey(String key, DeserializationContext ctxt) {
+        return Enumerable.parse(type, key);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + '{' + type.getSimpleName() + '}';
+    }
+
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.enumerables.jackson2;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import nl.talsmasoftware.enumerables.Enumerable;
+
+import java.io.IOException;
+
+/**
+ * Serializer for {@link Enumerable} map keys, writing the {@link Enumerable#getValue() value} as field name.
+ * <p>
+ * The field names of constants are written pre-serialized, so they are escaped and encoded only once.
+ *
+ * @author Sjoerd Talsma
+ */
+public class EnumerableKeySerializer extends StdSerializer<Enumerable> {
+    private final SerializedValues serializedValues = new SerializedValues();
+
+    public EnumerableKeySerializer() {
+        super(Enumerable.class);
+    }
+
+    @Override
+    public void serialize(Enumerable value, JsonGenerator jgen, SerializerProvider provider) throws IOException {
+        final SerializableString constant = serializedValues.of(value);
+        if (constant != null) jgen.writeFieldName(constant);
+        else jgen.writeFieldName(Enumerable.print(value));
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName();
+    }
+
+}
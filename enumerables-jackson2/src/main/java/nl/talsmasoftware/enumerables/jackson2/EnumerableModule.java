@@ -17,10 +17,20 @@ package nl.talsmasoftware.enumerables.jackson2;
 
 import com.fasterxml.jackson.databind.BeanDescription;
 import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.KeyDeserializer;
 import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
+import com.fasterxml.jackson.databind.deser.KeyDeserializers;
+import com.fasterxml.jackson.databind.deser.ValueInstantiator;
+import com.fasterxml.jackson.databind.deser.ValueInstantiators;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import nl.talsmasoftware.enumerables.Enumerable;
+import nl.talsmasoftware.enumerables.EnumerableMap;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Mapping module for converting one or more {@link Enumerable} types to and from JSON using Jackson v2.
@@ -30,6 +40,8 @@ import nl.talsmasoftware.enumerables.Enumerable;
 public class EnumerableModule extends SimpleModule {
 
     private final EnumerableDeserializer deserializer = new EnumerableDeserializer();
+    private final ConcurrentMap<Class<?>, KeyDeserializer> keyDeserializers =
+            new ConcurrentHashMap<Class<?>, KeyDeserializer>();
 
     /**
      * Constructor that will serialize {@link Enumerable} objects as primitive String values.
@@ -51,6 +63,7 @@ public class EnumerableModule extends SimpleModule {
         super("Enumerable mapping module", Compatibility.moduleVersion());
         super.addSerializer(Enumerable.class, new EnumerableSerializer(serializationMethod));
         super.addDeserializer(Enumerable.class, this.deserializer);
+        super.addKeySerializer(Enumerable.class, new EnumerableKeySerializer());
     }
 
     private static boolean isEnumerableSubtype(BeanDescription beanDesc) {
@@ -58,11 +71,23 @@ public class EnumerableModule extends SimpleModule {
         return type != null && Enumerable.class.isAssignableFrom(type) && !Enumerable.class.equals(type);
     }
 
+    private KeyDeserializer keyDeserializerFor(Class<? extends Enumerable> type) {
+        KeyDeserializer keyDeserializer = keyDeserializers.get(type);
+        if (keyDeserializer == null) {
+            keyDeserializer = new EnumerableKeyDeserializer(type);
+            final KeyDeserializer existing = keyDeserializers.putIfAbsent(type, keyDeserializer);
+            if (existing != null) keyDeserializer = existing;
+        }
+        return keyDeserializer;
+    }
+
     /**
      * Configures this Jackson module.
      * <p>
      * This creates a {@link BeanDeserializerModifier} that returns the configured {@link #deserializer} for all
      * subtypes of {@link Enumerable}.
+     * Furthermore, map keys of enumerable types are deserialized by {@link EnumerableKeyDeserializer}
+     * and {@link EnumerableMap} targets are created for the enumerable type of their keys.
      *
      * @param setupContext De setup context to initialize.
      *                     A deserializer modifier is added to this context to process all Enumerable subtypes.
@@ -79,10 +104,72 @@ public class EnumerableModule extends SimpleModule {
                             : super.modifyDeserializer(config, beanDesc, deserializer);
                 }
             });
+            setupContext.addKeyDeserializers(new KeyDeserializers() {
+                public KeyDeserializer findKeyDeserializer(JavaType type, DeserializationConfig config, BeanDescription beanDesc) {
+                    final Class<? extends Enumerable> keyType = enumerableKeyType(type);
+                    return keyType == null ? null : keyDeserializerFor(keyType);
+                }
+            });
+            setupContext.addValueInstantiators(new ValueInstantiators.Base() {
+                @Override
+                public ValueInstantiator findValueInstantiator(DeserializationConfig config, BeanDescription beanDesc, ValueInstantiator defaultInstantiator) {
+                    final JavaType type = beanDesc == null ? null : beanDesc.getType();
+                    if (type != null && EnumerableMap.class.equals(type.getRawClass())) {
+                        final Class<? extends Enumerable> keyType = enumerableKeyType(type.getKeyType());
+                        if (keyType != null) return new EnumerableMapInstantiator(keyType);
+                    }
+                    return super.findValueInstantiator(config, beanDesc, defaultInstantiator);
+                }
+            });
         }
         super.setupModule(setupContext);
     }
 
+    /**
+     * Determines the enumerable type of a map key.
+     * Unlike values, container or reference key types are not unwrapped; those are left to Jackson.
+     *
+     * @param keyType The type of the map key.
+     * @return The enumerable key type, or <code>null</code> if the key type is not an enumerable.
+     */
+    @SuppressWarnings("unchecked")
+    private static Class<? extends Enumerable> enumerableKeyType(JavaType keyType) {
+        return keyType != null && Enumerable.class.isAssignableFrom(keyType.getRawClass())
+                ? (Class<? extends Enumerable>) keyType.getRawClass() : null;
+    }
+
+    /**
+     * Creates empty {@link EnumerableMap} instances for a specific enumerable key type.
+     */
+    private static final class EnumerableMapInstantiator extends ValueInstantiator {
+        private final Class<? extends Enumerable> keyType;
+
+        private EnumerableMapInstantiator(Class<? extends Enumerable> keyType) {
+            this.keyType = Enumerable.class.equals(keyType) ? EnumerableDeserializer.UnknownEnumerable.class : keyType;
+        }
+
+        @Override
+        public Class<?> getValueClass() {
+            return EnumerableMap.class;
+        }
+
+        @Override
+        public String getValueTypeDesc() {
+            return EnumerableMap.class.getName();
+        }
+
+        @Override
+        public boolean canCreateUsingDefault() {
+            return true;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Object createUsingDefault(DeserializationContext ctxt) {
+            return new EnumerableMap(keyType);
+        }
+    }
+
     @Override
     public int hashCode() {
         return version().hashCode();
@@ -16,6 +16,7 @@
 package nl.talsmasoftware.enumerables.jackson2;
 
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
 import com.fasterxml.jackson.databind.DatabindContext;
 import com.fasterxml.jackson.databind.SerializationConfig;
 import com.fasterxml.jackson.databind.SerializerProvider;
@@ -36,11 +37,20 @@ import static nl.talsmasoftware.enumerables.jackson2.Compatibility.mustIncludeNu
  * <p>
  * Whether it is serialized as a JSON object or a primitive String depends on the specified {@link SerializationMethod}
  * which is {@link SerializationMethod#AS_STRING} by default.
+ * <p>
+ * JSON objects are written according to a plan per enumerable type, configuration and <code>null</code> inclusion.
+ * Subclasses that override {@link #serializeObject(Enumerable, JsonGenerator, SerializationConfig)} or
+ * {@link #serializeObjectProperty(BeanPropertyDefinition, Enumerable, JsonGenerator, SerializationConfig)}
+ * are serialized through those methods instead.
  *
  * @author Sjoerd Talsma
  */
 public class EnumerableSerializer extends StdSerializer<Enumerable> {
     private static final String SERIALIZATION_METHOD_ATTRIBUTE = SerializationMethod.class.getName();
+    /**
+     * The maximum number of plans that are kept per enumerable type.
+     */
+    private static final int MAX_PLANS_PER_TYPE = 8;
     /**
      * Cache for reflected objects based on classname.
      */
@@ -52,6 +62,21 @@ public class EnumerableSerializer extends StdSerializer<Enumerable> {
      */
     protected final SerializationMethod serializationMethod;
 
+    /**
+     * The pre-built serialized values of the constants.
+     */
+    private final SerializedValues serializedValues = new SerializedValues();
+
+    /**
+     * The most recently used JSON object serialization plans by enumerable type.
+     */
+    private final ConcurrentMap<Class<?>, ObjectPlan[]> plans = new ConcurrentHashMap<Class<?>, ObjectPlan[]>();
+
+    /**
+     * Whether a subclass overrides the per-property serialization methods, which must then still be called.
+     */
+    private final boolean overridesObjectSerialization;
+
     public EnumerableSerializer() {
         this(null);
     }
@@ -59,6 +84,7 @@ public class EnumerableSerializer extends StdSerializer<Enumerable> {
     public EnumerableSerializer(SerializationMethod serializationMethod) {
         super(Enumerable.class);
         this.serializationMethod = serializationMethod == null ? SerializationMethod.AS_STRING : serializationMethod;
+        this.overridesObjectSerialization = overridesObjectSerialization(getClass());
     }
 
     @Override
@@ -66,9 +92,11 @@ public class EnumerableSerializer extends StdSerializer<Enumerable> {
         if (value == null) {
             jgen.writeNull();
         } else if (determineSerializationMethod(provider).serializeAsObject(value.getClass())) {
-            serializeObject(value, jgen, provider.getConfig());
+            serializeObject(value, jgen, provider);
         } else {
-            jgen.writeString(Enumerable.print(value));
+            final SerializableString constant = serializedValues.of(value);
+            if (constant != null) jgen.writeString(constant);
+            else jgen.writeString(Enumerable.print(value));
         }
     }
 
@@ -77,6 +105,58 @@ public class EnumerableSerializer extends StdSerializer<Enumerable> {
         return attribute instanceof SerializationMethod ? (SerializationMethod) attribute : serializationMethod;
     }
 
+    /**
+     * Serializes the enumerable value as JSON object, using the plan for its type and the current configuration.
+     *
+     * @param value    The enumerable value to serialize.
+     * @param jgen     The generator to write the JSON object to.
+     * @param provider The provider for the serialization configuration and property value serializers.
+     * @throws IOException when writing to the generator threw an I/O exception.
+     */
+    protected void serializeObject(Enumerable value, JsonGenerator jgen, SerializerProvider provider) throws IOException {
+        if (overridesObjectSerialization) {
+            serializeObject(value, jgen, provider.getConfig());
+        } else {
+            planFor(value.getClass(), provider.getConfig()).write(value, jgen, provider);
+        }
+    }
+
+    /**
+     * Returns the plan for the enumerable type and configuration, building it if necessary.
+     * <p>
+     * The default inclusion can be changed on an existing configuration, so it is part of the plan lookup.
+     *
+     * @param enumerableType The enumerable type to serialize.
+     * @param config         The configuration to serialize with.
+     * @return The JSON object serialization plan.
+     */
+    private ObjectPlan planFor(Class<? extends Enumerable> enumerableType, SerializationConfig config) {
+        final boolean includeNull = mustIncludeNull(config, enumerableType);
+        final ObjectPlan[] known = plans.get(enumerableType);
+        if (known != null) for (ObjectPlan plan : known) {
+            if (plan.config == config && plan.includeNull == includeNull) return plan;
+        }
+        final ObjectPlan plan =
+                new ObjectPlan(config, includeNull, findProperties(enumerableType, config), serializedValues);
+        final int retained = known == null ? 0 : Math.min(known.length, MAX_PLANS_PER_TYPE - 1);
+        final ObjectPlan[] updated = new ObjectPlan[retained + 1];
+        updated[0] = plan;
+        if (retained > 0) System.arraycopy(known, 0, updated, 1, retained);
+        plans.put(enumerableType, updated);
+        return plan;
+    }
+
+    /**
+     * Serializes the enumerable value as JSON object by serializing each of its properties.
+     * <p>
+     * This method is only called for subclasses overriding it or
+     * {@link #serializeObjectProperty(BeanPropertyDefinition, Enumerable, JsonGenerator, SerializationConfig)}.
+     *
+     * @param value  The enumerable value to serialize.
+     * @param jgen   The generator to write the JSON object to.
+     * @param config The serialization configuration.
+     * @throws IOException when writing to the generator threw an I/O exception.
+     */
     protected void serializeObject(Enumerable value, JsonGenerator jgen, SerializationConfig config) throws IOException {
         jgen.writeStartObject();
         Class<? extends Enumerable> enumerableType = value.getClass();
@@ -102,14 +182,41 @@ public class EnumerableSerializer extends StdSerializer<Enumerable> {
         final String cacheKey = enumerableType.getName();
         List<BeanPropertyDefinition> properties = CACHE.get(cacheKey);
         if (properties == null) {
-            properties = new BasicClassIntrospector()
-                    .forSerialization(config, Compatibility.asJavaType(config, enumerableType), null)
-                    .findProperties();
+            properties = findProperties(enumerableType, config);
             CACHE.putIfAbsent(cacheKey, properties);
         }
         return properties;
     }
 
+    private static List<BeanPropertyDefinition> findProperties(
+            Class<? extends Enumerable> enumerableType, SerializationConfig config) {
+        return new BasicClassIntrospector()
+                .forSerialization(config, Compatibility.asJavaType(config, enumerableType), null)
+                .findProperties();
+    }
+
+    private static boolean overridesObjectSerialization(Class<?> serializerType) {
+        for (Class<?> type = serializerType; !EnumerableSerializer.class.equals(type); type = type.getSuperclass()) {
+            if (declares(type, "serializeObject", Enumerable.class, JsonGenerator.class, SerializationConfig.class)
+                    || declares(type, "serializeObjectProperty",
+                    BeanPropertyDefinition.class, Enumerable.class, JsonGenerator.class, SerializationConfig.class)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean declares(Class<?> type, String name, Class<?>... parameterTypes) {
+        try {
+            type.getDeclaredMethod(name, parameterTypes);
+            return true;
+        } catch (NoSuchMethodException nsme) {
+            return false;
+        } catch (SecurityException se) {
+            return true; // Cannot tell, so keep calling the method to be safe.
+        }
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + '{' + serializationMethod + '}';
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.enumerables.jackson2;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import nl.talsmasoftware.enumerables.Enumerable;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Plan for serializing one {@link Enumerable} type {@link SerializationMethod#AS_OBJECT as JSON object}
+ * with one specific {@link SerializationConfig}.
+ * <p>
+ * Everything that does not depend on the serialized value is decided once, when the plan is built:
+ * which properties to write, their accessors, their pre-serialized field names and whether <code>null</code>
+ * values are included. The serializer for a property value is resolved once per runtime type of that value.
+ *
+ * @author Sjoerd Talsma
+ */
+final class ObjectPlan {
+    /**
+     * The configuration this plan was built for.
+     */
+    final SerializationConfig config;
+
+    /**
+     * Whether <code>null</code> values are included by this plan.
+     */
+    final boolean includeNull;
+
+    private final Property[] properties;
+
+    ObjectPlan(SerializationConfig config, boolean includeNull,
+               List<BeanPropertyDefinition> definitions, SerializedValues serializedValues) {
+        this.config = config;
+        this.includeNull = includeNull;
+        final List<Property> properties = new ArrayList<Property>(definitions.size());
+        for (BeanPropertyDefinition definition : definitions) {
+            if (definition.couldSerialize()) {
+                properties.add(new Property(definition, includeNull || definition.isExplicitlyIncluded(),
+                        serializedValues));
+            }
+        }
+        this.properties = properties.toArray(new Property[properties.size()]);
+    }
+
+    /**
+     * Writes the enumerable value as JSON object.
+     *
+     * @param value    The enumerable value to write.
+     * @param jgen     The generator to write the object to.
+     * @param provider The provider for the serializers of the property values.
+     * @throws IOException when writing to the generator threw an I/O exception.
+     */
+    void write(Enumerable value, JsonGenerator jgen, SerializerProvider provider) throws IOException {
+        jgen.writeStartObject();
+        for (Property property : properties) {
+            property.write(value, jgen, provider);
+        }
+        jgen.writeEndObject();
+    }
+
+    private static final class Property {
+        private final AnnotatedMember accessor;
+        private final SerializableString name;
+        private final boolean includeNull;
+        private final SerializedValues serializedValues;
+        private volatile Resolved resolved;
+
+        private Property(BeanPropertyDefinition definition, boolean includeNull, SerializedValues serializedValues) {
+            this.accessor = definition.getAccessor();
+            this.name = new SerializedString(definition.getName());
+            this.includeNull = includeNull;
+            final boolean enumerableValue = Enumerable.class.equals(accessor.getDeclaringClass())
+                    && "getValue".equals(accessor.getName());
+            this.serializedValues = enumerableValue ? serializedValues : null;
+        }
+
+        private void write(Enumerable value, JsonGenerator jgen, SerializerProvider provider) throws IOException {
+            final Object propertyValue = accessor.getValue(value);
+            if (propertyValue == null) {
+                if (includeNull) {
+                    jgen.writeFieldName(name);
+                    provider.defaultSerializeNull(jgen);
+                }
+                return;
+            }
+            jgen.writeFieldName(name);
+            final SerializableString constant = serializedValues == null ? null : serializedValues.of(value);
+            if (constant != null) {
+                jgen.writeString(constant);
+            } else {
+                serializerFor(propertyValue.getClass(), provider).serialize(propertyValue, jgen, provider);
+            }
+        }
+
+        private JsonSerializer<Object> serializerFor(Class<?> type, SerializerProvider provider) throws IOException {
+            Resolved last = resolved;
+            if (last == null || last.type != type) {
+                resolved = last = new Resolved(type, provider.findTypedValueSerializer(type, true, null));
+            }
+            return last.serializer;
+        }
+    }
+
+    /**
+     * The serializer resolved for a runtime type of a property value.
+     */
+    private static final class Resolved {
+        private final Class<?> type;
+        private final JsonSerializer<Object> serializer;
+
+        private Resolved(Class<?> type, JsonSerializer<Object> serializer) {
+            this.type = type;
+            this.serializer = serializer;
+        }
+    }
+
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.enumerables.jackson2;
+
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import nl.talsmasoftware.enumerables.Enumerable;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Pre-built {@link SerializedString serialized values} of the constants of {@link Enumerable} types,
+ * indexed by {@link Enumerable#ordinal() ordinal}.
+ * <p>
+ * A {@link SerializedString} caches its quoted and UTF-8 encoded forms,
+ * so escaping and encoding a constant value happens only once.
+ * Each serializer has its own cache rather than a static one,
+ * so the cached enumerable types can be unloaded together with the serializer.
+ *
+ * @author Sjoerd Talsma
+ */
+final class SerializedValues {
+    /**
+     * Cache for the serialized constant values by enumerable type.
+     */
+    private final ConcurrentMap<Class<?>, SerializedString[]> cache =
+            new ConcurrentHashMap<Class<?>, SerializedString[]>();
+
+    /**
+     * @param value The enumerable value to serialize.
+     * @return The serialized value if it is a constant, or <code>null</code> otherwise.
+     */
+    SerializableString of(Enumerable value) {
+        final int ordinal = value.ordinal();
+        if (ordinal == Integer.MAX_VALUE) return null;
+        final SerializedString[] serialized = constantsOf(value.getClass());
+        return ordinal < serialized.length ? serialized[ordinal] : null;
+    }
+
+    private SerializedString[] constantsOf(Class<? extends Enumerable> type) {
+        SerializedString[] serialized = cache.get(type);
+        if (serialized == null) {
+            final Enumerable[] constants = Enumerable.values(type);
+            serialized = new SerializedString[constants.length];
+            for (int i = 0; i < constants.length; i++) {
+                serialized[i] = new SerializedString(Enumerable.print(constants[i]));
+            }
+            final SerializedString[] existing = cache.putIfAbsent(type, serialized);
+            if (existing != null) serialized = existing;
+        }
+        return serialized;
+    }
+
+}
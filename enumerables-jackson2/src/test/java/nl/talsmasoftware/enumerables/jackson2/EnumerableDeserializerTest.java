@@ -16,7 +16,9 @@
 package nl.talsmasoftware.enumerables.jackson2;
 
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.Version;
+import com.fasterxml.jackson.databind.BeanProperty;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -27,11 +29,14 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 class EnumerableDeserializerTest {
@@ -166,6 +171,58 @@ class EnumerableDeserializerTest {
         verify(jp).getTypeId();
     }
 
+    @Test
+    void testCreateContextual_cachedPerType() {
+        EnumerableDeserializer deserializer = new EnumerableDeserializer();
+        BeanProperty bigCoProperty = mock(BeanProperty.class);
+        when(bigCoProperty.getType()).thenReturn(mapper.constructType(BigCo.class));
+        BeanProperty bigCoListProperty = mock(BeanProperty.class);
+        when(bigCoListProperty.getType()).thenReturn(mapper.getTypeFactory().constructCollectionType(List.class, BigCo.class));
+
+        JsonDeserializer<?> contextual = deserializer.createContextual(null, bigCoProperty);
+        assertThat(contextual).isNotSameAs(deserializer).isInstanceOf(EnumerableDeserializer.class);
+        assertThat(deserializer.createContextual(null, bigCoProperty)).isSameAs(contextual);
+        assertThat(deserializer.createContextual(null, bigCoListProperty)).isSameAs(contextual);
+        assertThat(new EnumerableDeserializer().createContextual(null, bigCoProperty)).isNotSameAs(contextual);
+        assertThat(contextual.handledType()).isEqualTo(BigCo.class);
+    }
+
+    @Test
+    void testGetType_contextualDoesNotProbeParser() throws IOException {
+        BeanProperty bigCoProperty = mock(BeanProperty.class);
+        when(bigCoProperty.getType()).thenReturn(mapper.constructType(BigCo.class));
+        EnumerableDeserializer contextual =
+                (EnumerableDeserializer) new EnumerableDeserializer().createContextual(null, bigCoProperty);
+        JsonParser jp = mock(JsonParser.class);
+
+        assertThat(contextual.getType(jp)).isEqualTo(BigCo.class);
+        verifyNoInteractions(jp);
+    }
+
+    @Test
+    void testDeserialize_fromParserCharacters() throws IOException {
+        char[] buffer = "xxIBMxx".toCharArray();
+        JsonParser jp = mock(JsonParser.class);
+        when(jp.getCurrentToken()).thenReturn(JsonToken.VALUE_STRING);
+        when(jp.getTypeId()).thenReturn(BigCo.class);
+        when(jp.hasTextCharacters()).thenReturn(true);
+        when(jp.getTextCharacters()).thenReturn(buffer);
+        when(jp.getTextOffset()).thenReturn(2);
+        when(jp.getTextLength()).thenReturn(3);
+
+        assertThat(new EnumerableDeserializer().deserialize(jp, null)).isSameAs(BigCo.IBM);
+        verify(jp, never()).getText();
+    }
+
+    @Test
+    void testDeserialize_escapedAndUnknownStrings() throws IOException {
+        assertThat(mapper.readValue("\"\\u0049BM\"", BigCo.class)).isSameAs(BigCo.IBM);
+        assertThat(mapper.readValue("{ \"bigCo\" : { \"value\" : \"VMWare\" } }", PlainTestObject.class).getBigCo())
+                .isEqualTo(Enumerable.parse(BigCo.class, "VMWare"));
+        assertThat(mapper.readValue(mapper.getFactory().createParser("\"Apple\"".getBytes("UTF-8")), BigCo.class))
+                .isSameAs(BigCo.APPLE);
+    }
+
     static class ContainsEnumerable {
         public Enumerable member;
     }
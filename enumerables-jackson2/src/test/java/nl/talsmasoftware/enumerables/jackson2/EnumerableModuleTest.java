@@ -17,12 +17,15 @@ package nl.talsmasoftware.enumerables.jackson2;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.MappingJsonFactory;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidDefinitionException;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import nl.talsmasoftware.enumerables.Enumerable;
+import nl.talsmasoftware.enumerables.EnumerableMap;
 import nl.talsmasoftware.enumerables.jackson2.PlainTestObject.BigCo;
 import org.json.JSONException;
 import org.junit.jupiter.api.AfterEach;
@@ -32,7 +35,10 @@ import org.skyscreamer.jsonassert.JSONAssert;
 
 import java.io.IOException;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
 
 import static nl.talsmasoftware.enumerables.jackson2.EnumerableDeserializerTest.jsonString;
@@ -207,6 +213,44 @@ class EnumerableModuleTest {
         assertThat(actual).isEqualTo(new PlainTestObject(BigCo.MICROSOFT));
     }
 
+    @Test
+    void testSerialize_mapKeys() throws IOException {
+        Map<BigCo, Integer> map = new LinkedHashMap<>();
+        map.put(BigCo.IBM, 1);
+        map.put(Enumerable.parse(BigCo.class, "VMWare"), 2);
+
+        assertThat(mapper.writeValueAsString(map)).isEqualTo("{\"IBM\":1,\"VMWare\":2}");
+        assertThat(mapperAsObject.writeValueAsString(map)).isEqualTo("{\"IBM\":1,\"VMWare\":2}");
+        assertThat(new String(mapper.writeValueAsBytes(map), "UTF-8")).isEqualTo("{\"IBM\":1,\"VMWare\":2}");
+    }
+
+    @Test
+    void testDeserialize_mapKeys() throws IOException {
+        Map<BigCo, Integer> map = mapper.readValue("{\"IBM\":1,\"VMWare\":2}", new TypeReference<Map<BigCo, Integer>>() {
+        });
+
+        assertThat(map).containsEntry(BigCo.IBM, 1).containsEntry(Enumerable.parse(BigCo.class, "VMWare"), 2);
+        assertThat(map.keySet()).first().isSameAs(BigCo.IBM);
+    }
+
+    @Test
+    void testDeserialize_containerMapKeys() {
+        assertThatThrownBy(() -> mapper.readValue("{\"IBM\":1}", new TypeReference<Map<List<BigCo>, Integer>>() {
+        })).isInstanceOf(InvalidDefinitionException.class);
+    }
+
+    @Test
+    void testDeserialize_enumerableMap() throws IOException {
+        EnumerableMap<BigCo, Integer> map = mapper.readValue("{\"VMWare\":2,\"IBM\":1}",
+                new TypeReference<EnumerableMap<BigCo, Integer>>() {
+                });
+
+        assertThat(map.getKeyType()).isEqualTo(BigCo.class);
+        assertThat(map).containsEntry(BigCo.IBM, 1).containsEntry(Enumerable.parse(BigCo.class, "VMWare"), 2);
+        assertThat(map.keySet()).first().isSameAs(BigCo.IBM);
+        assertThat(mapper.writeValueAsString(map)).isEqualTo("{\"IBM\":1,\"VMWare\":2}");
+    }
+
     @Test
     void testHashcode_equals() {
         Set<EnumerableModule> set = new HashSet<>();
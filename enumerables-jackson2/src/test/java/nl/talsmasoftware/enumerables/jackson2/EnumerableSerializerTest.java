@@ -16,8 +16,13 @@
 package nl.talsmasoftware.enumerables.jackson2;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import nl.talsmasoftware.enumerables.Enumerable;
 import nl.talsmasoftware.enumerables.jackson2.PlainTestObject.BigCo;
@@ -25,6 +30,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.io.StringWriter;
 
 import static com.fasterxml.jackson.core.Version.unknownVersion;
 import static nl.talsmasoftware.enumerables.jackson2.EnumerableDeserializerTest.jsonString;
@@ -100,6 +106,59 @@ class EnumerableSerializerTest {
                 .isEqualTo("{\"value\":\"THIRTEEN\",\"number\":null}");
     }
 
+    @Test
+    void testSerialize_overriddenPropertySerialization() throws JsonProcessingException {
+        mapper.registerModule(new SimpleModule().addSerializer(Enumerable.class, new EnumerableSerializer(AS_OBJECT) {
+            @Override
+            protected void serializeObjectProperty(BeanPropertyDefinition property, Enumerable value,
+                                                   JsonGenerator jgen, SerializationConfig config) throws IOException {
+                if (!"number".equals(property.getName())) super.serializeObjectProperty(property, value, jgen, config);
+            }
+        }));
+
+        assertThat(mapper.writeValueAsString(Numbers.ONE)).isEqualTo("{\"value\":\"ONE\"}");
+    }
+
+    @Test
+    void testSerialize_jsonObjectPerConfiguration() throws JsonProcessingException {
+        ObjectMapper upperCamel = new ObjectMapper()
+                .setPropertyNamingStrategy(PropertyNamingStrategies.UPPER_CAMEL_CASE)
+                .registerModule(new SimpleModule().addSerializer(Enumerable.class, new EnumerableSerializer(AS_OBJECT)));
+        mapper.registerModule(new SimpleModule().addSerializer(Enumerable.class, new EnumerableSerializer(AS_OBJECT)));
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(mapper.writeValueAsString(Numbers.TEN)).isEqualTo("{\"value\":\"TEN\",\"number\":10}");
+            assertThat(upperCamel.writeValueAsString(Numbers.TEN)).isEqualTo("{\"Value\":\"TEN\",\"Number\":10}");
+            assertThat(upperCamel.writeValueAsString(Enumerable.parse(Numbers.class, "ELEVEN")))
+                    .isEqualTo("{\"Value\":\"ELEVEN\",\"Number\":null}");
+        }
+    }
+
+    @Test
+    void testSerialize_jsonObjectWithoutCodec() throws IOException {
+        mapper.registerModule(new SimpleModule().addSerializer(Enumerable.class, new EnumerableSerializer(AS_OBJECT)));
+        StringWriter writer = new StringWriter();
+        JsonGenerator jgen = new JsonFactory().createGenerator(writer);
+
+        mapper.writeValue(jgen, Numbers.ONE);
+        assertThat(writer).hasToString("{\"value\":\"ONE\",\"number\":1}");
+    }
+
+    @Test
+    void testSerialize_preEncodedConstants() throws IOException {
+        mapper.registerModule(new SimpleModule().addSerializer(Enumerable.class, new EnumerableSerializer()));
+
+        assertThat(mapper.writeValueAsString(Quoted.QUOTES)).isEqualTo("\"say \\\"hi\\\"\"");
+        assertThat(new String(mapper.writeValueAsBytes(Quoted.ACCENT), "UTF-8")).isEqualTo("\"caf\u00e9\"");
+        assertThat(new String(mapper.writeValueAsBytes(Enumerable.parse(Quoted.class, "na\u00efve")), "UTF-8"))
+                .isEqualTo("\"na\u00efve\"");
+
+        SerializedValues serializedValues = new SerializedValues();
+        assertThat(serializedValues.of(Quoted.ACCENT)).isSameAs(serializedValues.of(Quoted.ACCENT));
+        assertThat(serializedValues.of(Enumerable.parse(Quoted.class, "other"))).isNull();
+        assertThat(new SerializedValues().of(Quoted.ACCENT)).isNotSameAs(serializedValues.of(Quoted.ACCENT));
+    }
+
     @Test
     void testToString() {
         assertThat(new EnumerableSerializer(AS_OBJECT)).hasToString("EnumerableSerializer{As object}");
@@ -108,4 +167,13 @@ class EnumerableSerializerTest {
                 .hasToString("EnumerableSerializer{As object, except [PlainTestObject$BigCo]}");
     }
 
+    public static final class Quoted extends Enumerable {
+        public static final Quoted QUOTES = new Quoted("say \"hi\"");
+        public static final Quoted ACCENT = new Quoted("caf\u00e9");
+
+        private Quoted(String value) {
+            super(value);
+        }
+    }
+
 }
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.enumerables.micrometer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import nl.talsmasoftware.enumerables.Enumerable;
+
+/**
+ * Binds the {@link Enumerable} metrics to an application-specific {@link MeterRegistry}.
+ * <p>
+ * Once a registry is bound, the {@link MicrometerEnumerableMetrics discovered provider} records in the bound
+ * registries instead of the {@link Metrics#globalRegistry global registry}.
+ * Meters of enumerable types that were already initialized are added to the bound registry as well.
+ * Frameworks that bind all {@link MeterBinder} beans to their registry (e.g. Spring Boot) only need an instance.
+ *
+ * @author Sjoerd Talsma
+ */
+public class EnumerableMeterBinder implements MeterBinder {
+
+    public void bindTo(MeterRegistry registry) {
+        if (registry == null) throw new IllegalArgumentException("Meter registry is <null>.");
+        MicrometerEnumerableMetrics.bind(registry);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName();
+    }
+
+}
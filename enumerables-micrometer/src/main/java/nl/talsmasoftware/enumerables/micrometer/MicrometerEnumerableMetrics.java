@@ -0,0 +1,146 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.enumerables.micrometer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import nl.talsmasoftware.enumerables.Enumerable;
+import nl.talsmasoftware.enumerables.EnumerableMetrics;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records {@link Enumerable} metrics in a Micrometer {@link MeterRegistry}.
+ * <p>
+ * This provider is discovered automatically when this module is on the classpath.
+ * It records in the {@link Metrics#globalRegistry global registry}, unless application-specific registries are
+ * bound with an {@link EnumerableMeterBinder}. In that case it records in the bound registries only.
+ * Exposing the meters (e.g. over JMX with a <code>JmxMeterRegistry</code> from <code>micrometer-registry-jmx</code>)
+ * is left to the registries themselves.
+ * <p>
+ * The following meters are registered for every enumerable type, tagged with the <code>type</code> class name:
+ * <ul>
+ * <li><code>enumerables.parsed</code>: counter of parsed values, tagged with <code>result</code>
+ * <code>constant</code> or <code>unknown</code>.</li>
+ * <li><code>enumerables.valueof.misses</code>: counter of names that
+ * {@link Enumerable#valueOf(Class, CharSequence) valueOf} found no constant for.</li>
+ * <li><code>enumerables.initialization</code>: timer of the initialization of the type.</li>
+ * </ul>
+ *
+ * @author Sjoerd Talsma
+ */
+public class MicrometerEnumerableMetrics extends EnumerableMetrics {
+    /**
+     * The registries the discovered provider records in: the global registry until other registries are bound.
+     */
+    private static final CompositeMeterRegistry REGISTRIES = new CompositeMeterRegistry();
+    private static boolean bound = false;
+
+    static {
+        REGISTRIES.add(Metrics.globalRegistry);
+    }
+
+    private final MeterRegistry registry;
+
+    /**
+     * Constructor for service discovery, recording in the global registry or the
+     * {@link EnumerableMeterBinder bound registries}.
+     */
+    public MicrometerEnumerableMetrics() {
+        this(REGISTRIES);
+    }
+
+    /**
+     * @param registry The registry to record the metrics in.
+     */
+    public MicrometerEnumerableMetrics(MeterRegistry registry) {
+        if (registry == null) throw new IllegalArgumentException("Meter registry is <null>.");
+        this.registry = registry;
+    }
+
+    /**
+     * Binds a registry to record the metrics of the discovered provider in.
+     * The first bound registry replaces the global registry, so meters are not recorded twice
+     * if the bound registry is also part of the global registry.
+     *
+     * @param registry The registry to bind.
+     */
+    static synchronized void bind(MeterRegistry registry) {
+        if (!bound) {
+            REGISTRIES.remove(Metrics.globalRegistry);
+            bound = true;
+        }
+        REGISTRIES.add(registry);
+    }
+
+    /**
+     * Removes all bound registries and records in the global registry again.
+     */
+    static synchronized void unbindAll() {
+        for (MeterRegistry registry : new ArrayList<MeterRegistry>(REGISTRIES.getRegistries())) {
+            REGISTRIES.remove(registry);
+        }
+        REGISTRIES.add(Metrics.globalRegistry);
+        bound = false;
+    }
+
+    @Override
+    public Recorder recorderFor(Class<? extends Enumerable> type) {
+        return new MeterRecorder(registry, Tags.of("type", type.getName()));
+    }
+
+    private static final class MeterRecorder extends Recorder {
+        private final Counter constants, unknowns, valueOfMisses;
+        private final Timer initialization;
+
+        private MeterRecorder(MeterRegistry registry, Tags tags) {
+            this.constants = Counter.builder("enumerables.parsed").tags(tags).tag("result", "constant")
+                    .description("Parsed values that resolved to a constant").register(registry);
+            this.unknowns = Counter.builder("enumerables.parsed").tags(tags).tag("result", "unknown")
+                    .description("Parsed values that did not resolve to a constant").register(registry);
+            this.valueOfMisses = Counter.builder("enumerables.valueof.misses").tags(tags)
+                    .description("Names that no constant was found for").register(registry);
+            this.initialization = Timer.builder("enumerables.initialization").tags(tags)
+                    .description("Initialization of the enumerable type").register(registry);
+        }
+
+        @Override
+        public void initialized(long nanos) {
+            initialization.record(nanos, TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public void constantParsed() {
+            constants.increment();
+        }
+
+        @Override
+        public void unknownParsed() {
+            unknowns.increment();
+        }
+
+        @Override
+        public void valueOfMissed() {
+            valueOfMisses.increment();
+        }
+    }
+
+}
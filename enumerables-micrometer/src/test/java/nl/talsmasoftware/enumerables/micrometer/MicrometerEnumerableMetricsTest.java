@@ -0,0 +1,149 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.enumerables.micrometer;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import nl.talsmasoftware.enumerables.Enumerable;
+import nl.talsmasoftware.enumerables.EnumerableMetrics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MicrometerEnumerableMetricsTest {
+    SimpleMeterRegistry registry;
+
+    public static final class Planet extends Enumerable {
+        public static final Planet MERCURY = new Planet("Mercury");
+        public static final Planet VENUS = new Planet("Venus");
+
+        private Planet(String value) {
+            super(value);
+        }
+    }
+
+    public static final class Moon extends Enumerable {
+        public static final Moon LUNA = new Moon("Luna");
+
+        private Moon(String value) {
+            super(value);
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        MicrometerEnumerableMetrics.unbindAll();
+        Metrics.removeRegistry(registry);
+        registry.close();
+    }
+
+    @Test
+    void testRecorder() {
+        EnumerableMetrics.Recorder recorder = new MicrometerEnumerableMetrics(registry).recorderFor(Planet.class);
+
+        recorder.initialized(TimeUnit.MILLISECONDS.toNanos(3));
+        recorder.constantParsed();
+        recorder.constantParsed();
+        recorder.unknownParsed();
+        recorder.valueOfMissed();
+
+        String type = Planet.class.getName();
+        assertThat(registry.get("enumerables.parsed").tag("type", type).tag("result", "constant").counter().count())
+                .isEqualTo(2.0);
+        assertThat(registry.get("enumerables.parsed").tag("type", type).tag("result", "unknown").counter().count())
+                .isEqualTo(1.0);
+        assertThat(registry.get("enumerables.valueof.misses").tag("type", type).counter().count()).isEqualTo(1.0);
+        assertThat(registry.get("enumerables.initialization").tag("type", type).timer()
+                .totalTime(TimeUnit.MILLISECONDS)).isEqualTo(3.0);
+    }
+
+    @Test
+    void testDiscoveredInGlobalRegistry() {
+        Metrics.addRegistry(registry);
+
+        Enumerable.parse(Planet.class, "Venus");
+        Enumerable.parse(Planet.class, "Pluto");
+        assertThatThrownBy(() -> Enumerable.valueOf(Planet.class, "PLUTO"))
+                .isInstanceOf(Enumerable.ConstantNotFoundException.class);
+
+        String type = Planet.class.getName();
+        assertThat(registry.get("enumerables.parsed").tag("type", type).tag("result", "constant").counter().count())
+                .isEqualTo(1.0);
+        assertThat(registry.get("enumerables.parsed").tag("type", type).tag("result", "unknown").counter().count())
+                .isEqualTo(1.0);
+        assertThat(registry.get("enumerables.valueof.misses").tag("type", type).counter().count()).isEqualTo(1.0);
+        assertThat(registry.get("enumerables.initialization").tag("type", type).timer().count()).isEqualTo(1L);
+    }
+
+    @Test
+    void testBoundRegistry() {
+        SimpleMeterRegistry global = new SimpleMeterRegistry();
+        Metrics.addRegistry(global);
+        try {
+            new EnumerableMeterBinder().bindTo(registry);
+
+            Enumerable.parse(Moon.class, "Luna");
+            Enumerable.parse(Moon.class, "Phobos");
+
+            String type = Moon.class.getName();
+            assertThat(registry.get("enumerables.parsed").tag("type", type).tag("result", "constant").counter().count())
+                    .isEqualTo(1.0);
+            assertThat(registry.get("enumerables.parsed").tag("type", type).tag("result", "unknown").counter().count())
+                    .isEqualTo(1.0);
+            assertThat(global.find("enumerables.parsed").tag("type", type).counters()).isEmpty();
+        } finally {
+            Metrics.removeRegistry(global);
+        }
+    }
+
+    @Test
+    void testBoundRegistryAlsoInGlobalRegistry() {
+        Metrics.addRegistry(registry);
+        new EnumerableMeterBinder().bindTo(registry);
+
+        Enumerable.valueOf(Moon.class, "LUNA");
+        assertThatThrownBy(() -> Enumerable.valueOf(Moon.class, "DEIMOS"))
+                .isInstanceOf(Enumerable.ConstantNotFoundException.class);
+
+        assertThat(registry.get("enumerables.valueof.misses").tag("type", Moon.class.getName()).counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void testBindNullRegistry() {
+        assertThatThrownBy(() -> new EnumerableMeterBinder().bindTo(null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("registry");
+    }
+
+    @Test
+    void testNullRegistry() {
+        assertThatThrownBy(() -> new MicrometerEnumerableMetrics(null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("registry");
+    }
+
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.enumerables.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Annotation processor generating an {@code EnumerableConstants} companion class for every concrete
+ * {@code Enumerable} subtype that is compiled.
+ * <p>
+ * The companion class contains the public constants of the enumerable type and their names,
+ * plus a factory calling the String constructor if that is accessible from the same package.
+ * The factory cannot be generated for <code>private</code> constructors, so non-constant values of such types are
+ * still created by reflection.
+ * At runtime, the enumerables library uses the companion instead of reflecting the constants upon first use.
+ * <p>
+ * Enumerable types are recognized by type rather than by annotation, so no changes to the enumerable types are needed.
+ * Private nested types and non-static inner classes are skipped.
+ * <p>
+ * The processor also lists all processed enumerable types in a <code>META-INF/enumerables/types</code> index,
+ * which can be used to preload the types at startup.
+ * Note that with incremental compilation, the index only lists the types that were compiled last.
+ *
+ * @author Sjoerd Talsma
+ */
+@SupportedAnnotationTypes("*")
+public class EnumerableConstantsProcessor extends AbstractProcessor {
+    private static final String ENUMERABLE = "nl.talsmasoftware.enumerables.Enumerable";
+    private static final String ENUMERABLE_CONSTANTS = "nl.talsmasoftware.enumerables.EnumerableConstants";
+    private static final String SUFFIX = "_EnumerableConstants";
+    private static final String TYPE_INDEX = "META-INF/enumerables/types";
+
+    private final Set<String> generated = new HashSet<>();
+    private final Set<String> indexed = new LinkedHashSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        final TypeElement enumerable = processingEnv.getElementUtils().getTypeElement(ENUMERABLE);
+        if (enumerable != null) {
+            final TypeMirror enumerableType = processingEnv.getTypeUtils().erasure(enumerable.asType());
+            for (Element element : roundEnv.getRootElements()) {
+                process(element, enumerableType);
+            }
+        }
+        if (roundEnv.processingOver() && !indexed.isEmpty()) writeTypeIndex();
+        return false; // Never claim any annotations.
+    }
+
+    private void process(Element element, TypeMirror enumerableType) {
+        if (element.getKind() != ElementKind.CLASS || element.getModifiers().contains(Modifier.PRIVATE)) return;
+        final TypeElement type = (TypeElement) element;
+        if (type.getNestingKind() == NestingKind.MEMBER && !type.getModifiers().contains(Modifier.STATIC)) return;
+        if (isConcreteEnumerable(type, enumerableType)) generateConstants(type);
+        for (TypeElement nested : ElementFilter.typesIn(type.getEnclosedElements())) {
+            process(nested, enumerableType);
+        }
+    }
+
+    private boolean isConcreteEnumerable(TypeElement type, TypeMirror enumerableType) {
+        return !type.getModifiers().contains(Modifier.ABSTRACT)
+                && type.getTypeParameters().isEmpty()
+                && processingEnv.getTypeUtils().isSubtype(type.asType(), enumerableType);
+    }
+
+    private void generateConstants(TypeElement type) {
+        final String packageName = packageOf(type).getQualifiedName().toString();
+        final String binaryName = processingEnv.getElementUtils().getBinaryName(type).toString();
+        final String companionName = companionName(binaryName);
+        if (!generated.add(companionName)) return;
+        indexed.add(binaryName);
+
+        final List<String> names = new ArrayList<>();
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            final Set<Modifier> modifiers = field.getModifiers();
+            if (modifiers.contains(Modifier.PUBLIC) && modifiers.contains(Modifier.STATIC)
+                    && modifiers.contains(Modifier.FINAL)
+                    && processingEnv.getTypeUtils().isAssignable(field.asType(), type.asType())) {
+                names.add(field.getSimpleName().toString());
+            }
+        }
+
+        try (Writer writer = processingEnv.getFiler().createSourceFile(companionName, type).openWriter()) {
+            writer.write(source(type, packageName, companionName.substring(packageName.isEmpty() ? 0
+                    : packageName.length() + 1), names, hasAccessibleStringConstructor(type)));
+        } catch (IOException ioe) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Could not generate " + companionName + ": " + ioe.getMessage(), type);
+        }
+    }
+
+    private void writeTypeIndex() {
+        try (Writer writer = processingEnv.getFiler()
+                .createResource(StandardLocation.CLASS_OUTPUT, "", TYPE_INDEX).openWriter()) {
+            writer.write("# Generated by " + EnumerableConstantsProcessor.class.getName() + "\n");
+            for (String typeName : indexed) {
+                writer.write(typeName);
+                writer.write('\n');
+            }
+        } catch (IOException ioe) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    "Could not write " + TYPE_INDEX + ": " + ioe.getMessage());
+        }
+    }
+
+    private boolean hasAccessibleStringConstructor(TypeElement type) {
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+            if (!constructor.getModifiers().contains(Modifier.PRIVATE)
+                    && constructor.getThrownTypes().isEmpty()
+                    && constructor.getParameters().size() == 1
+                    && String.class.getName().equals(constructor.getParameters().get(0).asType().toString())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Escapes <code>'_'</code> as <code>_1</code> and <code>'$'</code> as <code>_0</code> in the simple part of the
+     * binary name, so e.g. <code>a.B$C</code> and <code>a.B_C</code> get different companion names.
+     * Must match <code>EnumerableConstants.companionName</code>.
+     */
+    static String companionName(String binaryName) {
+        final int simpleStart = binaryName.lastIndexOf('.') + 1;
+        final StringBuilder companion = new StringBuilder(binaryName.substring(0, simpleStart));
+        for (char ch : binaryName.substring(simpleStart).toCharArray()) {
+            if (ch == '_') companion.append("_1");
+            else if (ch == '$') companion.append("_0");
+            else companion.append(ch);
+        }
+        return companion.append(SUFFIX).toString();
+    }
+
+    private static PackageElement packageOf(Element element) {
+        while (!(element instanceof PackageElement)) element = element.getEnclosingElement();
+        return (PackageElement) element;
+    }
+
+    private static String source(TypeElement type, String packageName, String simpleName, List<String> names,
+                                 boolean factory) {
+        final String typeName = type.getQualifiedName().toString();
+        final StringBuilder source = new StringBuilder();
+        source.append("// Generated by ").append(EnumerableConstantsProcessor.class.getName())
+                .append(", do not edit.\n");
+        if (!packageName.isEmpty()) source.append("package ").append(packageName).append(";\n");
+        source.append('\n')
+                .append("public final class ").append(simpleName)
+                .append(" extends ").append(ENUMERABLE_CONSTANTS).append('<').append(typeName).append("> {\n")
+                .append('\n')
+                .append("    public ").append(simpleName).append("() {\n")
+                .append("    }\n")
+                .append('\n')
+                .append("    @Override\n")
+                .append("    public ").append(typeName).append("[] constants() {\n")
+                .append("        return new ").append(typeName).append("[]{");
+        for (int i = 0; i < names.size(); i++) {
+            source.append(i == 0 ? "\n" : ",\n").append("                ").append(typeName).append('.')
+                    .append(names.get(i));
+        }
+        source.append(names.isEmpty() ? "};\n" : "\n        };\n")
+                .append("    }\n")
+                .append('\n')
+                .append("    @Override\n")
+                .append("    public java.lang.String[] names() {\n")
+                .append("        return new java.lang.String[]{");
+        for (int i = 0; i < names.size(); i++) {
+            source.append(i == 0 ? "" : ", ").append('"').append(names.get(i)).append('"');
+        }
+        source.append("};\n")
+                .append("    }\n");
+        if (factory) {
+            source.append('\n')
+                    .append("    @Override\n")
+                    .append("    public ").append(typeName).append(" create(java.lang.String value) {\n")
+                    .append("        return new ").append(typeName).append("(value);\n")
+                    .append("    }\n");
+        }
+        return source.append("}\n").toString();
+    }
+
+}
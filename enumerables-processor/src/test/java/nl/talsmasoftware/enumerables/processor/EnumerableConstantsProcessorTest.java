@@ -0,0 +1,184 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.enumerables.processor;
+
+import nl.talsmasoftware.enumerables.Enumerable;
+import nl.talsmasoftware.enumerables.EnumerableConstants;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EnumerableConstantsProcessorTest {
+
+    @TempDir
+    Path output;
+
+    static JavaFileObject source(String className, String code) {
+        return new SimpleJavaFileObject(URI.create("string:///" + className.replace('.', '/') + ".java"),
+                JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return code;
+            }
+        };
+    }
+
+    ClassLoader compile(JavaFileObject... sources) throws Exception {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager files = compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8)) {
+            files.setLocation(StandardLocation.CLASS_OUTPUT, Collections.singleton(output.toFile()));
+            files.setLocation(StandardLocation.SOURCE_OUTPUT, Collections.singleton(output.toFile()));
+            Boolean success = compiler.getTask(null, files, diagnostics,
+                    Arrays.asList("-classpath", System.getProperty("java.class.path"),
+                            "-processor", EnumerableConstantsProcessor.class.getName()),
+                    null, Arrays.asList(sources)).call();
+            assertThat(success).as(diagnostics.getDiagnostics().toString()).isTrue();
+        }
+        return new URLClassLoader(new URL[]{output.toUri().toURL()}, getClass().getClassLoader());
+    }
+
+    String generated(String companionName) throws Exception {
+        Path file = output.resolve(companionName.replace('.', File.separatorChar) + ".java");
+        assertThat(file).exists();
+        return new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void testGeneratesConstantsForTopLevelType() throws Exception {
+        ClassLoader loader = compile(source("test.Color", "package test;\n"
+                + "public final class Color extends nl.talsmasoftware.enumerables.Enumerable {\n"
+                + "    public static final Color RED = new Color(\"red\");\n"
+                + "    public static final Color GREEN = new Color(\"green\");\n"
+                + "    public static final String NOT_A_CONSTANT = \"blue\";\n"
+                + "    static final Color NOT_PUBLIC = new Color(\"yellow\");\n"
+                + "    private Color(String value) { super(value); }\n"
+                + "}\n"));
+
+        String source = generated("test.Color_EnumerableConstants");
+        assertThat(source).contains("public final class Color_EnumerableConstants")
+                .contains("test.Color.RED", "test.Color.GREEN", "\"RED\", \"GREEN\"")
+                .doesNotContain("NOT_A_CONSTANT", "NOT_PUBLIC", "create(");
+
+        @SuppressWarnings("unchecked")
+        Class<Enumerable> color = (Class<Enumerable>) loader.loadClass("test.Color");
+        EnumerableConstants<?> constants = (EnumerableConstants<?>) loader
+                .loadClass("test.Color_EnumerableConstants").getConstructor().newInstance();
+        assertThat(constants.names()).containsExactly("RED", "GREEN");
+        assertThat(Enumerable.values(color)).containsExactly(constants.constants());
+        assertThat(Enumerable.valueOf(color, "GREEN").getValue()).isEqualTo("green");
+        assertThat(Enumerable.parse(color, "blue").getValue()).isEqualTo("blue");
+    }
+
+    @Test
+    void testGeneratesFactoryForNestedTypeWithAccessibleConstructor() throws Exception {
+        ClassLoader loader = compile(source("test.Outer", "package test;\n"
+                + "public class Outer {\n"
+                + "    public static final class Size extends nl.talsmasoftware.enumerables.Enumerable {\n"
+                + "        public static final Size SMALL = new Size(\"S\");\n"
+                + "        Size(String value) { super(value); }\n"
+                + "    }\n"
+                + "    private static final class Hidden extends nl.talsmasoftware.enumerables.Enumerable {\n"
+                + "        public static final Hidden HIDDEN = new Hidden(\"hidden\");\n"
+                + "        private Hidden(String value) { super(value); }\n"
+                + "    }\n"
+                + "    public static abstract class Abstract extends nl.talsmasoftware.enumerables.Enumerable {\n"
+                + "        protected Abstract(String value) { super(value); }\n"
+                + "    }\n"
+                + "}\n"));
+
+        assertThat(generated("test.Outer_0Size_EnumerableConstants"))
+                .contains("test.Outer.Size.SMALL")
+                .contains("public test.Outer.Size create(java.lang.String value)");
+        assertThat(output.resolve("test/Outer_0Hidden_EnumerableConstants.java")).doesNotExist();
+        assertThat(output.resolve("test/Outer_0Abstract_EnumerableConstants.java")).doesNotExist();
+
+        @SuppressWarnings("unchecked")
+        Class<Enumerable> size = (Class<Enumerable>) loader.loadClass("test.Outer$Size");
+        assertThat(Enumerable.values(size)).hasSize(1);
+        assertThat(Enumerable.parse(size, "XL").getValue()).isEqualTo("XL");
+    }
+
+    @Test
+    void testCompanionNamesDoNotCollide() throws Exception {
+        ClassLoader loader = compile(source("test.B", "package test;\n"
+                        + "public class B {\n"
+                        + "    public static final class C extends nl.talsmasoftware.enumerables.Enumerable {\n"
+                        + "        public static final C NESTED = new C(\"nested\");\n"
+                        + "        private C(String value) { super(value); }\n"
+                        + "    }\n"
+                        + "}\n"),
+                source("test.B_C", "package test;\n"
+                        + "public final class B_C extends nl.talsmasoftware.enumerables.Enumerable {\n"
+                        + "    public static final B_C TOP_LEVEL = new B_C(\"top-level\");\n"
+                        + "    private B_C(String value) { super(value); }\n"
+                        + "}\n"));
+
+        assertThat(generated("test.B_0C_EnumerableConstants")).contains("test.B.C.NESTED");
+        assertThat(generated("test.B_1C_EnumerableConstants")).contains("test.B_C.TOP_LEVEL");
+        @SuppressWarnings("unchecked")
+        Class<Enumerable> nested = (Class<Enumerable>) loader.loadClass("test.B$C");
+        @SuppressWarnings("unchecked")
+        Class<Enumerable> topLevel = (Class<Enumerable>) loader.loadClass("test.B_C");
+        assertThat(Enumerable.values(nested)).extracting(Enumerable::getValue).containsExactly("nested");
+        assertThat(Enumerable.values(topLevel)).extracting(Enumerable::getValue).containsExactly("top-level");
+    }
+
+    @Test
+    void testWritesTypeIndex() throws Exception {
+        compile(source("test.Size", "package test;\n"
+                        + "public final class Size extends nl.talsmasoftware.enumerables.Enumerable {\n"
+                        + "    private Size(String value) { super(value); }\n"
+                        + "    public static final class Nested extends nl.talsmasoftware.enumerables.Enumerable {\n"
+                        + "        private Nested(String value) { super(value); }\n"
+                        + "    }\n"
+                        + "}\n"),
+                source("test.NotEnumerable", "package test;\npublic class NotEnumerable {}\n"));
+
+        assertThat(Files.readAllLines(output.resolve("META-INF/enumerables/types"), StandardCharsets.UTF_8))
+                .filteredOn(line -> !line.startsWith("#"))
+                .containsExactly("test.Size", "test.Size$Nested");
+    }
+
+    @Test
+    void testTypeWithoutConstants() throws Exception {
+        compile(source("Empty", "public final class Empty extends nl.talsmasoftware.enumerables.Enumerable {\n"
+                + "    private Empty(String value) { super(value); }\n"
+                + "}\n"));
+        assertThat(generated("Empty_EnumerableConstants"))
+                .doesNotContain("package")
+                .contains("return new Empty[]{};");
+    }
+
+}
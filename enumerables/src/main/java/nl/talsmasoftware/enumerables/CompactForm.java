@@ -0,0 +1,111 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.enumerables;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+
+/**
+ * Serialized form of enumerable types annotated with {@link CompactSerialization}.
+ * <p>
+ * The form consists of the enumerable type, followed by the ordinal plus one as an unsigned variable-length integer.
+ * A constant is followed by the fingerprint of the constants of the type and its value,
+ * a non-constant value (written as ordinal zero) by its value only.
+ * The value of a constant is only needed if the constants of the type changed since it was serialized.
+ *
+ * @author Sjoerd Talsma
+ * @see CompactSerialization
+ */
+final class CompactForm implements Externalizable {
+    private static final long serialVersionUID = 1L;
+
+    private Class<?> type;
+    private int ordinal;
+    private int fingerprint;
+    private String value;
+    private transient Enumerable resolved;
+
+    /**
+     * Constructor for deserialization.
+     */
+    public CompactForm() {
+    }
+
+    CompactForm(Class<?> type, int ordinal, int fingerprint, String value) {
+        this.type = type;
+        this.ordinal = ordinal;
+        this.fingerprint = fingerprint;
+        this.value = value;
+    }
+
+    static CompactForm of(Enumerable enumerable, TypeMetadata<?> metadata) {
+        final int ordinal = enumerable.ordinal();
+        return ordinal == Integer.MAX_VALUE
+                ? new CompactForm(metadata.type, -1, 0, enumerable.getValue())
+                : new CompactForm(metadata.type, ordinal, metadata.fingerprint, enumerable.getValue());
+    }
+
+    public void writeExternal(ObjectOutput out) throws IOException {
+        out.writeObject(type);
+        for (int remaining = ordinal + 1; ; remaining >>>= 7) {
+            if ((remaining & ~0x7F) == 0) {
+                out.writeByte(remaining);
+                break;
+            }
+            out.writeByte((remaining & 0x7F) | 0x80);
+        }
+        if (ordinal >= 0) out.writeInt(fingerprint);
+        out.writeObject(value);
+    }
+
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
+        final Object read = in.readObject();
+        if (!(read instanceof Class) || !Enumerable.class.isAssignableFrom((Class<?>) read)) {
+            throw new InvalidObjectException("Not an enumerable type: " + read + ".");
+        }
+        final Class<? extends Enumerable> enumerableType = ((Class<?>) read).asSubclass(Enumerable.class);
+        int encoded = 0;
+        for (int shift = 0; ; shift += 7) {
+            final int b = in.readUnsignedByte();
+            encoded |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) break;
+            else if (shift >= 28) throw new InvalidObjectException("Malformed ordinal of " + read + ".");
+        }
+        type = enumerableType;
+        ordinal = encoded - 1;
+        if (ordinal >= 0) fingerprint = in.readInt();
+        value = (String) in.readObject();
+        if (value == null) throw new InvalidObjectException("Missing value of " + enumerableType.getName() + ".");
+        final TypeMetadata<? extends Enumerable> metadata = Enumerable._metadata(enumerableType);
+        if (ordinal >= 0 && fingerprint == metadata.fingerprint && ordinal < metadata.constants.length) {
+            resolved = metadata.constants[ordinal];
+        } else {
+            // Non-constant, or the constants changed since serialization: resolve by value instead.
+            resolved = Enumerable._deserialize(metadata, value);
+        }
+    }
+
+    /**
+     * @return The deserialized enumerable.
+     */
+    private Object readResolve() {
+        return resolved;
+    }
+
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.enumerables;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Makes Java serialization of an enumerable type write a compact form instead of the object itself.
+ * <p>
+ * A constant is written as a reference to its type and its {@link Enumerable#ordinal() ordinal},
+ * together with a fingerprint of the constants of the type and the value of the constant.
+ * Upon deserialization, the constant is looked up by ordinal directly.
+ * If the constants of the type were changed in the meantime, the fingerprint no longer matches and the constant
+ * is looked up by its value instead, so values serialized before a constant was added can still be read.
+ * <p>
+ * Non-constant values are written as their type and value, and are restored from their value upon deserialization.
+ * Therefore, only annotate types that can be completely restored from their value.
+ *
+ * @author Sjoerd Talsma
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface CompactSerialization {
+}
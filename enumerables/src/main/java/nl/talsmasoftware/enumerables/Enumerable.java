@@ -15,26 +15,21 @@
  */
 package nl.talsmasoftware.enumerables;
 
+import java.io.ObjectStreamException;
 import java.io.Serializable;
 import java.lang.reflect.Array;
-import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.Callable;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 
 import static java.lang.Integer.signum;
-import static java.lang.reflect.Modifier.isFinal;
-import static java.lang.reflect.Modifier.isPublic;
-import static java.lang.reflect.Modifier.isStatic;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptySet;
-import static java.util.Collections.singleton;
 import static java.util.Collections.unmodifiableSet;
 
 /**
@@ -145,7 +140,10 @@ public abstract class Enumerable implements Comparable<Enumerable>, Serializable
      */
     public int compareTo(Enumerable other) {
         if (other == null) throw new NullPointerException("Cannot compare with enumerable <null>.");
-        int comparison = getClass().getName().compareTo(other.getClass().getName());
+        if (this == other) return 0;
+        final Class<?> type = getClass(), otherType = other.getClass();
+        // Class names only need comparing for distinct classes.
+        int comparison = type == otherType ? 0 : type.getName().compareTo(otherType.getName());
         if (comparison == 0) {
             final int ordinal = ordinal();
             comparison = ordinal - other.ordinal();
@@ -161,13 +159,20 @@ public abstract class Enumerable implements Comparable<Enumerable>, Serializable
     /**
      * Equality is implemented as either instance equality (which happens a lot with constants)
      * or otherwise a zero {@link #compareTo(Enumerable)} outcome.
+     * <p>
+     * For two objects of the same class, this comes down to equal values and equal ordinals;
+     * the ordinals can only differ for distinct constants that share the same value.
      *
      * @param other The other object to compare equality with.
      * @return Whether this enumerable instance is equal to the specified object based on type and value.
      */
     @Override
     public final boolean equals(Object other) {
-        return this == other || (other instanceof Enumerable && 0 == compareTo((Enumerable) other));
+        if (this == other) return true;
+        else if (!(other instanceof Enumerable)) return false;
+        final Enumerable that = (Enumerable) other;
+        if (getClass() != that.getClass()) return 0 == compareTo(that);
+        return value.hashCode() == that.value.hashCode() && value.equals(that.value) && ordinal() == that.ordinal();
     }
 
     /**
@@ -196,11 +201,28 @@ public abstract class Enumerable implements Comparable<Enumerable>, Serializable
     }
 
     /**
-     * @return Re-parse an enumerable object after deserialization to ensure that constants remain constant.
+     * Replaces this enumerable by its compact form when serializing a type annotated with
+     * {@link CompactSerialization}.
+     *
+     * @return The compact serialized form of this enumerable, or this enumerable itself.
+     * @throws ObjectStreamException never; declared to allow subclasses to override.
+     */
+    protected Object writeReplace() throws ObjectStreamException {
+        final TypeMetadata<?> metadata = _metadata(getClass());
+        return metadata.compactSerialization ? CompactForm.of(this, metadata) : this;
+    }
+
+    /**
+     * Resolves constants after deserialization to ensure that constants remain constant.
+     * <p>
+     * Non-constant values are returned as-is; they were accepted before serialization,
+     * so they do not count as parsed unknown values and are not subject to any limit.
+     *
+     * @return The constant with the deserialized value, or this enumerable if it is not a constant value.
      */
     protected Object readResolve() {
-        final Enumerable reParsed = parse(getClass(), this.value);
-        return reParsed != null && reParsed.name() != null ? reParsed : this; // name found? Return the parsed constant.
+        final Enumerable constant = value == null ? null : _metadata(getClass()).constantWithValue(value);
+        return constant != null ? constant : this;
     }
 
     /**
@@ -239,15 +261,32 @@ public abstract class Enumerable implements Comparable<Enumerable>, Serializable
      */
     public static <E extends Enumerable> E valueOf(Class<E> type, CharSequence name)
             throws ConstantNotFoundException {
-        if (name != null) {
-            final String nameString = name.toString();
-            for (E enumerable : _rawValues(type)) {
-                if (nameString.equals(enumerable.name())) {
-                    return enumerable;
-                }
-            }
+        final E constant = findByName(type, name);
+        if (constant == null) {
+            final EnumerableMetrics.Recorder recorder = _metadata(type).recorder;
+            if (recorder != null) recorder.valueOfMissed();
+            Events.EVENTS.constantNotFound(type, name);
+            throw new ConstantNotFoundException(type, name);
         }
-        throw new ConstantNotFoundException(type, name);
+        return constant;
+    }
+
+    /**
+     * Non-throwing variant of {@link #valueOf(Class, CharSequence)}.
+     * <p>
+     * This method returns the constant with the specified <code>name</code> or <code>null</code> if there is no
+     * enumerable constant of the requested <code>type</code> by that name.
+     * Prefer this method over catching {@link ConstantNotFoundException} when probing for names that may not exist.
+     *
+     * @param <E>  The actual subtype of <code>Enumerable</code> to return the named constant value for.
+     * @param type The actual subtype of <code>Enumerable</code> to return the named constant value for.
+     * @param name The name of the enumerable constant to return (as declared in the code).
+     * @return The enumerable constant with the requested name or <code>null</code> if there is no such constant.
+     * @see #valueOf(Class, CharSequence)
+     */
+    public static <E extends Enumerable> E findByName(Class<E> type, CharSequence name) {
+        final TypeMetadata<E> metadata = _metadata(type);
+        return name == null ? null : metadata.constantWithName(name.toString());
     }
 
     /**
@@ -255,6 +294,9 @@ public abstract class Enumerable implements Comparable<Enumerable>, Serializable
      * of the specified type. In case a corresponding constant is found, its object reference is returned.
      * In case no constant with a matching value is found, the method attempts to instantiate a new instance of the
      * given enumerable <code>type</code> by searching for a single-{@link String} constructor.
+     * <p>
+     * Values that are not a {@link String} (e.g. a <code>StringBuilder</code> or <code>CharBuffer</code>) are
+     * compared with the constants character by character; a String is only created for non-constant values.
      *
      * @param <E>   The actual subtype of <code>Enumerable</code> to return the specified value of.
      * @param type  The actual subtype of <code>Enumerable</code> to return the specified value of.
@@ -266,6 +308,134 @@ public abstract class Enumerable implements Comparable<Enumerable>, Serializable
         return parse(type, value, null);
     }
 
+    /**
+     * Parses the value contained in a range of a character array,
+     * for instance the buffer of a streaming parser.
+     * <p>
+     * The characters are compared with the constants in place; a String is only created if no constant matches.
+     *
+     * @param <E>    The actual subtype of <code>Enumerable</code> to return the specified value of.
+     * @param type   The actual subtype of <code>Enumerable</code> to return the specified value of.
+     * @param chars  The characters containing the enumerable value to be parsed.
+     * @param offset The offset of the first character of the value.
+     * @param length The number of characters of the value.
+     * @return An enumerable object of the requested type containing the specified value,
+     * or <code>null</code> if the given <code>chars</code> were <code>null</code> themselves.
+     * @throws IndexOutOfBoundsException if the offset and length do not denote a range within the characters.
+     * @see #parse(Class, CharSequence)
+     */
+    public static <E extends Enumerable> E parse(Class<E> type, char[] chars, int offset, int length) {
+        E parsed = null;
+        if (chars != null) {
+            if (offset < 0 || length < 0 || offset > chars.length - length) {
+                throw new IndexOutOfBoundsException(
+                        "Range [" + offset + ", " + offset + " + " + length + ") out of bounds: " + chars.length);
+            }
+            final TypeMetadata<E> metadata = _metadata(type);
+            parsed = metadata.constantWithValue(chars, offset, length);
+            if (parsed == null) {
+                final String value = new String(chars, offset, length);
+                if (metadata.defaultFolding != null) {
+                    parsed = metadata.constantWithFoldedValue(value, metadata.defaultFolding);
+                }
+                if (parsed == null) return _parseNonConstant(metadata, type, value, null);
+            }
+            if (metadata.recorder != null) metadata.recorder.constantParsed();
+        }
+        return parsed;
+    }
+
+    /**
+     * Parses a value, matching it <em>loosely</em> with the constants if no constant matches it exactly.
+     * <p>
+     * The parsed value is first compared with the exact constant values.
+     * If no constant matches, the value is matched with the constant values using the specified
+     * {@link ValueFolding folding}, e.g. {@link ValueFolding#IGNORE_CASE}.
+     * Only if that does not match either, a non-constant object is returned containing the parsed value.
+     * <p>
+     * Types that should always be parsed loosely can be annotated with {@link FoldedParsing} instead.
+     *
+     * @param <E>     The actual subtype of <code>Enumerable</code> to return the specified value of.
+     * @param type    The actual subtype of <code>Enumerable</code> to return the specified value of.
+     * @param value   The enumerable value to be parsed.
+     * @param folding The folding to match constants with if no constant matches exactly
+     *                (optional, <code>null</code> means the default folding for the type, if any).
+     * @return An enumerable object of the requested type matching the specified <code>value</code>,
+     * or <code>null</code> if the given <code>value</code> was <code>null</code> itself.
+     * @see #parse(Class, CharSequence)
+     */
+    public static <E extends Enumerable> E parseFolded(Class<E> type, CharSequence value, ValueFolding folding) {
+        if (folding == null) return parse(type, value, null);
+        E parsed = null;
+        if (value != null) {
+            final TypeMetadata<E> metadata = _metadata(type);
+            parsed = metadata.constantWithValue(value);
+            if (parsed == null) parsed = metadata.constantWithFoldedValue(value, folding);
+            if (parsed == null) parsed = _parseNonConstant(metadata, type, value.toString(), null);
+            else if (metadata.recorder != null) metadata.recorder.constantParsed();
+        }
+        return parsed;
+    }
+
+    /**
+     * Parses a UTF-8 encoded value, for instance directly from a network or file buffer.
+     * <p>
+     * The bytes are compared with the pre-encoded values of the constants; they are only decoded if no constant
+     * matches.
+     *
+     * @param <E>    The actual subtype of <code>Enumerable</code> to return the specified value of.
+     * @param type   The actual subtype of <code>Enumerable</code> to return the specified value of.
+     * @param bytes  The bytes containing the UTF-8 encoded enumerable value to be parsed.
+     * @param offset The offset of the first byte of the value.
+     * @param length The number of bytes of the value.
+     * @return An enumerable object of the requested type containing the decoded value,
+     * or <code>null</code> if the given <code>bytes</code> were <code>null</code> themselves.
+     * @throws IndexOutOfBoundsException if the offset and length do not denote a range within the bytes.
+     * @see #parse(Class, CharSequence)
+     */
+    public static <E extends Enumerable> E parseUtf8(Class<E> type, byte[] bytes, int offset, int length) {
+        E parsed = null;
+        if (bytes != null) {
+            if (offset < 0 || length < 0 || offset > bytes.length - length) {
+                throw new IndexOutOfBoundsException(
+                        "Range [" + offset + ", " + offset + " + " + length + ") out of bounds: " + bytes.length);
+            }
+            final TypeMetadata<E> metadata = _metadata(type);
+            parsed = metadata.constantWithUtf8Value(bytes, offset, length);
+            if (parsed == null) {
+                parsed = parse(type, Utf8Index.UTF_8.decode(ByteBuffer.wrap(bytes, offset, length)), null);
+            } else if (metadata.recorder != null) {
+                metadata.recorder.constantParsed();
+            }
+        }
+        return parsed;
+    }
+
+    /**
+     * Parses the remaining UTF-8 encoded bytes of a buffer, which may be a direct buffer.
+     * The position of the buffer is not changed.
+     * <p>
+     * The bytes are compared with the pre-encoded values of the constants; they are only decoded if no constant
+     * matches.
+     *
+     * @param <E>    The actual subtype of <code>Enumerable</code> to return the specified value of.
+     * @param type   The actual subtype of <code>Enumerable</code> to return the specified value of.
+     * @param buffer The buffer whose remaining bytes contain the UTF-8 encoded enumerable value to be parsed.
+     * @return An enumerable object of the requested type containing the decoded value,
+     * or <code>null</code> if the given <code>buffer</code> was <code>null</code> itself.
+     * @see #parse(Class, CharSequence)
+     */
+    public static <E extends Enumerable> E parseUtf8(Class<E> type, ByteBuffer buffer) {
+        E parsed = null;
+        if (buffer != null) {
+            final TypeMetadata<E> metadata = _metadata(type);
+            parsed = metadata.constantWithUtf8Value(buffer);
+            if (parsed == null) parsed = parse(type, Utf8Index.UTF_8.decode(buffer.duplicate()), null);
+            else if (metadata.recorder != null) metadata.recorder.constantParsed();
+        }
+        return parsed;
+    }
+
     /**
      * <code>null</code>-safe helper method that prints the value of any enumerable.
      *
@@ -283,20 +453,27 @@ public abstract class Enumerable implements Comparable<Enumerable>, Serializable
      * It is recommended to use this method for constant sets of enumerable values to allow the library to optimize
      * the type of set to be returned.
      * <p>
+     * If all values are of the same enumerable type, an {@link EnumerableSet} is returned.
+     * Otherwise the values are returned in their specified order.
+     * <p>
      * The resulting set will be unmodifiable.
      *
      * @param <E>    The actual non-abstract Enumerable type.
      * @param values The enumerable values to be represented as a Set.
      * @return The unmodifiable set of the specified Enumerable values.
      */
+    @SuppressWarnings("unchecked")
     public static <E extends Enumerable> Set<E> setOf(E... values) {
         if (values == null || values.length == 0) {
             return emptySet();
-        } else if (values.length == 1) {
-            return singleton(values[0]);
         }
-        // For now this 'just works', maybe we can implement a set that is based on the EnumSet idea.
-        return unmodifiableSet(new LinkedHashSet<E>(asList(values)));
+        final Class<?> type = values[0] == null ? null : values[0].getClass();
+        for (E value : values) {
+            if (value == null || value.getClass() != type) { // mixed types, keep the specified order.
+                return unmodifiableSet(new LinkedHashSet<E>(asList(values)));
+            }
+        }
+        return EnumerableSet.unmodifiableCopyOf((Class<E>) type, asList(values));
     }
 
     /**
@@ -312,29 +489,99 @@ public abstract class Enumerable implements Comparable<Enumerable>, Serializable
     protected static <E extends Enumerable> E parse(Class<E> type, CharSequence value, Callable<E> factory) {
         E parsed = null;
         if (value != null) {
-            String valueStr = value.toString();
-            for (E constante : _rawValues(type)) {
-                if (((Enumerable) constante).value.equals(valueStr)) {
-                    parsed = constante;
-                    break;
-                }
-            }
-            if (parsed == null) {
-                try {
-                    parsed = factory != null ? factory.call() : _callStringConstructor(type, valueStr);
-                } catch (Exception e) {
-                    throw new IllegalStateException(String.format("Could not create new \"%s\" object with value \"%s\".",
-                            type.getName(), valueStr), e);
-                }
+            final TypeMetadata<E> metadata = _metadata(type);
+            parsed = metadata.constantWithValue(value);
+            if (parsed == null && metadata.defaultFolding != null) {
+                parsed = metadata.constantWithFoldedValue(value, metadata.defaultFolding);
             }
+            if (parsed == null) parsed = _parseNonConstant(metadata, type, value.toString(), factory);
+            else if (metadata.recorder != null) metadata.recorder.constantParsed();
         }
         return parsed;
     }
 
+    /**
+     * Returns an enumerable object for a value that was established not to match any constant.
+     * This is either an interned instance or a new instance created by the factory or the String constructor.
+     *
+     * @param <E>      The actual non-abstract Enumerable type.
+     * @param metadata The metadata of the enumerable type.
+     * @param type     The enumerable type to return an object of.
+     * @param value    The non-constant value.
+     * @param factory  Optional 'factory' to create the new enumerable value instance with.
+     * @return The enumerable object with the non-constant value.
+     */
+    private static <E extends Enumerable> E _parseNonConstant(
+            TypeMetadata<E> metadata, Class<E> type, String value, Callable<E> factory) {
+        if (metadata.recorder != null) metadata.recorder.unknownParsed();
+        final UnknownValueTracker tracker = metadata.unknownValueTracker;
+        if (tracker != null) tracker.offer(value);
+        InternCache<E> internCache = metadata.internCache;
+        final UnknownValueGuard<E> guard = metadata.unknownValueGuard;
+        if (guard != null && !guard.accept(value)) {
+            switch (guard.overflow) {
+                case USE_CONSTANT:
+                    return guard.constant;
+                case SKIP_INTERNING:
+                    internCache = null;
+                    break;
+                default:
+                    throw new IllegalArgumentException(String.format(
+                            "Maximum of %d unknown \"%s\" values reached, value \"%s\" was rejected.",
+                            guard.maximum, type.getSimpleName(), value));
+            }
+        }
+        if (internCache != null) {
+            final E interned = internCache.get(value);
+            if (interned != null) return interned;
+        }
+        final E created;
+        final Object event = Events.EVENTS.beginInstantiation();
+        try {
+            created = factory != null ? factory.call() : _callStringConstructor(metadata, value);
+            Events.EVENTS.endInstantiation(event, type, value);
+        } catch (Exception e) {
+            throw new IllegalStateException(String.format("Could not create new \"%s\" object with value \"%s\".",
+                    type.getName(), value), e);
+        }
+        final Enumerable enumerable = created;
+        if (enumerable != null && enumerable.getClass() == type && enumerable.value.equals(value)) {
+            // We just established that there is no constant for this value; no need to look it up again later.
+            if (enumerable._nameAndOrdinal == null) enumerable._nameAndOrdinal = NameAndOrdinal.NONE;
+            if (internCache != null) return internCache.intern(value, created);
+        }
+        return created;
+    }
+
+    /**
+     * Returns the constant with the value of a deserialized enumerable, or a new non-constant object for it.
+     * <p>
+     * Unlike parsing, non-constant values are not guarded, tracked, interned or counted,
+     * since the value was already accepted before it was serialized.
+     *
+     * @param <E>      The actual non-abstract Enumerable type.
+     * @param metadata The metadata of the enumerable type.
+     * @param value    The deserialized value.
+     * @return The constant or non-constant enumerable object with the value.
+     */
+    static <E extends Enumerable> E _deserialize(TypeMetadata<E> metadata, String value) {
+        final E constant = metadata.constantWithValue(value);
+        if (constant != null) return constant;
+        final E created;
+        try {
+            created = _callStringConstructor(metadata, value);
+        } catch (Exception e) {
+            throw new IllegalStateException(String.format("Could not create new \"%s\" object with value \"%s\".",
+                    metadata.type.getName(), value), e);
+        }
+        ((Enumerable) created)._nameAndOrdinal = NameAndOrdinal.NONE;
+        return created;
+    }
+
     // Class constants, all private:
     private static final long serialVersionUID = 1L;
-    // Map from concrete subclass type to array of reflected constants.
-    private static final ConcurrentMap<String, Object> CONSTANTS = new ConcurrentHashMap<String, Object>();
+    // Registry from concrete subclass type to its reflected metadata.
+    private static final TypeRegistry REGISTRY = TypeRegistry.create();
 
     /**
      * <ul>
@@ -343,24 +590,27 @@ public abstract class Enumerable implements Comparable<Enumerable>, Serializable
      * <li>Or {@code null} in case the type has not yet been reflected.</li>
      * </ul>
      */
-    @SuppressWarnings("java:S3077") // NameAndOrdinal is immutable, so volatile is valid here.
-    private transient volatile NameAndOrdinal _nameAndOrdinal = null;
+    // Deliberately not volatile: NameAndOrdinal is immutable and every thread calculates the same outcome,
+    // so reading ordinals stays a plain field read (like the racy caching of String.hashCode).
+    private transient NameAndOrdinal _nameAndOrdinal = null;
 
     /**
      * @return Once-only calculated <code>NameAndOrdinal</code> combination, non-<code>null</code>.
      */
     private NameAndOrdinal _nameAndOrdinal() {
-        if (_nameAndOrdinal == null) {
-            Enumerable[] values = _rawValues(getClass());
-            for (int i = 0; i < values.length; i++) {
-                if (value.equals(values[i].value)) {
-                    _nameAndOrdinal = new NameAndOrdinal(i, values[i].name());
-                    return _nameAndOrdinal;
-                }
+        NameAndOrdinal nameAndOrdinal = _nameAndOrdinal;
+        if (nameAndOrdinal == null) {
+            final TypeMetadata<?> metadata = _metadata(getClass());
+            // Constants are stamped before their metadata is published, so this re-read sees a constant's own stamp.
+            nameAndOrdinal = _nameAndOrdinal;
+            if (nameAndOrdinal == null) {
+                final Enumerable constant = metadata.constantWithValue(value);
+                // The constant's own NameAndOrdinal is assigned when reflecting the constants.
+                nameAndOrdinal = constant == null ? NameAndOrdinal.NONE : constant._nameAndOrdinal;
+                _nameAndOrdinal = nameAndOrdinal;
             }
-            _nameAndOrdinal = NameAndOrdinal.NONE;
         }
-        return _nameAndOrdinal;
+        return nameAndOrdinal;
     }
 
     /**
@@ -372,33 +622,68 @@ public abstract class Enumerable implements Comparable<Enumerable>, Serializable
      * @param enumerableType The enumerable type to obtain constant values of.
      * @return All declarered public constants of the requested enumerable subtype.
      */
-    @SuppressWarnings("unchecked")
     private static <E extends Enumerable> E[] _rawValues(final Class<E> enumerableType) {
+        return _metadata(enumerableType).constants;
+    }
+
+    /**
+     * Returns the metadata for the requested type, reflecting its constants and building the lookup indices
+     * upon first use.
+     *
+     * @param <E>            The actual enumerable type.
+     * @param enumerableType The enumerable type to obtain the metadata for.
+     * @return The metadata of the requested enumerable subtype.
+     */
+    static <E extends Enumerable> TypeMetadata<E> _metadata(final Class<E> enumerableType) {
         if (enumerableType == null) throw new IllegalArgumentException("Enumerable type is <null>.");
-        final String enumerableTypeName = enumerableType.getName();
-        E[] values = (E[]) CONSTANTS.get(enumerableTypeName);
-        if (values == null) {
-            final List<E> constants = new ArrayList<E>();
-            for (Field field : enumerableType.getDeclaredFields()) {
-                final int modifiers = field.getModifiers();
-                if (isPublic(modifiers) && isStatic(modifiers) && isFinal(modifiers)
-                        && enumerableType.isAssignableFrom(field.getType())) {
-                    try {
-                        final E foundConstant = (E) field.get(null);
-                        ((Enumerable) foundConstant)._nameAndOrdinal =
-                                new NameAndOrdinal(constants.size(), field.getName());
-                        constants.add(foundConstant);
-                    } catch (IllegalAccessException iae) {
-                        throw new IllegalStateException(String.format("Reading constant \"%s.%s\" was not allowed!",
-                                enumerableTypeName, field.getName()), iae);
-                    }
+        return REGISTRY.get(enumerableType);
+    }
+
+    /**
+     * Finds the constants of the requested type and builds its metadata.
+     * The {@link EnumerableConstants generated constants} of the type are used if available,
+     * otherwise the constants are found by reflection.
+     * <p>
+     * This should only be called by the {@link TypeRegistry}, which makes sure it is called only once per type.
+     *
+     * @param <E>            The actual enumerable type.
+     * @param enumerableType The enumerable type to reflect.
+     * @return The newly built metadata of the requested enumerable subtype.
+     */
+    @SuppressWarnings("unchecked")
+    static <E extends Enumerable> TypeMetadata<E> _reflect(final Class<E> enumerableType) {
+        final EnumerableConstants<E> generated = EnumerableConstants.load(enumerableType);
+        if (generated != null) try {
+            final E[] constants = generated.constants();
+            final String[] names = generated.names();
+            if (EnumerableConstants.isValid(enumerableType, constants, names)) {
+                for (int i = 0; i < constants.length; i++) {
+                    ((Enumerable) constants[i])._nameAndOrdinal = new NameAndOrdinal(i, names[i]);
                 }
+                return new TypeMetadata<E>(enumerableType, constants, names, generated);
             }
-            CONSTANTS.putIfAbsent(enumerableTypeName,
-                    constants.toArray((E[]) Array.newInstance(enumerableType, constants.size())));
-            values = (E[]) CONSTANTS.get(enumerableTypeName);
+        } catch (LinkageError le) {
+            EnumerableConstants.outdated(enumerableType, le);
         }
-        return values;
+        final List<E> constants = new ArrayList<E>();
+        final List<String> names = new ArrayList<String>();
+        for (Field field : enumerableType.getDeclaredFields()) {
+            if (EnumerableConstants.isConstant(enumerableType, field)) {
+                try {
+                    final E foundConstant = (E) field.get(null);
+                    ((Enumerable) foundConstant)._nameAndOrdinal =
+                            new NameAndOrdinal(constants.size(), field.getName());
+                    constants.add(foundConstant);
+                    names.add(field.getName());
+                } catch (IllegalAccessException iae) {
+                    throw new IllegalStateException(String.format("Reading constant \"%s.%s\" was not allowed!",
+                            enumerableType.getName(), field.getName()), iae);
+                }
+            }
+        }
+        return new TypeMetadata<E>(enumerableType,
+                constants.toArray((E[]) Array.newInstance(enumerableType, constants.size())),
+                names.toArray(new String[names.size()]), null);
     }
 
     /**
@@ -408,22 +693,14 @@ public abstract class Enumerable implements Comparable<Enumerable>, Serializable
      * be called for values for which it has been established that they do <strong>not</strong> correspond to an
      * existing constant value for this class!
      *
-     * @param type  The type of enumerable object to create.
-     * @param value The value of the enumerable object.
+     * @param metadata The metadata of the type of enumerable object to create.
+     * @param value    The value of the enumerable object.
      * @return The newly-instantiated enumerable (non-constant) object.
      */
-    private static <T> T _callStringConstructor(Class<T> type, String value)
+    private static <E extends Enumerable> E _callStringConstructor(TypeMetadata<E> metadata, String value)
             throws NoSuchMethodException, IllegalAccessException, InvocationTargetException, InstantiationException {
-        Constructor<T> constructor = type.getDeclaredConstructor(String.class);
-        synchronized (constructor) {
-            final boolean accessible = constructor.isAccessible();
-            try {
-                if (!accessible) constructor.setAccessible(true);
-                return constructor.newInstance(value);
-            } finally {
-                if (!accessible) constructor.setAccessible(false);
-            }
-        }
+        final E created = metadata.generated == null ? null : EnumerableConstants.create(metadata.generated, value);
+        return created != null ? created : metadata.stringConstructor().newInstance(value);
     }
 
     /**
@@ -456,8 +733,8 @@ public abstract class Enumerable implements Comparable<Enumerable>, Serializable
          * @param constantName   The name of the Enumerable constant that was requested.
          */
         public ConstantNotFoundException(Class<? extends Enumerable> enumerableType, CharSequence constantName) {
-            this(String.format("No Enumerable constant \"%s.%s\" found.",
-                    enumerableType == null ? null : enumerableType.getSimpleName(), constantName), null);
+            this("No Enumerable constant \"" + (enumerableType == null ? null : enumerableType.getSimpleName())
+                    + '.' + constantName + "\" found.", null);
         }
 
         /**
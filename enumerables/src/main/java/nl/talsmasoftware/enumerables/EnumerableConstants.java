@@ -0,0 +1,199 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.enumerables;
+
+import java.lang.reflect.Field;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static java.lang.reflect.Modifier.isFinal;
+import static java.lang.reflect.Modifier.isPublic;
+import static java.lang.reflect.Modifier.isStatic;
+
+/**
+ * Compile-time generated table of the constants of an {@link Enumerable} type.
+ * <p>
+ * By default, the constants of an enumerable type are found by reflection upon first use of the type.
+ * When the <code>enumerables-processor</code> annotation processor is used during compilation, it generates a
+ * companion class for each enumerable type, extending this class, in the same package as the type.
+ * Its name is the binary class name of the type with each <code>'_'</code> escaped as <code>_1</code> and each
+ * <code>'$'</code> as <code>_0</code>, followed by an <code>_EnumerableConstants</code> suffix
+ * (e.g. <code>com.example.Outer_0Inner_EnumerableConstants</code> for the nested type
+ * <code>com.example.Outer.Inner</code>). The escaping keeps the names of different types from colliding.
+ * If such a companion class is found, it is used instead of reflection.
+ * <p>
+ * This class is not intended to be extended by hand.
+ *
+ * @param <E> The enumerable type.
+ * @author Sjoerd Talsma
+ */
+public abstract class EnumerableConstants<E extends Enumerable> {
+    private static final Logger LOGGER = Logger.getLogger(EnumerableConstants.class.getName());
+
+    /**
+     * Suffix of the generated companion class names.
+     */
+    public static final String SUFFIX = "_EnumerableConstants";
+
+    /**
+     * Constructor for generated subclasses.
+     */
+    protected EnumerableConstants() {
+    }
+
+    /**
+     * @return A new array with the public constants of the enumerable type, in declaration order.
+     */
+    public abstract E[] constants();
+
+    /**
+     * @return A new array with the names of the public constants, in the same order as the {@link #constants()}.
+     */
+    public abstract String[] names();
+
+    /**
+     * Creates a new non-constant object of the enumerable type.
+     *
+     * @param value The value of the new object.
+     * @return The new object, or <code>null</code> if the String constructor of the type is not accessible to the
+     * generated class (the constructor will then be called by reflection).
+     * This is the case for the common <code>private</code> constructors, which cannot be called from another class
+     * without reflection.
+     */
+    public E create(String value) {
+        return null;
+    }
+
+    /**
+     * @param type The enumerable type.
+     * @return The name of the companion class that is generated for the type.
+     */
+    static String companionName(Class<?> type) {
+        final String name = type.getName();
+        final int simpleStart = name.lastIndexOf('.') + 1;
+        final StringBuilder companion = new StringBuilder(name.length() + SUFFIX.length() + 4)
+                .append(name, 0, simpleStart);
+        for (int i = simpleStart; i < name.length(); i++) {
+            final char ch = name.charAt(i);
+            if (ch == '_') companion.append("_1");
+            else if (ch == '$') companion.append("_0");
+            else companion.append(ch);
+        }
+        return companion.append(SUFFIX).toString();
+    }
+
+    /**
+     * Determines whether a field is a public constant of an enumerable type.
+     *
+     * @param enumerableType The enumerable type.
+     * @param field          A field declared by the type.
+     * @return Whether the field is a <code>public static final</code> constant of the enumerable type.
+     */
+    static boolean isConstant(Class<?> enumerableType, Field field) {
+        final int modifiers = field.getModifiers();
+        return isPublic(modifiers) && isStatic(modifiers) && isFinal(modifiers)
+                && enumerableType.isAssignableFrom(field.getType());
+    }
+
+    /**
+     * Checks generated constants, which may be outdated if the type was compiled without the annotation processor.
+     * The generated names must be exactly the names of the constant fields the type declares.
+     *
+     * @param enumerableType The enumerable type.
+     * @param constants      The generated constants.
+     * @param names          The generated constant names.
+     * @return Whether the generated constants can be used for the type.
+     */
+    static boolean isValid(Class<?> enumerableType, Object[] constants, String[] names) {
+        boolean valid = constants != null && names != null && constants.length == names.length
+                && enumerableType.equals(constants.getClass().getComponentType());
+        for (int i = 0; valid && i < constants.length; i++) {
+            valid = constants[i] != null && names[i] != null;
+        }
+        if (valid) {
+            final Set<String> fieldNames = new HashSet<String>();
+            for (Field field : enumerableType.getDeclaredFields()) {
+                if (isConstant(enumerableType, field)) fieldNames.add(field.getName());
+            }
+            for (int i = 0; valid && i < names.length; i++) {
+                valid = fieldNames.remove(names[i]);
+            }
+            valid = valid && fieldNames.isEmpty();
+        }
+        if (!valid) {
+            LOGGER.warning("Ignoring invalid generated constants for " + enumerableType + ", using reflection.");
+        }
+        return valid;
+    }
+
+    /**
+     * Reports generated constants that could not be used because they no longer link with the enumerable type.
+     *
+     * @param enumerableType The enumerable type.
+     * @param linkageError   The error linking the generated constants to the type.
+     */
+    static void outdated(Class<?> enumerableType, LinkageError linkageError) {
+        LOGGER.log(Level.WARNING, "Ignoring outdated generated constants for " + enumerableType
+                + ", using reflection.", linkageError);
+    }
+
+    /**
+     * Creates a new non-constant object using generated code, if possible.
+     *
+     * @param <E>       The enumerable type.
+     * @param generated The generated constants.
+     * @param value     The value of the new object.
+     * @return The new object, or <code>null</code> if the generated code could not create it.
+     */
+    static <E extends Enumerable> E create(EnumerableConstants<E> generated, String value) {
+        try {
+            return generated.create(value);
+        } catch (LinkageError le) {
+            LOGGER.log(Level.FINEST, "Generated constructor call is outdated, using reflection.", le);
+            return null;
+        }
+    }
+
+    /**
+     * Loads the generated constants for an enumerable type.
+     *
+     * @param <E>  The enumerable type.
+     * @param type The enumerable type.
+     * @return The generated constants, or <code>null</code> if there is no usable generated companion class.
+     */
+    @SuppressWarnings("unchecked")
+    static <E extends Enumerable> EnumerableConstants<E> load(Class<E> type) {
+        final String name = companionName(type);
+        try {
+            final Class<?> companion = Class.forName(name, true, type.getClassLoader());
+            if (EnumerableConstants.class.isAssignableFrom(companion)) {
+                return (EnumerableConstants<E>) companion.newInstance();
+            }
+            LOGGER.log(Level.WARNING, "Ignoring {0}, it does not extend {1}.",
+                    new Object[]{name, EnumerableConstants.class.getName()});
+        } catch (ClassNotFoundException cnfe) {
+            LOGGER.log(Level.FINEST, "No generated constants found for " + type + ", using reflection.", cnfe);
+        } catch (LinkageError le) {
+            LOGGER.log(Level.WARNING, "Could not load generated constants " + name + ", using reflection.", le);
+        } catch (Exception e) {
+            LOGGER.log(Level.WARNING, "Could not load generated constants " + name + ", using reflection.", e);
+        }
+        return null;
+    }
+
+}
@@ -0,0 +1,365 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.enumerables;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * A {@link Map} implementation for keys of a single {@link Enumerable} type,
+ * comparable with {@link java.util.EnumMap}.
+ * <p>
+ * Values for constant keys are stored in an array indexed by the {@link Enumerable#ordinal() ordinal} of the key,
+ * so no hashing or {@link Enumerable#equals(Object) equality} checks are needed to look them up.
+ * Mappings for non-constant keys are kept in small parallel arrays, sorted by key and looked up by binary search.
+ * No entry objects are kept for any of the mappings.
+ * <p>
+ * Iteration follows the {@link Enumerable#compareTo(Enumerable) natural order} of the keys: constants in declaration
+ * order, followed by the non-constant keys. The map does not permit <code>null</code> keys and only accepts keys of
+ * exactly the enumerable type it was created for. <code>null</code> values are permitted.
+ * <p>
+ * Like most collection implementations, this map is <strong>not</strong> synchronized.
+ *
+ * @param <K> The enumerable type of the keys.
+ * @param <V> The type of the mapped values.
+ * @author Sjoerd Talsma
+ */
+public final class EnumerableMap<K extends Enumerable, V> extends AbstractMap<K, V> implements Serializable {
+    private static final long serialVersionUID = 1L;
+    private static final Enumerable[] NO_KEYS = new Enumerable[0];
+    private static final Object[] NO_VALUES = new Object[0];
+
+    private final Class<K> keyType;
+    private final long[] present;
+    private final Object[] constantValues;
+    private int constantCount;
+    private Enumerable[] unknownKeys = NO_KEYS;
+    private Object[] unknownValues = NO_VALUES;
+    private int unknownCount;
+    private transient Set<Map.Entry<K, V>> entrySet;
+
+    /**
+     * Creates an empty map for the specified enumerable key type.
+     *
+     * @param keyType The enumerable type of the keys.
+     */
+    public EnumerableMap(Class<K> keyType) {
+        if (keyType == null) throw new IllegalArgumentException("Enumerable type is <null>.");
+        this.keyType = keyType;
+        final int constants = Enumerable._metadata(keyType).constants.length;
+        this.present = new long[(constants + 63) >>> 6];
+        this.constantValues = new Object[constants];
+    }
+
+    /**
+     * Creates a map for the specified enumerable key type, containing the mappings of the given map.
+     *
+     * @param keyType The enumerable type of the keys.
+     * @param map     The mappings to copy into the new map.
+     */
+    public EnumerableMap(Class<K> keyType, Map<? extends K, ? extends V> map) {
+        this(keyType);
+        if (map != null) putAll(map);
+    }
+
+    /**
+     * @return The enumerable type of the keys in this map.
+     */
+    public Class<K> getKeyType() {
+        return keyType;
+    }
+
+    @Override
+    public int size() {
+        return constantCount + unknownCount;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        if (key == null || key.getClass() != keyType) return false;
+        final int ordinal = ((Enumerable) key).ordinal();
+        return ordinal == Integer.MAX_VALUE ? indexOfUnknown((Enumerable) key) >= 0 : isPresent(ordinal);
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        for (int ordinal = 0; ordinal < constantValues.length; ordinal++) {
+            if (isPresent(ordinal) && eq(value, constantValues[ordinal])) return true;
+        }
+        for (int i = 0; i < unknownCount; i++) {
+            if (eq(value, unknownValues[i])) return true;
+        }
+        return false;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        if (key == null || key.getClass() != keyType) return null;
+        final int ordinal = ((Enumerable) key).ordinal();
+        if (ordinal != Integer.MAX_VALUE) return (V) constantValues[ordinal];
+        final int index = indexOfUnknown((Enumerable) key);
+        return index < 0 ? null : (V) unknownValues[index];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V put(K key, V value) {
+        if (key == null) throw new NullPointerException("Cannot map key <null> in a map of " + keyType.getName() + ".");
+        if (key.getClass() != keyType) throw new ClassCastException(
+                "Cannot map key " + key.getClass().getName() + " in a map of " + keyType.getName() + ".");
+        final int ordinal = key.ordinal();
+        if (ordinal != Integer.MAX_VALUE) {
+            final Object previous = constantValues[ordinal];
+            constantValues[ordinal] = value;
+            if (!isPresent(ordinal)) {
+                present[ordinal >>> 6] |= 1L << ordinal;
+                constantCount++;
+            }
+            return (V) previous;
+        }
+        final int index = indexOfUnknown(key);
+        if (index >= 0) {
+            final Object previous = unknownValues[index];
+            unknownValues[index] = value;
+            return (V) previous;
+        }
+        insertUnknown(-(index + 1), key, value);
+        return null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V remove(Object key) {
+        if (key == null || key.getClass() != keyType) return null;
+        final int ordinal = ((Enumerable) key).ordinal();
+        if (ordinal != Integer.MAX_VALUE) {
+            final Object previous = constantValues[ordinal];
+            if (isPresent(ordinal)) removeConstant(ordinal);
+            return (V) previous;
+        }
+        final int index = indexOfUnknown((Enumerable) key);
+        if (index < 0) return null;
+        final Object previous = unknownValues[index];
+        removeUnknown(index);
+        return (V) previous;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(present, 0L);
+        Arrays.fill(constantValues, null);
+        Arrays.fill(unknownKeys, 0, unknownCount, null);
+        Arrays.fill(unknownValues, 0, unknownCount, null);
+        constantCount = unknownCount = 0;
+    }
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        Set<Map.Entry<K, V>> es = entrySet;
+        if (es == null) es = entrySet = new EntrySet();
+        return es;
+    }
+
+    private static boolean eq(Object o1, Object o2) {
+        return o1 == null ? o2 == null : o1.equals(o2);
+    }
+
+    private boolean isPresent(int ordinal) {
+        return (present[ordinal >>> 6] & (1L << ordinal)) != 0L;
+    }
+
+    private void removeConstant(int ordinal) {
+        present[ordinal >>> 6] &= ~(1L << ordinal);
+        constantValues[ordinal] = null;
+        constantCount--;
+    }
+
+    /**
+     * Binary search for a non-constant key.
+     *
+     * @param key The non-constant key to look for.
+     * @return The index of the key, or <code>-(insertion point + 1)</code> if it is not contained.
+     */
+    private int indexOfUnknown(Enumerable key) {
+        int low = 0, high = unknownCount - 1;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            final int comparison = unknownKeys[mid].compareTo(key);
+            if (comparison < 0) low = mid + 1;
+            else if (comparison > 0) high = mid - 1;
+            else return mid;
+        }
+        return -(low + 1);
+    }
+
+    private void insertUnknown(int index, Enumerable key, Object value) {
+        if (unknownCount == unknownKeys.length) {
+            final int capacity = Math.max(4, unknownCount * 2);
+            final Enumerable[] keys = new Enumerable[capacity];
+            final Object[] values = new Object[capacity];
+            System.arraycopy(unknownKeys, 0, keys, 0, unknownCount);
+            System.arraycopy(unknownValues, 0, values, 0, unknownCount);
+            unknownKeys = keys;
+            unknownValues = values;
+        }
+        System.arraycopy(unknownKeys, index, unknownKeys, index + 1, unknownCount - index);
+        System.arraycopy(unknownValues, index, unknownValues, index + 1, unknownCount - index);
+        unknownKeys[index] = key;
+        unknownValues[index] = value;
+        unknownCount++;
+    }
+
+    private void removeUnknown(int index) {
+        final int moved = unknownCount - index - 1;
+        System.arraycopy(unknownKeys, index + 1, unknownKeys, index, moved);
+        System.arraycopy(unknownValues, index + 1, unknownValues, index, moved);
+        unknownCount--;
+        unknownKeys[unknownCount] = null;
+        unknownValues[unknownCount] = null;
+    }
+
+    private final class EntrySet extends AbstractSet<Map.Entry<K, V>> {
+        @Override
+        public Iterator<Map.Entry<K, V>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return EnumerableMap.this.size();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            if (!(o instanceof Map.Entry)) return false;
+            final Map.Entry<?, ?> entry = (Map.Entry<?, ?>) o;
+            return containsKey(entry.getKey()) && eq(get(entry.getKey()), entry.getValue());
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            if (!contains(o)) return false;
+            EnumerableMap.this.remove(((Map.Entry<?, ?>) o).getKey());
+            return true;
+        }
+
+        @Override
+        public void clear() {
+            EnumerableMap.this.clear();
+        }
+    }
+
+    /**
+     * Iterator over the present constant keys in ordinal order, followed by the sorted non-constant keys.
+     * Positions at or beyond the number of constant bits refer to the non-constant keys.
+     */
+    private final class EntryIterator implements Iterator<Map.Entry<K, V>> {
+        private final K[] constants = Enumerable._metadata(keyType).constants;
+        private final int constantBits = present.length << 6;
+        private int expectedSize = size();
+        private int cursor = advance(0);
+        private int last = -1;
+
+        private int advance(int position) {
+            for (int word = position >>> 6; word < present.length; word++) {
+                long remaining = present[word];
+                if (word == position >>> 6) remaining &= -1L << position;
+                if (remaining != 0L) return (word << 6) + Long.numberOfTrailingZeros(remaining);
+            }
+            return Math.max(position, constantBits);
+        }
+
+        public boolean hasNext() {
+            return cursor < constantBits || cursor - constantBits < unknownCount;
+        }
+
+        @SuppressWarnings("unchecked")
+        public Map.Entry<K, V> next() {
+            if (expectedSize != size()) throw new ConcurrentModificationException();
+            if (!hasNext()) throw new NoSuchElementException();
+            last = cursor;
+            if (cursor < constantBits) {
+                cursor = advance(cursor + 1);
+                return new Entry(constants[last]);
+            }
+            cursor++;
+            return new Entry((K) unknownKeys[last - constantBits]);
+        }
+
+        public void remove() {
+            if (last < 0) throw new IllegalStateException("No entry to remove.");
+            if (expectedSize != size()) throw new ConcurrentModificationException();
+            if (last < constantBits) {
+                removeConstant(last);
+            } else {
+                removeUnknown(last - constantBits);
+                cursor--;
+            }
+            expectedSize--;
+            last = -1;
+        }
+    }
+
+    /**
+     * Entry that reads and writes its value through the map.
+     */
+    private final class Entry implements Map.Entry<K, V> {
+        private final K key;
+
+        private Entry(K key) {
+            this.key = key;
+        }
+
+        public K getKey() {
+            return key;
+        }
+
+        public V getValue() {
+            return get(key);
+        }
+
+        public V setValue(V value) {
+            return put(key, value);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Map.Entry)) return false;
+            final Map.Entry<?, ?> other = (Map.Entry<?, ?>) o;
+            return key.equals(other.getKey()) && eq(getValue(), other.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            final V value = getValue();
+            return key.hashCode() ^ (value == null ? 0 : value.hashCode());
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + getValue();
+        }
+    }
+
+}
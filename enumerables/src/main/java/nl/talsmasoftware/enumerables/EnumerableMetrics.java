@@ -0,0 +1,179 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.enumerables;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Service provider interface to record metrics about the use of {@link Enumerable} types.
+ * <p>
+ * Providers are discovered upon first use of any enumerable type, by listing their class names in
+ * <code>META-INF/services/nl.talsmasoftware.enumerables.EnumerableMetrics</code> resources
+ * (the same format as {@code java.util.ServiceLoader} uses).
+ * Each provider is asked for a {@link Recorder} once per enumerable type, when the type is first used.
+ * If no provider is found, or no provider returns a recorder for a type, no metrics are recorded for that type
+ * and parsing is not slowed down.
+ * <p>
+ * Recorders are called on the parsing threads, so they must be thread-safe and fast.
+ * Providers and recorders must not use enumerable types themselves.
+ *
+ * @author Sjoerd Talsma
+ */
+public abstract class EnumerableMetrics {
+    private static final Logger LOGGER = Logger.getLogger(EnumerableMetrics.class.getName());
+
+    /**
+     * Resource listing the provider class names, one binary class name per line.
+     */
+    static final String SERVICES = "META-INF/services/" + EnumerableMetrics.class.getName();
+
+    /**
+     * Constructor for subclasses, which must have a public no-argument constructor to be discovered.
+     */
+    protected EnumerableMetrics() {
+    }
+
+    /**
+     * Returns the recorder for an enumerable type, which is called only once per type.
+     *
+     * @param type The enumerable type that is used for the first time.
+     * @return The recorder for the type, or <code>null</code> to not record metrics for the type.
+     */
+    public abstract Recorder recorderFor(Class<? extends Enumerable> type);
+
+    /**
+     * Records the metrics of a single enumerable type.
+     * All methods do nothing by default.
+     */
+    public abstract static class Recorder {
+
+        /**
+         * Constructor for subclasses.
+         */
+        protected Recorder() {
+        }
+
+        /**
+         * Called when the constants of the type have been found.
+         *
+         * @param nanos How long it took to initialize the type and find its constants, in nanoseconds.
+         */
+        public void initialized(long nanos) {
+        }
+
+        /**
+         * Called when a parsed value resolved to a constant.
+         */
+        public void constantParsed() {
+        }
+
+        /**
+         * Called when a parsed value did not resolve to a constant,
+         * regardless whether a new object was created or an {@link InternPolicy interned} one was returned.
+         */
+        public void unknownParsed() {
+        }
+
+        /**
+         * Called when {@link Enumerable#valueOf(Class, CharSequence) valueOf} found no constant with the name.
+         */
+        public void valueOfMissed() {
+        }
+    }
+
+    /**
+     * @param type The enumerable type that is used for the first time.
+     * @return The recorder of all providers for the type, or <code>null</code> if no metrics are recorded.
+     */
+    static Recorder recorderOf(Class<? extends Enumerable> type) {
+        final List<Recorder> recorders = new ArrayList<Recorder>(1);
+        for (EnumerableMetrics provider : Providers.PROVIDERS) {
+            try {
+                final Recorder recorder = provider.recorderFor(type);
+                if (recorder != null) recorders.add(recorder);
+            } catch (RuntimeException e) {
+                LOGGER.log(Level.WARNING, "Metrics provider " + provider + " failed to return a recorder for "
+                        + type + ", its metrics are not recorded.", e);
+            }
+        }
+        if (recorders.isEmpty()) return null;
+        return recorders.size() == 1 ? recorders.get(0) : new Composite(recorders.toArray(new Recorder[0]));
+    }
+
+    /**
+     * Lazily initialized holder of the discovered providers.
+     */
+    private static final class Providers {
+        private static final List<EnumerableMetrics> PROVIDERS = load();
+
+        private static List<EnumerableMetrics> load() {
+            ClassLoader loader = Thread.currentThread().getContextClassLoader();
+            if (loader == null) loader = EnumerableMetrics.class.getClassLoader();
+            final List<EnumerableMetrics> providers = new ArrayList<EnumerableMetrics>();
+            try {
+                for (String name : Preloader.classNames(loader, SERVICES)) {
+                    try {
+                        providers.add(Class.forName(name, true, loader).asSubclass(EnumerableMetrics.class)
+                                .newInstance());
+                    } catch (Exception e) {
+                        LOGGER.log(Level.WARNING, "Could not create enumerable metrics provider " + name + ".", e);
+                    } catch (LinkageError le) {
+                        LOGGER.log(Level.WARNING, "Could not load enumerable metrics provider " + name + ".", le);
+                    }
+                }
+            } catch (IOException ioe) {
+                LOGGER.log(Level.WARNING, "Could not read " + SERVICES + ", no enumerable metrics are recorded.", ioe);
+            }
+            return providers;
+        }
+    }
+
+    /**
+     * Recorder that delegates to the recorders of multiple providers.
+     */
+    private static final class Composite extends Recorder {
+        private final Recorder[] recorders;
+
+        private Composite(Recorder[] recorders) {
+            this.recorders = recorders;
+        }
+
+        @Override
+        public void initialized(long nanos) {
+            for (Recorder recorder : recorders) recorder.initialized(nanos);
+        }
+
+        @Override
+        public void constantParsed() {
+            for (Recorder recorder : recorders) recorder.constantParsed();
+        }
+
+        @Override
+        public void unknownParsed() {
+            for (Recorder recorder : recorders) recorder.unknownParsed();
+        }
+
+        @Override
+        public void valueOfMissed() {
+            for (Recorder recorder : recorders) recorder.valueOfMissed();
+        }
+    }
+
+}
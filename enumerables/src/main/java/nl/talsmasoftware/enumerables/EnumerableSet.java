@@ -0,0 +1,412 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.enumerables;
+
+import java.io.Serializable;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A {@link java.util.Set} implementation for values of a single {@link Enumerable} type,
+ * based on the {@link java.util.EnumSet} idea.
+ * <p>
+ * Constants are represented by a single bit per {@link Enumerable#ordinal() ordinal}, making {@link #contains(Object)}
+ * a bit test and the bulk operations between two sets of the same type word-level operations.
+ * Non-constant values are kept in a small sorted array and looked up by binary search.
+ * <p>
+ * Iteration follows the {@link Enumerable#compareTo(Enumerable) natural order}: constants in declaration order,
+ * followed by the non-constant values. The set does not permit <code>null</code> elements and only accepts values of
+ * exactly the enumerable type it was created for.
+ * <p>
+ * Like most collection implementations, this set is <strong>not</strong> synchronized.
+ * Sets obtained from {@link #unmodifiableCopyOf(Class, Collection)} or {@link Enumerable#setOf(Enumerable[])} are
+ * unmodifiable, but must still be safely published (e.g. through a <code>final</code> or <code>volatile</code>
+ * field) before other threads can read them.
+ *
+ * @param <E> The enumerable type of the elements.
+ * @author Sjoerd Talsma
+ */
+public final class EnumerableSet<E extends Enumerable> extends AbstractSet<E> implements Serializable {
+    private static final long serialVersionUID = 1L;
+    private static final Enumerable[] NO_UNKNOWNS = new Enumerable[0];
+
+    private final Class<E> type;
+    private final boolean modifiable;
+    private final long[] bits;
+    private int constantCount;
+    private Enumerable[] unknowns = NO_UNKNOWNS;
+    private int unknownCount;
+
+    private EnumerableSet(Class<E> type, boolean modifiable) {
+        if (type == null) throw new IllegalArgumentException("Enumerable type is <null>.");
+        this.type = type;
+        this.modifiable = modifiable;
+        this.bits = new long[(Enumerable._metadata(type).constants.length + 63) >>> 6];
+    }
+
+    /**
+     * Creates a new, empty, modifiable set for the specified enumerable type.
+     *
+     * @param <E>  The enumerable type.
+     * @param type The enumerable type.
+     * @return The new empty set.
+     */
+    public static <E extends Enumerable> EnumerableSet<E> noneOf(Class<E> type) {
+        return new EnumerableSet<E>(type, true);
+    }
+
+    /**
+     * Creates a new modifiable set containing all constants of the specified enumerable type.
+     *
+     * @param <E>  The enumerable type.
+     * @param type The enumerable type.
+     * @return The new set containing all constants.
+     */
+    public static <E extends Enumerable> EnumerableSet<E> allOf(Class<E> type) {
+        final EnumerableSet<E> set = new EnumerableSet<E>(type, true);
+        final int count = Enumerable._metadata(type).constants.length;
+        for (int word = 0; word < set.bits.length; word++) {
+            final int remaining = count - (word << 6);
+            set.bits[word] = remaining >= 64 ? -1L : (1L << remaining) - 1L;
+        }
+        set.constantCount = count;
+        return set;
+    }
+
+    /**
+     * Creates a new modifiable set containing the specified values.
+     *
+     * @param <E>    The enumerable type.
+     * @param type   The enumerable type.
+     * @param values The values to add to the set.
+     * @return The new set containing the values.
+     */
+    public static <E extends Enumerable> EnumerableSet<E> of(Class<E> type, E... values) {
+        final EnumerableSet<E> set = new EnumerableSet<E>(type, true);
+        if (values != null) for (E value : values) set.add(value);
+        return set;
+    }
+
+    /**
+     * Creates a new modifiable set containing the specified values.
+     *
+     * @param <E>    The enumerable type.
+     * @param type   The enumerable type.
+     * @param values The values to add to the set.
+     * @return The new set containing the values.
+     */
+    public static <E extends Enumerable> EnumerableSet<E> copyOf(Class<E> type, Collection<? extends E> values) {
+        final EnumerableSet<E> set = new EnumerableSet<E>(type, true);
+        if (values != null) set.addAll(values);
+        return set;
+    }
+
+    /**
+     * Creates a new unmodifiable set containing the specified values.
+     *
+     * @param <E>    The enumerable type.
+     * @param type   The enumerable type.
+     * @param values The values of the set.
+     * @return The new unmodifiable set containing the values.
+     */
+    public static <E extends Enumerable> EnumerableSet<E> unmodifiableCopyOf(Class<E> type,
+                                                                          Collection<? extends E> values) {
+        final EnumerableSet<E> set = new EnumerableSet<E>(type, false);
+        if (values != null) set.addAllUnchecked(values);
+        return set;
+    }
+
+    /**
+     * @return The enumerable type of the elements in this set.
+     */
+    public Class<E> getType() {
+        return type;
+    }
+
+    @Override
+    public int size() {
+        return constantCount + unknownCount;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        if (o == null || o.getClass() != type) return false;
+        final int ordinal = ((Enumerable) o).ordinal();
+        return ordinal == Integer.MAX_VALUE ? indexOfUnknown((Enumerable) o) >= 0 : (bits[ordinal >>> 6] & (1L << ordinal)) != 0L;
+    }
+
+    @Override
+    public boolean add(E e) {
+        checkModifiable();
+        return addUnchecked(e);
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        checkModifiable();
+        if (o == null || o.getClass() != type) return false;
+        final int ordinal = ((Enumerable) o).ordinal();
+        if (ordinal == Integer.MAX_VALUE) {
+            final int index = indexOfUnknown((Enumerable) o);
+            if (index < 0) return false;
+            removeUnknown(index);
+        } else {
+            final int word = ordinal >>> 6;
+            final long bit = 1L << ordinal;
+            if ((bits[word] & bit) == 0L) return false;
+            bits[word] &= ~bit;
+            constantCount--;
+        }
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        checkModifiable();
+        Arrays.fill(bits, 0L);
+        Arrays.fill(unknowns, 0, unknownCount, null);
+        constantCount = unknownCount = 0;
+    }
+
+    @Override
+    public boolean containsAll(Collection<?> c) {
+        final EnumerableSet<?> other = sameType(c);
+        if (other == null) return super.containsAll(c);
+        for (int word = 0; word < bits.length; word++) {
+            if ((other.bits[word] & ~bits[word]) != 0L) return false;
+        }
+        for (int i = 0; i < other.unknownCount; i++) {
+            if (indexOfUnknown(other.unknowns[i]) < 0) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        checkModifiable();
+        return addAllUnchecked(c);
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        checkModifiable();
+        final EnumerableSet<?> other = sameType(c);
+        if (other == null) return super.removeAll(c);
+        boolean changed = false;
+        for (int word = 0; word < bits.length; word++) {
+            final long updated = bits[word] & ~other.bits[word];
+            changed |= updated != bits[word];
+            bits[word] = updated;
+        }
+        if (changed) recountConstants();
+        return retainUnknowns(other, false) || changed;
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        checkModifiable();
+        final EnumerableSet<?> other = sameType(c);
+        if (other == null) return super.retainAll(c);
+        boolean changed = false;
+        for (int word = 0; word < bits.length; word++) {
+            final long updated = bits[word] & other.bits[word];
+            changed |= updated != bits[word];
+            bits[word] = updated;
+        }
+        if (changed) recountConstants();
+        return retainUnknowns(other, true) || changed;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Itr();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        final EnumerableSet<?> other = o instanceof Collection ? sameType((Collection<?>) o) : null;
+        if (other == null) return super.equals(o);
+        if (!Arrays.equals(bits, other.bits) || unknownCount != other.unknownCount) return false;
+        for (int i = 0; i < unknownCount; i++) {
+            if (!unknowns[i].equals(other.unknowns[i])) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+
+    private void checkModifiable() {
+        if (!modifiable) throw new UnsupportedOperationException("Set of " + type.getName() + " is unmodifiable.");
+    }
+
+    private EnumerableSet<?> sameType(Collection<?> c) {
+        return c instanceof EnumerableSet && ((EnumerableSet<?>) c).type == type ? (EnumerableSet<?>) c : null;
+    }
+
+    private boolean addUnchecked(E e) {
+        if (e == null) throw new NullPointerException("Cannot add <null> to a set of " + type.getName() + ".");
+        if (e.getClass() != type) throw new ClassCastException(
+                "Cannot add " + e.getClass().getName() + " to a set of " + type.getName() + ".");
+        final int ordinal = e.ordinal();
+        if (ordinal == Integer.MAX_VALUE) {
+            final int index = indexOfUnknown(e);
+            if (index >= 0) return false;
+            insertUnknown(-(index + 1), e);
+        } else {
+            final int word = ordinal >>> 6;
+            final long bit = 1L << ordinal;
+            if ((bits[word] & bit) != 0L) return false;
+            bits[word] |= bit;
+            constantCount++;
+        }
+        return true;
+    }
+
+    private boolean addAllUnchecked(Collection<? extends E> c) {
+        final EnumerableSet<?> other = sameType(c);
+        boolean changed = false;
+        if (other == null) {
+            for (E e : c) changed |= addUnchecked(e);
+            return changed;
+        }
+        for (int word = 0; word < bits.length; word++) {
+            final long updated = bits[word] | other.bits[word];
+            changed |= updated != bits[word];
+            bits[word] = updated;
+        }
+        if (changed) recountConstants();
+        for (int i = 0; i < other.unknownCount; i++) {
+            final int index = indexOfUnknown(other.unknowns[i]);
+            if (index < 0) {
+                insertUnknown(-(index + 1), other.unknowns[i]);
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    private void recountConstants() {
+        int count = 0;
+        for (long word : bits) count += Long.bitCount(word);
+        constantCount = count;
+    }
+
+    /**
+     * Binary search for a non-constant value.
+     *
+     * @param value The non-constant value to look for.
+     * @return The index of the value, or <code>-(insertion point + 1)</code> if it is not contained.
+     */
+    private int indexOfUnknown(Enumerable value) {
+        int low = 0, high = unknownCount - 1;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            final int comparison = unknowns[mid].compareTo(value);
+            if (comparison < 0) low = mid + 1;
+            else if (comparison > 0) high = mid - 1;
+            else return mid;
+        }
+        return -(low + 1);
+    }
+
+    private void insertUnknown(int index, Enumerable value) {
+        if (unknownCount == unknowns.length) {
+            final Enumerable[] grown = new Enumerable[Math.max(4, unknownCount * 2)];
+            System.arraycopy(unknowns, 0, grown, 0, unknownCount);
+            unknowns = grown;
+        }
+        System.arraycopy(unknowns, index, unknowns, index + 1, unknownCount - index);
+        unknowns[index] = value;
+        unknownCount++;
+    }
+
+    private void removeUnknown(int index) {
+        System.arraycopy(unknowns, index + 1, unknowns, index, unknownCount - index - 1);
+        unknowns[--unknownCount] = null;
+    }
+
+    private boolean retainUnknowns(EnumerableSet<?> other, boolean retainContained) {
+        int retained = 0;
+        for (int i = 0; i < unknownCount; i++) {
+            if ((other.indexOfUnknown(unknowns[i]) >= 0) == retainContained) unknowns[retained++] = unknowns[i];
+        }
+        if (retained == unknownCount) return false;
+        Arrays.fill(unknowns, retained, unknownCount, null);
+        unknownCount = retained;
+        return true;
+    }
+
+    /**
+     * Iterator over the constant bits in ordinal order, followed by the sorted non-constant values.
+     * Positions at or beyond the number of constant bits refer to the non-constant values.
+     */
+    private final class Itr implements Iterator<E> {
+        private final E[] constants = Enumerable._metadata(type).constants;
+        private final int constantBits = bits.length << 6;
+        private int expectedSize = size();
+        private int cursor = advance(0);
+        private int last = -1;
+
+        private int advance(int position) {
+            for (int word = position >>> 6; word < bits.length; word++) {
+                long remaining = bits[word];
+                if (word == position >>> 6) remaining &= -1L << position;
+                if (remaining != 0L) return (word << 6) + Long.numberOfTrailingZeros(remaining);
+            }
+            return Math.max(position, constantBits);
+        }
+
+        public boolean hasNext() {
+            return cursor < constantBits || cursor - constantBits < unknownCount;
+        }
+
+        @SuppressWarnings("unchecked")
+        public E next() {
+            if (expectedSize != size()) throw new ConcurrentModificationException();
+            if (!hasNext()) throw new NoSuchElementException();
+            last = cursor;
+            if (cursor < constantBits) {
+                cursor = advance(cursor + 1);
+                return constants[last];
+            }
+            cursor++;
+            return (E) unknowns[last - constantBits];
+        }
+
+        public void remove() {
+            checkModifiable();
+            if (last < 0) throw new IllegalStateException("No element to remove.");
+            if (expectedSize != size()) throw new ConcurrentModificationException();
+            if (last < constantBits) {
+                bits[last >>> 6] &= ~(1L << last);
+                constantCount--;
+            } else {
+                removeUnknown(last - constantBits);
+                cursor--;
+            }
+            expectedSize--;
+            last = -1;
+        }
+    }
+
+}
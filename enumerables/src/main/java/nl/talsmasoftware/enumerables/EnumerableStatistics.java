@@ -0,0 +1,107 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.enumerables;
+
+import java.io.Serializable;
+
+/**
+ * Immutable snapshot of the statistics for a single enumerable type.
+ *
+ * @author Sjoerd Talsma
+ * @see Enumerables#statistics(Class)
+ */
+public final class EnumerableStatistics implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final Class<? extends Enumerable> type;
+    private final long internHits, internMisses, internEvictions;
+    private final int internedCount;
+    private final int unknownValueCount;
+    private final long unknownValueLimitExceeded;
+
+    EnumerableStatistics(Class<? extends Enumerable> type, InternCache<?> internCache, UnknownValueGuard<?> guard) {
+        this.type = type;
+        this.internHits = internCache == null ? 0L : internCache.hits.get();
+        this.internMisses = internCache == null ? 0L : internCache.misses.get();
+        this.internEvictions = internCache == null ? 0L : internCache.evictions.get();
+        this.internedCount = internCache == null ? 0 : internCache.size();
+        this.unknownValueCount = guard == null ? 0 : guard.acceptedCount();
+        this.unknownValueLimitExceeded = guard == null ? 0L : guard.exceeded.get();
+    }
+
+    /**
+     * @return The enumerable type these statistics apply to.
+     */
+    public Class<? extends Enumerable> getType() {
+        return type;
+    }
+
+    /**
+     * @return How many times a parsed non-constant value was found in the intern cache.
+     */
+    public long getInternHits() {
+        return internHits;
+    }
+
+    /**
+     * @return How many times a parsed non-constant value was not found in the intern cache.
+     */
+    public long getInternMisses() {
+        return internMisses;
+    }
+
+    /**
+     * @return How many values were evicted from the intern cache.
+     */
+    public long getInternEvictions() {
+        return internEvictions;
+    }
+
+    /**
+     * @return The number of values currently in the intern cache.
+     */
+    public int getInternedCount() {
+        return internedCount;
+    }
+
+    /**
+     * @return The number of distinct non-constant values accepted by the {@link UnknownValueLimit}
+     * (always zero if the type has no limit).
+     */
+    public int getUnknownValueCount() {
+        return unknownValueCount;
+    }
+
+    /**
+     * @return How many times a new non-constant value was parsed after the {@link UnknownValueLimit} was reached.
+     */
+    public long getUnknownValueLimitExceeded() {
+        return unknownValueLimitExceeded;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + '{' + type.getSimpleName()
+                + ", internHits=" + internHits
+                + ", internMisses=" + internMisses
+                + ", internEvictions=" + internEvictions
+                + ", internedCount=" + internedCount
+                + ", unknownValueCount=" + unknownValueCount
+                + ", unknownValueLimitExceeded=" + unknownValueLimitExceeded
+                + '}';
+    }
+
+}
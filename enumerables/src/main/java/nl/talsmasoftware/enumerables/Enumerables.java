@@ -0,0 +1,228 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.enumerables;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.concurrent.Executor;
+
+/**
+ * Utility methods to configure and inspect the behaviour of {@link Enumerable} types.
+ *
+ * @author Sjoerd Talsma
+ */
+public final class Enumerables {
+
+    /**
+     * Private constructor to avoid instantiation of this utility class.
+     */
+    private Enumerables() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Configures interning of parsed non-constant values for the specified enumerable type.
+     * <p>
+     * Changing the policy of a type discards the values that were interned so far.
+     *
+     * @param <E>    The actual non-abstract Enumerable type.
+     * @param type   The enumerable type to configure interning for.
+     * @param policy The intern policy to use (<code>null</code> or {@link InternPolicy#NONE} to disable interning).
+     * @see InternPolicy
+     */
+    public static <E extends Enumerable> void setInternPolicy(Class<E> type, InternPolicy policy) {
+        Enumerable._metadata(type).internCache = policy == null ? null : policy.<E>createCache();
+    }
+
+    /**
+     * Limits the number of distinct non-constant values that will be parsed for the specified enumerable type.
+     * <p>
+     * This overrides any {@link UnknownValueLimit} annotation on the type.
+     * Changing the limit of a type resets the distinct values that were accepted so far.
+     *
+     * @param <E>          The actual non-abstract Enumerable type.
+     * @param type         The enumerable type to limit the unknown values of.
+     * @param maximum      The maximum number of distinct non-constant values to accept.
+     * @param overflow     What to do with new unknown values once the maximum has been reached.
+     * @param constantName The name of the constant to use for new unknown values
+     *                     (required for {@link UnknownValueLimit.Overflow#USE_CONSTANT}, ignored otherwise).
+     * @throws Enumerable.ConstantNotFoundException if the type has no constant by the specified name,
+     *                                              while {@code USE_CONSTANT} overflow was requested.
+     * @see UnknownValueLimit
+     */
+    public static <E extends Enumerable> void setUnknownValueLimit(
+            Class<E> type, int maximum, UnknownValueLimit.Overflow overflow, String constantName) {
+        final TypeMetadata<E> metadata = Enumerable._metadata(type);
+        metadata.unknownValueGuard = new UnknownValueGuard<E>(metadata, maximum, overflow, constantName);
+    }
+
+    /**
+     * Removes any limit on the number of distinct non-constant values for the specified enumerable type,
+     * including a limit from an {@link UnknownValueLimit} annotation.
+     *
+     * @param type The enumerable type to remove the limit of.
+     */
+    public static void removeUnknownValueLimit(Class<? extends Enumerable> type) {
+        Enumerable._metadata(type).unknownValueGuard = null;
+    }
+
+    /**
+     * Starts tracking the most frequently parsed non-constant values of the specified enumerable type,
+     * e.g. to find out which values may deserve to become constants.
+     * <p>
+     * The tracker uses a fixed amount of memory: it monitors up to <code>capacity</code> values for each of a few
+     * thread stripes. Values that make up more than <code>1/capacity</code> of the parsed non-constant values
+     * are guaranteed to be among the tracked values. Restarting tracking of a type discards the values counted so far.
+     *
+     * @param type     The enumerable type to track the non-constant values of.
+     * @param capacity The number of values to monitor (must be positive, e.g. ten times the number of values
+     *                 that should be reported).
+     * @see #topUnknownValues(Class, int)
+     */
+    public static void trackUnknownValues(Class<? extends Enumerable> type, int capacity) {
+        Enumerable._metadata(type).unknownValueTracker = new UnknownValueTracker(capacity);
+    }
+
+    /**
+     * Stops tracking the non-constant values of the specified enumerable type, discarding the values counted so far.
+     *
+     * @param type The enumerable type to stop tracking the non-constant values of.
+     */
+    public static void stopTrackingUnknownValues(Class<? extends Enumerable> type) {
+        Enumerable._metadata(type).unknownValueTracker = null;
+    }
+
+    /**
+     * Returns the most frequently parsed non-constant values of the specified enumerable type,
+     * since {@link #trackUnknownValues(Class, int) tracking} of the type started.
+     *
+     * @param type    The enumerable type to return the most frequent non-constant values of.
+     * @param maximum The maximum number of values to return.
+     * @return The most frequently parsed values with their approximate counts, by descending count
+     * (empty if the non-constant values of the type are not tracked).
+     */
+    public static List<UnknownValueCount> topUnknownValues(Class<? extends Enumerable> type, int maximum) {
+        final UnknownValueTracker tracker = Enumerable._metadata(type).unknownValueTracker;
+        return tracker == null || maximum < 1 ? Collections.<UnknownValueCount>emptyList()
+                : Collections.unmodifiableList(tracker.top(maximum));
+    }
+
+    /**
+     * Eagerly initializes the specified enumerable types on a temporary pool of daemon threads.
+     *
+     * @param types The enumerable types to preload.
+     * @return The report with the initialization time per type and any failures.
+     * @see #preload(Executor, Class[])
+     */
+    public static PreloadReport preload(Class<?>... types) {
+        return preload(null, types);
+    }
+
+    /**
+     * Eagerly initializes the specified enumerable types, so the first parse of each type does not have to.
+     * <p>
+     * For each type, its constants are found and all lookup structures are built.
+     * This is intended to be called during application startup, e.g. before reporting readiness.
+     * The method waits until all types are preloaded. If the calling thread is interrupted,
+     * the types preloaded so far are reported.
+     * <p>
+     * Types that cannot be preloaded are reported as failures rather than thrown,
+     * including types the executor rejects.
+     * Types the executor has not started on once all types are submitted, are preloaded by the calling thread.
+     *
+     * @param executor The executor to preload the types on
+     *                 (optional, a temporary pool of daemon threads is used if <code>null</code>).
+     * @param types    The enumerable types to preload.
+     * @return The report with the initialization time per type and any failures.
+     */
+    public static PreloadReport preload(Executor executor, Class<?>... types) {
+        return Preloader.preload(types == null ? Collections.emptyList() : Arrays.asList(types), null, executor);
+    }
+
+    /**
+     * Eagerly initializes all enumerable types listed in <code>META-INF/enumerables/types</code> resources.
+     * <p>
+     * The <code>enumerables-processor</code> annotation processor generates this index at build time,
+     * but it can also be maintained by hand: it lists one binary class name per line,
+     * <code>#</code> starts a comment.
+     *
+     * @param classLoader  The class loader to find the index resources and load the types with
+     *                     (optional, the context class loader is used if <code>null</code>).
+     * @param executor     The executor to preload the types on
+     *                     (optional, a temporary pool of daemon threads is used if <code>null</code>).
+     * @param packageNames The packages of the types to preload (optional, all indexed types if empty).
+     * @return The report with the initialization time per type and any failures.
+     * @see #preload(Executor, Class[])
+     */
+    public static PreloadReport preloadIndexed(ClassLoader classLoader, Executor executor, String... packageNames) {
+        ClassLoader loader = classLoader != null ? classLoader : Thread.currentThread().getContextClassLoader();
+        if (loader == null) loader = Enumerables.class.getClassLoader();
+        return Preloader.preload(Preloader.indexedTypeNames(loader, packageNames), loader, executor);
+    }
+
+    /**
+     * Sorts the array in the {@link Enumerable#compareTo(Enumerable) natural order} of its elements.
+     * <p>
+     * If all elements are of the same enumerable type, the constants are sorted by ordinal in linear time
+     * and only the non-constant values are compared, based on a case-folded key that is calculated once per value.
+     * Otherwise, this falls back to {@link Arrays#sort(Object[])}.
+     * Either way the resulting order is exactly the natural order and the sort is stable.
+     *
+     * @param <E>   The enumerable type of the elements.
+     * @param array The array to sort (<code>null</code> is ignored).
+     * @throws NullPointerException if the array contains <code>null</code> elements.
+     */
+    public static <E extends Enumerable> void sort(E[] array) {
+        if (array != null) Sorter.sort(array);
+    }
+
+    /**
+     * Sorts the list in the {@link Enumerable#compareTo(Enumerable) natural order} of its elements.
+     * <p>
+     * Like {@link Collections#sort(List)}, the elements are copied to an array, sorted
+     * {@link #sort(Enumerable[]) as an array} and then written back into the list.
+     *
+     * @param <E>  The enumerable type of the elements.
+     * @param list The list to sort (<code>null</code> is ignored).
+     * @throws NullPointerException          if the list contains <code>null</code> elements.
+     * @throws UnsupportedOperationException if the list does not support the <code>set</code> operation.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E extends Enumerable> void sort(List<E> list) {
+        if (list == null || list.size() < 2) return;
+        final Enumerable[] array = list.toArray(new Enumerable[list.size()]);
+        Sorter.sort(array);
+        final ListIterator<E> iterator = list.listIterator();
+        for (Enumerable element : array) {
+            iterator.next();
+            iterator.set((E) element);
+        }
+    }
+
+    /**
+     * Returns a snapshot of the statistics for the specified enumerable type.
+     *
+     * @param type The enumerable type to return the statistics for.
+     * @return The current statistics for the type.
+     */
+    public static EnumerableStatistics statistics(Class<? extends Enumerable> type) {
+        final TypeMetadata<?> metadata = Enumerable._metadata(type);
+        return new EnumerableStatistics(type, metadata.internCache, metadata.unknownValueGuard);
+    }
+
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.enumerables;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Events about enumerable activity for the JDK Flight Recorder.
+ * <p>
+ * On Java 11 and newer, the events are recorded as JFR events in the <code>Enumerables</code> category.
+ * On older JVMs or JVMs without the flight recorder, nothing is recorded.
+ * Events that are in progress are represented by an opaque object, which is <code>null</code>
+ * if the event is not being recorded.
+ *
+ * @author Sjoerd Talsma
+ */
+abstract class Events {
+    private static final Logger LOGGER = Logger.getLogger(Events.class.getName());
+
+    /**
+     * The events for this JVM.
+     */
+    static final Events EVENTS = create();
+
+    /**
+     * @return The event for a type initialization that starts now, or <code>null</code> if it is not recorded.
+     */
+    abstract Object beginInitialization();
+
+    /**
+     * @param event         The event returned when the initialization began.
+     * @param type          The initialized enumerable type.
+     * @param constantCount The number of constants found for the type.
+     */
+    abstract void endInitialization(Object event, Class<?> type, int constantCount);
+
+    /**
+     * @return The event for the instantiation of a non-constant value that starts now,
+     * or <code>null</code> if it is not recorded.
+     */
+    abstract Object beginInstantiation();
+
+    /**
+     * @param event The event returned when the instantiation began.
+     * @param type  The enumerable type that was instantiated.
+     * @param value The non-constant value.
+     */
+    abstract void endInstantiation(Object event, Class<?> type, String value);
+
+    /**
+     * Records a constant name that was looked up by {@link Enumerable#valueOf(Class, CharSequence) valueOf}
+     * or configured as {@link UnknownValueLimit#constant() overflow constant}, without a matching constant.
+     *
+     * @param type The enumerable type that had no constant with the name.
+     * @param name The requested constant name.
+     */
+    abstract void constantNotFound(Class<?> type, CharSequence name);
+
+    /**
+     * @return The flight recorder events if supported by the JVM, otherwise events that are never recorded.
+     */
+    static Events create() {
+        try {
+            return (Events) Class.forName("nl.talsmasoftware.enumerables.JfrEvents").newInstance();
+        } catch (LinkageError le) {
+            LOGGER.log(Level.FINEST, "Flight recorder unavailable, no enumerable events are recorded.", le);
+        } catch (Exception e) {
+            LOGGER.log(Level.FINEST, "Flight recorder events unavailable, no enumerable events are recorded.", e);
+        }
+        return new Disabled();
+    }
+
+    /**
+     * Events for JVMs without flight recorder.
+     */
+    static final class Disabled extends Events {
+        Object beginInitialization() {
+            return null;
+        }
+
+        void endInitialization(Object event, Class<?> type, int constantCount) {
+        }
+
+        Object beginInstantiation() {
+            return null;
+        }
+
+        void endInstantiation(Object event, Class<?> type, String value) {
+        }
+
+        void constantNotFound(Class<?> type, CharSequence name) {
+        }
+    }
+
+}
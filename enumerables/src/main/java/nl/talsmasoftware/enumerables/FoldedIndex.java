@@ -0,0 +1,96 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.enumerables;
+
+/**
+ * Immutable index from the {@link ValueFolding folded} form of a {@link String} key to its position in the array
+ * the index was built from.
+ * <p>
+ * Looked up values are folded character by character while hashing and comparing, so no folded copy of the value
+ * is created. The index is an open-addressing hash table with linear probing.
+ * If multiple keys have the same folded form, the index of the first occurrence is returned.
+ *
+ * @author Sjoerd Talsma
+ * @see ValueIndex
+ */
+final class FoldedIndex {
+    private final ValueFolding folding;
+    private final int mask;
+    private final String[] slots;
+    private final int[] indices;
+
+    /**
+     * @param keys    The keys to index, <code>null</code> elements are skipped.
+     * @param folding The folding to apply to the keys and looked up values.
+     */
+    FoldedIndex(String[] keys, ValueFolding folding) {
+        this.folding = folding;
+        final int size = ValueIndex.tableSizeFor(keys.length);
+        this.mask = size - 1;
+        this.slots = new String[size];
+        this.indices = new int[size];
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] == null) continue;
+            final String folded = fold(keys[i]);
+            int slot = spread(folded.hashCode()) & mask;
+            while (slots[slot] != null && !slots[slot].equals(folded)) slot = (slot + 1) & mask;
+            if (slots[slot] == null) {
+                slots[slot] = folded;
+                indices[slot] = i;
+            }
+        }
+    }
+
+    /**
+     * @param value The value to look up.
+     * @return The index of the first key with the same folded form, or {@code -1} if there is no such key.
+     */
+    int indexOf(CharSequence value) {
+        int hash = 0;
+        for (int i = 0, length = value.length(); i < length; i++) {
+            final int folded = folding.fold(value.charAt(i));
+            if (folded >= 0) hash = 31 * hash + folded;
+        }
+        for (int slot = spread(hash) & mask; slots[slot] != null; slot = (slot + 1) & mask) {
+            if (matches(slots[slot], value)) return indices[slot];
+        }
+        return -1;
+    }
+
+    private String fold(String key) {
+        final StringBuilder folded = new StringBuilder(key.length());
+        for (int i = 0; i < key.length(); i++) {
+            final int ch = folding.fold(key.charAt(i));
+            if (ch >= 0) folded.append((char) ch);
+        }
+        return folded.toString();
+    }
+
+    private boolean matches(String folded, CharSequence value) {
+        int pos = 0;
+        for (int i = 0, length = value.length(); i < length; i++) {
+            final int ch = folding.fold(value.charAt(i));
+            if (ch < 0) continue;
+            if (pos == folded.length() || folded.charAt(pos++) != ch) return false;
+        }
+        return pos == folded.length();
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.enumerables;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Makes {@link Enumerable#parse(Class, CharSequence) parsing} of an enumerable type match constants
+ * loosely, using the specified {@link ValueFolding folding}.
+ * <p>
+ * Parsed values are first matched with the exact constant values.
+ * Only if no constant matches exactly, the folded value is matched with the folded constant values,
+ * so that variants such as <code>"visa"</code> or <code>" VISA "</code> resolve to the canonical constant instead
+ * of new non-constant objects.
+ *
+ * @author Sjoerd Talsma
+ * @see ValueFolding
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface FoldedParsing {
+
+    /**
+     * @return The folding to apply when no constant matches a parsed value exactly.
+     */
+    Class<? extends ValueFolding> value() default ValueFolding.IgnoreCase.class;
+
+}
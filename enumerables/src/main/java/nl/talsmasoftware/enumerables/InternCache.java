@@ -0,0 +1,194 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.enumerables;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache for parsed non-constant values of a single enumerable type, created by an {@link InternPolicy}.
+ *
+ * @param <E> The enumerable type.
+ * @author Sjoerd Talsma
+ */
+abstract class InternCache<E extends Enumerable> {
+    final AtomicLong hits = new AtomicLong();
+    final AtomicLong misses = new AtomicLong();
+    final AtomicLong evictions = new AtomicLong();
+
+    /**
+     * @param value The value to look up.
+     * @return The interned instance for the value, or <code>null</code> if the value is not (or no longer) interned.
+     */
+    final E get(String value) {
+        final E interned = lookup(value);
+        (interned == null ? misses : hits).incrementAndGet();
+        return interned;
+    }
+
+    /**
+     * @param value    The value to intern.
+     * @param instance The newly parsed instance for the value.
+     * @return The interned instance for the value, which is the given instance unless another thread won the race.
+     */
+    abstract E intern(String value, E instance);
+
+    abstract E lookup(String value);
+
+    abstract int size();
+
+    /**
+     * Size-bounded cache evicting the least-recently used values.
+     * <p>
+     * The cache is split into independently locked segments to reduce contention between parsing threads.
+     * Each segment holds an equal share of the maximum size.
+     */
+    static final class LeastRecentlyUsed<E extends Enumerable> extends InternCache<E> {
+        private static final int MAX_SEGMENTS = 16;
+        private final Segment<E>[] segments;
+
+        @SuppressWarnings("unchecked")
+        LeastRecentlyUsed(int maximumSize) {
+            int segmentCount = 1;
+            while (segmentCount < MAX_SEGMENTS && segmentCount * 32 <= maximumSize) segmentCount <<= 1;
+            this.segments = new Segment[segmentCount];
+            for (int i = 0; i < segmentCount; i++) {
+                segments[i] = new Segment<E>(maximumSize / segmentCount, evictions);
+            }
+        }
+
+        private Segment<E> segmentFor(String value) {
+            final int hash = value.hashCode();
+            return segments[(hash ^ (hash >>> 16)) & (segments.length - 1)];
+        }
+
+        E lookup(String value) {
+            final Segment<E> segment = segmentFor(value);
+            synchronized (segment) {
+                return segment.get(value);
+            }
+        }
+
+        E intern(String value, E instance) {
+            final Segment<E> segment = segmentFor(value);
+            synchronized (segment) {
+                final E existing = segment.get(value);
+                if (existing != null) return existing;
+                segment.put(value, instance);
+                return instance;
+            }
+        }
+
+        int size() {
+            int size = 0;
+            for (Segment<E> segment : segments) {
+                synchronized (segment) {
+                    size += segment.size();
+                }
+            }
+            return size;
+        }
+
+        private static final class Segment<E> extends LinkedHashMap<String, E> {
+            private final int capacity;
+            private final AtomicLong evictions;
+
+            private Segment(int capacity, AtomicLong evictions) {
+                super(16, 0.75f, true);
+                this.capacity = capacity;
+                this.evictions = evictions;
+            }
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, E> eldest) {
+                final boolean evict = size() > capacity;
+                if (evict) evictions.incrementAndGet();
+                return evict;
+            }
+        }
+    }
+
+    /**
+     * Unbounded cache holding its values by weak or soft references,
+     * leaving eviction to the garbage collector.
+     */
+    static final class ReferenceCache<E extends Enumerable> extends InternCache<E> {
+        private final boolean soft;
+        private final ConcurrentMap<String, Reference<E>> references = new ConcurrentHashMap<String, Reference<E>>();
+        private final ReferenceQueue<E> collected = new ReferenceQueue<E>();
+
+        ReferenceCache(boolean soft) {
+            this.soft = soft;
+        }
+
+        E lookup(String value) {
+            final Reference<E> reference = references.get(value);
+            return reference == null ? null : reference.get();
+        }
+
+        E intern(String value, E instance) {
+            purgeCollected();
+            final Reference<E> reference = soft
+                    ? new SoftValue<E>(value, instance, collected) : new WeakValue<E>(value, instance, collected);
+            for (Reference<E> existing = references.putIfAbsent(value, reference); existing != null;
+                 existing = references.putIfAbsent(value, reference)) {
+                final E interned = existing.get();
+                if (interned != null) return interned;
+                references.remove(value, existing); // Collected in the meantime, replace it.
+            }
+            return instance;
+        }
+
+        int size() {
+            purgeCollected();
+            return references.size();
+        }
+
+        private void purgeCollected() {
+            for (Reference<? extends E> reference = collected.poll(); reference != null; reference = collected.poll()) {
+                final String key = reference instanceof WeakValue<?>
+                        ? ((WeakValue<?>) reference).key : ((SoftValue<?>) reference).key;
+                if (references.remove(key, reference)) evictions.incrementAndGet();
+            }
+        }
+    }
+
+    private static final class WeakValue<E> extends WeakReference<E> {
+        private final String key;
+
+        private WeakValue(String key, E value, ReferenceQueue<? super E> queue) {
+            super(value, queue);
+            this.key = key;
+        }
+    }
+
+    private static final class SoftValue<E> extends SoftReference<E> {
+        private final String key;
+
+        private SoftValue(String key, E value, ReferenceQueue<? super E> queue) {
+            super(value, queue);
+            this.key = key;
+        }
+    }
+
+}
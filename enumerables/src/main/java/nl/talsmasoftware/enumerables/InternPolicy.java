@@ -0,0 +1,109 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.enumerables;
+
+/**
+ * Policy for <em>interning</em> parsed non-constant values of an enumerable type.
+ * <p>
+ * By default, every {@link Enumerable#parse(Class, CharSequence) parse} of a value that does not match a constant
+ * creates a new object instance. When an intern policy is {@link Enumerables#setInternPolicy(Class, InternPolicy)
+ * configured} for a type, parsed non-constant values are cached, so that parsing the same value again returns
+ * the same instance. This saves allocations when the same 'unknown' values are parsed over and over again.
+ * <p>
+ * The policies differ in how values are evicted from the cache:
+ * <ul>
+ * <li>{@link #leastRecentlyUsed(int)} keeps a bounded number of values, evicting the least recently used ones.</li>
+ * <li>{@link #weakReferences()} keeps values as long as they are in use elsewhere.</li>
+ * <li>{@link #softReferences()} keeps values until the JVM is running low on memory.</li>
+ * </ul>
+ *
+ * @author Sjoerd Talsma
+ * @see Enumerables#setInternPolicy(Class, InternPolicy)
+ * @see Enumerables#statistics(Class)
+ */
+public abstract class InternPolicy {
+
+    /**
+     * Policy that does not intern any values; every parsed non-constant value is a new instance (the default).
+     */
+    public static final InternPolicy NONE = new InternPolicy("None") {
+        <E extends Enumerable> InternCache<E> createCache() {
+            return null;
+        }
+    };
+
+    private final String description;
+
+    private InternPolicy(String description) {
+        this.description = description;
+    }
+
+    /**
+     * Size-bounded intern policy that evicts the least recently used values.
+     *
+     * @param maximumSize The maximum number of values to intern (must be positive).
+     * @return The intern policy.
+     */
+    public static InternPolicy leastRecentlyUsed(final int maximumSize) {
+        if (maximumSize < 1) throw new IllegalArgumentException("Maximum size must be positive: " + maximumSize);
+        return new InternPolicy("Least recently used, maximum size " + maximumSize) {
+            <E extends Enumerable> InternCache<E> createCache() {
+                return new InternCache.LeastRecentlyUsed<E>(maximumSize);
+            }
+        };
+    }
+
+    /**
+     * Intern policy that holds values by {@link java.lang.ref.WeakReference weak references}.
+     *
+     * @return The intern policy.
+     */
+    public static InternPolicy weakReferences() {
+        return new InternPolicy("Weak references") {
+            <E extends Enumerable> InternCache<E> createCache() {
+                return new InternCache.ReferenceCache<E>(false);
+            }
+        };
+    }
+
+    /**
+     * Intern policy that holds values by {@link java.lang.ref.SoftReference soft references}.
+     *
+     * @return The intern policy.
+     */
+    public static InternPolicy softReferences() {
+        return new InternPolicy("Soft references") {
+            <E extends Enumerable> InternCache<E> createCache() {
+                return new InternCache.ReferenceCache<E>(true);
+            }
+        };
+    }
+
+    /**
+     * @param <E> The enumerable type.
+     * @return A new, empty cache for this policy, or <code>null</code> if no values should be interned.
+     */
+    abstract <E extends Enumerable> InternCache<E> createCache();
+
+    /**
+     * @return Description of this intern policy.
+     */
+    @Override
+    public String toString() {
+        return "InternPolicy{" + description + '}';
+    }
+
+}
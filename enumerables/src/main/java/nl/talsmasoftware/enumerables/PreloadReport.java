@@ -0,0 +1,68 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.enumerables;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Result of {@link Enumerables#preload(Class[]) preloading} enumerable types.
+ *
+ * @author Sjoerd Talsma
+ * @see Enumerables#preload(java.util.concurrent.Executor, Class[])
+ * @see Enumerables#preloadIndexed(ClassLoader, java.util.concurrent.Executor, String...)
+ */
+public final class PreloadReport {
+    private final Map<String, Long> initNanos;
+    private final Map<String, Throwable> failures;
+    private final long totalNanos;
+
+    PreloadReport(Map<String, Long> initNanos, Map<String, Throwable> failures, long totalNanos) {
+        this.initNanos = Collections.unmodifiableMap(new LinkedHashMap<String, Long>(initNanos));
+        this.failures = Collections.unmodifiableMap(new LinkedHashMap<String, Throwable>(failures));
+        this.totalNanos = totalNanos;
+    }
+
+    /**
+     * @return The initialization time in nanoseconds per successfully preloaded type name.
+     * Types that were already initialized before preloading report a very short time.
+     */
+    public Map<String, Long> getInitNanos() {
+        return initNanos;
+    }
+
+    /**
+     * @return The failure per type name that could not be preloaded.
+     */
+    public Map<String, Throwable> getFailures() {
+        return failures;
+    }
+
+    /**
+     * @return The total time in nanoseconds it took to preload all types.
+     */
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{preloaded=" + initNanos.size() + ", failed=" + failures.size()
+                + ", totalMillis=" + (totalNanos / 1000000L) + '}';
+    }
+
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.enumerables;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.reflect.Modifier;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Eagerly initializes enumerable types, so the first parse of each type does not have to.
+ *
+ * @author Sjoerd Talsma
+ * @see Enumerables#preload(Executor, Class[])
+ */
+final class Preloader {
+    private static final Logger LOGGER = Logger.getLogger(Preloader.class.getName());
+
+    /**
+     * Resource listing enumerable type names, one binary class name per line.
+     */
+    static final String TYPE_INDEX = "META-INF/enumerables/types";
+
+    private final Map<String, Long> initNanos = new LinkedHashMap<String, Long>();
+    private final Map<String, Throwable> failures = new LinkedHashMap<String, Throwable>();
+
+    private Preloader() {
+    }
+
+    /**
+     * Preloads the types on the executor and waits for all of them to finish.
+     * <p>
+     * Types the executor rejects are reported as failures.
+     * Types the executor has not started preloading once all are submitted, are preloaded by the calling thread.
+     * This way, an executor that silently drops tasks cannot make this method wait forever.
+     *
+     * @param types    The types to preload, either as {@link Class} or as class name with the class loader.
+     * @param loader   The class loader to load named types with.
+     * @param executor The executor to preload on (optional, a temporary thread pool is used if <code>null</code>).
+     * @return The report of the preloaded types.
+     */
+    static PreloadReport preload(Collection<?> types, ClassLoader loader, Executor executor) {
+        final long start = System.nanoTime();
+        final Preloader preloader = new Preloader();
+        final CountDownLatch done = new CountDownLatch(types.size());
+        final ExecutorService temporary = executor == null && !types.isEmpty() ? newThreadPool(types.size()) : null;
+        final List<Task> tasks = new ArrayList<Task>(types.size());
+        try {
+            for (Object type : types) {
+                final Task task = preloader.new Task(type, loader, done);
+                tasks.add(task);
+                try {
+                    (temporary != null ? temporary : executor).execute(task);
+                } catch (RejectedExecutionException ree) {
+                    task.rejected(ree);
+                }
+            }
+            for (Task task : tasks) {
+                task.run(); // Only preloads types the executor has not started on.
+            }
+            done.await();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            LOGGER.log(Level.FINE, "Interrupted while preloading enumerable types.", ie);
+        } finally {
+            if (temporary != null) temporary.shutdown();
+        }
+        synchronized (preloader) {
+            return new PreloadReport(preloader.initNanos, preloader.failures, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Reads the type names from all type index resources.
+     *
+     * @param loader       The class loader to find the index resources with.
+     * @param packageNames The packages to return the types of (optional, all types if empty).
+     * @return The indexed type names.
+     */
+    static Set<String> indexedTypeNames(ClassLoader loader, String... packageNames) {
+        final Set<String> names = new LinkedHashSet<String>();
+        try {
+            for (String name : classNames(loader, TYPE_INDEX)) {
+                if (inPackages(name, packageNames)) names.add(name);
+            }
+        } catch (IOException ioe) {
+            throw new IllegalStateException("Could not read enumerable type index " + TYPE_INDEX + ".", ioe);
+        }
+        return names;
+    }
+
+    /**
+     * Reads class names from all resources with the specified name, one name per line.
+     * Anything after a <code>#</code> is a comment.
+     *
+     * @param loader   The class loader to find the resources with.
+     * @param resource The name of the resources to read.
+     * @return The class names listed in the resources.
+     * @throws IOException if a resource could not be read.
+     */
+    static Set<String> classNames(ClassLoader loader, String resource) throws IOException {
+        final Set<String> names = new LinkedHashSet<String>();
+        for (Enumeration<URL> urls = loader.getResources(resource); urls.hasMoreElements(); ) {
+            final BufferedReader reader =
+                    new BufferedReader(new InputStreamReader(urls.nextElement().openStream(), "UTF-8"));
+            try {
+                for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                    final int comment = line.indexOf('#');
+                    final String name = (comment < 0 ? line : line.substring(0, comment)).trim();
+                    if (name.length() > 0) names.add(name);
+                }
+            } finally {
+                reader.close();
+            }
+        }
+        return names;
+    }
+
+    private static boolean inPackages(String name, String... packageNames) {
+        if (packageNames == null || packageNames.length == 0) return true;
+        for (String packageName : packageNames) {
+            if (packageName == null || packageName.length() == 0) {
+                if (name.indexOf('.') < 0) return true;
+            } else if (name.startsWith(packageName + '.')) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static ExecutorService newThreadPool(int taskCount) {
+        final int threads = Math.max(1, Math.min(taskCount, Runtime.getRuntime().availableProcessors()));
+        return Executors.newFixedThreadPool(threads, new ThreadFactory() {
+            private final AtomicInteger count = new AtomicInteger();
+
+            public Thread newThread(Runnable runnable) {
+                final Thread thread = new Thread(runnable, "enumerables-preload-" + count.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+    }
+
+    private synchronized void completed(String typeName, long nanos, Throwable failure) {
+        if (failure == null) initNanos.put(typeName, nanos);
+        else failures.put(typeName, failure);
+    }
+
+    private final class Task implements Runnable {
+        private final Object type;
+        private final String typeName;
+        private final ClassLoader loader;
+        private final CountDownLatch done;
+        private final AtomicBoolean claimed = new AtomicBoolean(false);
+
+        private Task(Object type, ClassLoader loader, CountDownLatch done) {
+            this.type = type;
+            this.typeName = type instanceof Class ? ((Class<?>) type).getName() : String.valueOf(type);
+            this.loader = loader;
+            this.done = done;
+        }
+
+        private void rejected(RejectedExecutionException rejection) {
+            if (claimed.compareAndSet(false, true)) {
+                LOGGER.log(Level.WARNING, "Could not preload enumerable type " + typeName + ".", rejection);
+                completed(typeName, 0L, rejection);
+                done.countDown();
+            }
+        }
+
+        public void run() {
+            if (!claimed.compareAndSet(false, true)) return;
+            final long start = System.nanoTime();
+            Throwable failure = null;
+            try {
+                final Class<?> enumerableType = type instanceof Class ? (Class<?>) type
+                        : Class.forName(typeName, false, loader);
+                if (!Enumerable.class.isAssignableFrom(enumerableType)
+                        || Modifier.isAbstract(enumerableType.getModifiers())) {
+                    throw new IllegalArgumentException("Not a concrete Enumerable type: " + typeName + ".");
+                }
+                Enumerable._metadata(enumerableType.asSubclass(Enumerable.class)).preload();
+            } catch (Throwable t) {
+                LOGGER.log(Level.WARNING, "Could not preload enumerable type " + typeName + ".", t);
+                failure = t;
+            } finally {
+                completed(typeName, System.nanoTime() - start, failure);
+                done.countDown();
+            }
+        }
+    }
+
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.enumerables;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Sorts enumerables of a single type in their {@link Enumerable#compareTo(Enumerable) natural order}
+ * without calling <code>compareTo</code> for every comparison.
+ * <p>
+ * Constants are distributed by {@link Enumerable#ordinal() ordinal} with a counting sort.
+ * The non-constant values, which are always sorted after the constants, are sorted by a case-folded key that is
+ * calculated only once per value. Both steps are stable, just like {@link java.util.Collections#sort(java.util.List)}.
+ *
+ * @author Sjoerd Talsma
+ * @see Enumerables#sort(Enumerable[])
+ */
+final class Sorter {
+    private static final int UNKNOWN = Integer.MAX_VALUE;
+
+    private Sorter() {
+    }
+
+    /**
+     * Sorts the array in place.
+     * Arrays containing <code>null</code> or different enumerable classes are sorted by {@link Arrays#sort(Object[])}.
+     *
+     * @param array The array to sort.
+     */
+    static void sort(Enumerable[] array) {
+        if (array.length < 2) return;
+        final Class<?> type = array[0] == null ? null : array[0].getClass();
+        for (Enumerable element : array) {
+            if (element == null || element.getClass() != type) {
+                Arrays.sort(array);
+                return;
+            }
+        }
+
+        final int constantCount = Enumerable._metadata(type.asSubclass(Enumerable.class)).constants.length;
+        final int[] ordinals = new int[array.length];
+        final int[] starts = new int[constantCount + 1]; // last bucket holds the non-constant values
+        for (int i = 0; i < array.length; i++) {
+            final int ordinal = array[i].ordinal();
+            ordinals[i] = ordinal;
+            starts[ordinal == UNKNOWN ? constantCount : ordinal]++;
+        }
+        for (int bucket = 0, start = 0; bucket <= constantCount; bucket++) {
+            final int count = starts[bucket];
+            starts[bucket] = start;
+            start += count;
+        }
+
+        final int unknownStart = starts[constantCount];
+        final Keyed[] unknowns = new Keyed[array.length - unknownStart];
+        final Enumerable[] sorted = new Enumerable[unknownStart];
+        for (int i = 0, u = 0; i < array.length; i++) {
+            if (ordinals[i] == UNKNOWN) unknowns[u++] = new Keyed(array[i]);
+            else sorted[starts[ordinals[i]]++] = array[i];
+        }
+        System.arraycopy(sorted, 0, array, 0, unknownStart);
+        if (unknowns.length > 1) Arrays.sort(unknowns, Keyed.ORDER);
+        for (int u = 0; u < unknowns.length; u++) array[unknownStart + u] = unknowns[u].enumerable;
+    }
+
+    /**
+     * A non-constant enumerable with its value folded the same way {@link String#compareToIgnoreCase(String)} does.
+     */
+    private static final class Keyed {
+        private static final Comparator<Keyed> ORDER = new Comparator<Keyed>() {
+            public int compare(Keyed o1, Keyed o2) {
+                if (o1.key == null || o2.key == null) return o1.enumerable.compareTo(o2.enumerable);
+                final int comparison = o1.key.compareTo(o2.key);
+                return comparison != 0 ? comparison : o1.enumerable.getValue().compareTo(o2.enumerable.getValue());
+            }
+        };
+
+        private final Enumerable enumerable;
+        private final String key;
+
+        private Keyed(Enumerable enumerable) {
+            this.enumerable = enumerable;
+            this.key = fold(enumerable.getValue());
+        }
+
+        /**
+         * @param value The value to fold.
+         * @return The folded value, or <code>null</code> if the value contains surrogates that some JDKs
+         * compare case-insensitively by code point instead of by character.
+         */
+        private static String fold(String value) {
+            final char[] folded = new char[value.length()];
+            for (int i = 0; i < folded.length; i++) {
+                final char ch = value.charAt(i);
+                if (ch >= Character.MIN_SURROGATE && ch <= Character.MAX_SURROGATE) return null;
+                folded[i] = (char) ValueFolding.IGNORE_CASE.fold(ch);
+            }
+            return new String(folded);
+        }
+    }
+
+}
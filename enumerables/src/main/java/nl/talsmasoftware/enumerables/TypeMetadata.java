@@ -0,0 +1,275 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.enumerables;
+
+import java.lang.reflect.Constructor;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Reflected information about a concrete {@link Enumerable} subtype, built once per type.
+ *
+ * @param <E> The enumerable subtype.
+ * @author Sjoerd Talsma
+ */
+final class TypeMetadata<E extends Enumerable> {
+    /**
+     * The enumerable type.
+     */
+    final Class<E> type;
+
+    /**
+     * The reflected constants, in declaration order. Must not be modified.
+     */
+    final E[] constants;
+
+    /**
+     * The generated constants of the type, or <code>null</code> if the constants were found by reflection.
+     */
+    final EnumerableConstants<E> generated;
+
+    /**
+     * Index from constant value to ordinal.
+     */
+    final ValueIndex valueIndex;
+
+    /**
+     * Index from constant name to ordinal.
+     */
+    final ValueIndex nameIndex;
+
+    /**
+     * Cache for parsed non-constant values, or <code>null</code> if those should not be interned.
+     */
+    volatile InternCache<E> internCache;
+
+    /**
+     * Guard limiting the number of distinct non-constant values, or <code>null</code> if there is no limit.
+     */
+    volatile UnknownValueGuard<E> unknownValueGuard;
+
+    /**
+     * Tracker of the most frequently parsed non-constant values, or <code>null</code> if those are not tracked.
+     */
+    volatile UnknownValueTracker unknownValueTracker;
+
+    /**
+     * The folding to apply by default when no constant matches a parsed value exactly,
+     * or <code>null</code> if values must match exactly.
+     */
+    final ValueFolding defaultFolding;
+
+    /**
+     * The metrics recorder for the type, or <code>null</code> if no metrics are recorded.
+     */
+    final EnumerableMetrics.Recorder recorder;
+
+    /**
+     * Whether the type is {@link CompactSerialization serialized in compact form}.
+     */
+    final boolean compactSerialization;
+
+    /**
+     * Hash of the names and values of the constants in declaration order.
+     */
+    final int fingerprint;
+
+    /**
+     * Indices from folded constant value to ordinal, built upon first use of each folding.
+     */
+    private final ConcurrentMap<ValueFolding, FoldedIndex> foldedIndices =
+            new ConcurrentHashMap<ValueFolding, FoldedIndex>(2);
+
+    /**
+     * Index from the UTF-8 encoded constant values to ordinal, built upon first use.
+     */
+    private volatile Utf8Index utf8Index;
+
+    /**
+     * The accessible String constructor, resolved upon first use.
+     */
+    private volatile Constructor<E> stringConstructor;
+
+    TypeMetadata(Class<E> type, E[] constants, String[] names, EnumerableConstants<E> generated) {
+        this.type = type;
+        this.constants = constants;
+        this.generated = generated;
+        this.valueIndex = ValueIndex.of(values());
+        this.nameIndex = ValueIndex.of(names);
+        final UnknownValueLimit limit = type.getAnnotation(UnknownValueLimit.class);
+        if (limit != null) {
+            this.unknownValueGuard = new UnknownValueGuard<E>(this, limit.value(), limit.overflow(), limit.constant());
+        }
+        this.defaultFolding = foldingFor(type);
+        this.compactSerialization = type.isAnnotationPresent(CompactSerialization.class);
+        int hash = constants.length;
+        for (int i = 0; i < constants.length; i++) {
+            hash = 31 * (31 * hash + names[i].hashCode()) + constants[i].getValue().hashCode();
+        }
+        this.fingerprint = hash;
+        this.recorder = EnumerableMetrics.recorderOf(type);
+    }
+
+    /**
+     * @return A new array with the values of the constants.
+     */
+    private String[] values() {
+        final String[] values = new String[constants.length];
+        for (int i = 0; i < constants.length; i++) {
+            values[i] = constants[i].getValue();
+        }
+        return values;
+    }
+
+    /**
+     * Eagerly builds all lookup structures that are otherwise built upon first use.
+     */
+    void preload() {
+        utf8Index();
+        if (defaultFolding != null) foldedIndex(defaultFolding);
+        try {
+            stringConstructor();
+        } catch (NoSuchMethodException noStringConstructor) {
+            // Only needed when parsing non-constant values, which will then fail.
+        }
+    }
+
+    private static ValueFolding foldingFor(Class<?> type) {
+        final FoldedParsing foldedParsing = type.getAnnotation(FoldedParsing.class);
+        if (foldedParsing == null) return null;
+        try {
+            return foldedParsing.value().newInstance();
+        } catch (Exception e) {
+            throw new IllegalStateException("Could not create value folding " + foldedParsing.value().getName()
+                    + " for enumerable type " + type.getName() + ".", e);
+        }
+    }
+
+    /**
+     * Returns the String constructor of the enumerable type, made accessible once.
+     * <p>
+     * The constructor is looked up only once, and is safe to call concurrently without any locking.
+     * Concurrent callers may each look up their own copy, which is made accessible before it is published.
+     *
+     * @return The String constructor of the enumerable type.
+     * @throws NoSuchMethodException if the type has no String constructor.
+     */
+    Constructor<E> stringConstructor() throws NoSuchMethodException {
+        Constructor<E> constructor = stringConstructor;
+        if (constructor == null) {
+            constructor = type.getDeclaredConstructor(String.class);
+            constructor.setAccessible(true);
+            stringConstructor = constructor;
+        }
+        return constructor;
+    }
+
+    /**
+     * @param value The value to look up.
+     * @return The first constant with the specified value, or <code>null</code> if there is no such constant.
+     */
+    E constantWithValue(String value) {
+        final int ordinal = valueIndex.indexOf(value);
+        return ordinal < 0 ? null : constants[ordinal];
+    }
+
+    /**
+     * @param value The value to look up, compared character by character.
+     * @return The first constant with the specified value, or <code>null</code> if there is no such constant.
+     */
+    E constantWithValue(CharSequence value) {
+        final int ordinal = valueIndex.indexOf(value);
+        return ordinal < 0 ? null : constants[ordinal];
+    }
+
+    /**
+     * @param chars  The characters containing the value to look up.
+     * @param offset The offset of the first character of the value.
+     * @param length The number of characters of the value.
+     * @return The first constant with the specified value, or <code>null</code> if there is no such constant.
+     */
+    E constantWithValue(char[] chars, int offset, int length) {
+        final int ordinal = valueIndex.indexOf(chars, offset, length);
+        return ordinal < 0 ? null : constants[ordinal];
+    }
+
+    /**
+     * @param value   The value to look up.
+     * @param folding The folding to apply to the value and the constant values.
+     * @return The first constant with the same folded value, or <code>null</code> if there is no such constant.
+     */
+    E constantWithFoldedValue(CharSequence value, ValueFolding folding) {
+        final int ordinal = foldedIndex(folding).indexOf(value);
+        return ordinal < 0 ? null : constants[ordinal];
+    }
+
+    /**
+     * @param folding The folding to apply to the constant values.
+     * @return The index from folded constant value to ordinal, built when the folding is first used.
+     */
+    private FoldedIndex foldedIndex(ValueFolding folding) {
+        FoldedIndex index = foldedIndices.get(folding);
+        if (index == null) {
+            index = new FoldedIndex(values(), folding);
+            final FoldedIndex existing = foldedIndices.putIfAbsent(folding, index);
+            if (existing != null) index = existing;
+        }
+        return index;
+    }
+
+    /**
+     * @param bytes  The bytes containing the UTF-8 encoded value to look up.
+     * @param offset The offset of the first byte of the value.
+     * @param length The number of bytes of the value.
+     * @return The first constant with the specified value, or <code>null</code> if there is no such constant.
+     */
+    E constantWithUtf8Value(byte[] bytes, int offset, int length) {
+        final int ordinal = utf8Index().indexOf(bytes, offset, length);
+        return ordinal < 0 ? null : constants[ordinal];
+    }
+
+    /**
+     * @param buffer The buffer whose remaining bytes contain the UTF-8 encoded value to look up.
+     * @return The first constant with the specified value, or <code>null</code> if there is no such constant.
+     */
+    E constantWithUtf8Value(ByteBuffer buffer) {
+        final int ordinal = utf8Index().indexOf(buffer);
+        return ordinal < 0 ? null : constants[ordinal];
+    }
+
+    /**
+     * Builds the UTF-8 index when it is first needed.
+     * Concurrent callers may each build an index, which is harmless because they are identical.
+     *
+     * @return The index from the UTF-8 encoded constant values to ordinal.
+     */
+    private Utf8Index utf8Index() {
+        Utf8Index index = utf8Index;
+        if (index == null) utf8Index = index = new Utf8Index(values());
+        return index;
+    }
+
+    /**
+     * @param name The constant name to look up.
+     * @return The constant with the specified name, or <code>null</code> if there is no such constant.
+     */
+    E constantWithName(String name) {
+        final int ordinal = nameIndex.indexOf(name);
+        return ordinal < 0 ? null : constants[ordinal];
+    }
+
+}
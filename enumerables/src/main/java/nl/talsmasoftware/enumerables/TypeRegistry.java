@@ -0,0 +1,125 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.enumerables;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Registry of {@link TypeMetadata} per concrete {@link Enumerable} type.
+ * <p>
+ * On Java 7 and newer, metadata is attached to the enumerable class itself by a {@code java.lang.ClassValue}.
+ * This means that identically named classes from different classloaders never share metadata, and that the metadata
+ * can be garbage collected together with its classloader.
+ * On older JVMs, the registry falls back to a concurrent map keyed by class.
+ * <p>
+ * The metadata of each type is initialized only once, even if many threads request an uninitialized type at the same
+ * time; concurrent callers wait for the first thread to finish reflecting the type.
+ *
+ * @author Sjoerd Talsma
+ */
+abstract class TypeRegistry {
+    private static final Logger LOGGER = Logger.getLogger(TypeRegistry.class.getName());
+
+    /**
+     * @param type The enumerable type to return the registry entry for.
+     * @return The registry entry for the type (non-<code>null</code>).
+     */
+    abstract Entry entryFor(Class<?> type);
+
+    /**
+     * Returns the metadata for the requested type, initializing it upon first use.
+     *
+     * @param <E>  The enumerable type.
+     * @param type The enumerable type to return the metadata for (non-<code>null</code>).
+     * @return The metadata for the type.
+     */
+    @SuppressWarnings("unchecked")
+    final <E extends Enumerable> TypeMetadata<E> get(Class<E> type) {
+        final Entry entry = entryFor(type);
+        TypeMetadata<?> metadata = entry.metadata;
+        if (metadata == null) metadata = entry.initialize(type);
+        return (TypeMetadata<E>) metadata;
+    }
+
+    /**
+     * @return The <code>ClassValue</code> based registry if supported by the JVM, otherwise a map-based registry.
+     */
+    static TypeRegistry create() {
+        try {
+            return (TypeRegistry) Class.forName("nl.talsmasoftware.enumerables.ClassValueRegistry")
+                    .newInstance();
+        } catch (LinkageError le) {
+            LOGGER.log(Level.FINEST, "ClassValue unavailable, using a map-based enumerable type registry.", le);
+        } catch (Exception e) {
+            LOGGER.log(Level.FINEST, "ClassValue registry unavailable, using a map-based enumerable type registry.", e);
+        }
+        return new MapRegistry();
+    }
+
+    /**
+     * Registry entry for a single type, taking care of once-only initialization of its metadata.
+     */
+    static final class Entry {
+        private volatile TypeMetadata<?> metadata;
+
+        private <E extends Enumerable> TypeMetadata<?> initialize(Class<E> type) {
+            // Run the static initializer of the type before we take the lock.
+            // It may request its own values, so doing this while holding the lock could deadlock with other threads.
+            final long start = System.nanoTime();
+            final Object event = Events.EVENTS.beginInitialization();
+            _initializeClass(type);
+            synchronized (this) {
+                if (metadata == null) {
+                    final TypeMetadata<E> reflected = Enumerable._reflect(type);
+                    metadata = reflected;
+                    if (reflected.recorder != null) reflected.recorder.initialized(System.nanoTime() - start);
+                    Events.EVENTS.endInitialization(event, type, reflected.constants.length);
+                }
+                return metadata;
+            }
+        }
+
+        private static void _initializeClass(Class<?> type) {
+            try {
+                Class.forName(type.getName(), true, type.getClassLoader());
+            } catch (ClassNotFoundException cnfe) {
+                LOGGER.log(Level.FINEST, "Could not initialize " + type + " upfront.", cnfe);
+            }
+        }
+    }
+
+    /**
+     * Fallback registry for JVMs without <code>ClassValue</code> support.
+     * Keys are classes rather than class names, but entries are never removed.
+     */
+    static final class MapRegistry extends TypeRegistry {
+        private final ConcurrentMap<Class<?>, Entry> entries = new ConcurrentHashMap<Class<?>, Entry>();
+
+        Entry entryFor(Class<?> type) {
+            Entry entry = entries.get(type);
+            if (entry == null) {
+                final Entry created = new Entry();
+                entry = entries.putIfAbsent(type, created);
+                if (entry == null) entry = created;
+            }
+            return entry;
+        }
+    }
+
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.enumerables;
+
+import java.io.Serializable;
+
+/**
+ * Approximate number of times a non-constant value of an enumerable type was parsed,
+ * as reported by {@link Enumerables#topUnknownValues(Class, int)}.
+ * <p>
+ * The {@link #getCount() count} never underestimates the actual number of times the value was parsed
+ * since tracking started, and overestimates it by at most the {@link #getError() error}.
+ *
+ * @author Sjoerd Talsma
+ * @see Enumerables#trackUnknownValues(Class, int)
+ */
+public final class UnknownValueCount implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final String value;
+    private final long count;
+    private final long error;
+
+    UnknownValueCount(String value, long count, long error) {
+        this.value = value;
+        this.count = count;
+        this.error = error;
+    }
+
+    /**
+     * @return The parsed non-constant value.
+     */
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * @return The approximate number of times the value was parsed (an upper bound).
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * @return The maximum overestimation of the count; <code>count - error</code> is a lower bound.
+     */
+    public long getError() {
+        return error;
+    }
+
+    @Override
+    public String toString() {
+        return value + '=' + count + (error == 0L ? "" : " (±" + error + ')');
+    }
+
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.enumerables;
+
+import nl.talsmasoftware.enumerables.UnknownValueLimit.Overflow;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps track of the distinct non-constant values of an enumerable type to enforce an {@link UnknownValueLimit}.
+ *
+ * @param <E> The enumerable type.
+ * @author Sjoerd Talsma
+ */
+final class UnknownValueGuard<E extends Enumerable> {
+    final int maximum;
+    final Overflow overflow;
+    final E constant;
+    final AtomicLong exceeded = new AtomicLong();
+    private final ConcurrentMap<String, Boolean> accepted = new ConcurrentHashMap<String, Boolean>();
+    private final AtomicInteger acceptedCount = new AtomicInteger();
+
+    UnknownValueGuard(TypeMetadata<E> metadata, int maximum, Overflow overflow, String constantName) {
+        if (maximum < 0) throw new IllegalArgumentException("Maximum number of unknown values is negative: " + maximum);
+        if (overflow == null) throw new IllegalArgumentException("Unknown value overflow is <null>.");
+        this.maximum = maximum;
+        this.overflow = overflow;
+        if (Overflow.USE_CONSTANT.equals(overflow)) {
+            this.constant = constantName == null ? null : metadata.constantWithName(constantName);
+            if (constant == null) {
+                Events.EVENTS.constantNotFound(metadata.type, constantName);
+                throw new Enumerable.ConstantNotFoundException(metadata.type, constantName);
+            }
+        } else {
+            this.constant = null;
+        }
+    }
+
+    /**
+     * @param value The non-constant value.
+     * @return Whether the value is accepted, either because it was accepted before or the limit was not yet reached.
+     */
+    boolean accept(String value) {
+        if (accepted.containsKey(value)) return true;
+        for (int count = acceptedCount.get(); count < maximum; count = acceptedCount.get()) {
+            if (acceptedCount.compareAndSet(count, count + 1)) {
+                // Another thread may have accepted the same value meanwhile; give the reserved slot back then.
+                if (accepted.putIfAbsent(value, Boolean.TRUE) != null) acceptedCount.decrementAndGet();
+                return true;
+            }
+        }
+        if (accepted.containsKey(value)) return true;
+        exceeded.incrementAndGet();
+        return false;
+    }
+
+    int acceptedCount() {
+        return acceptedCount.get();
+    }
+
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.enumerables;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Limits the number of distinct non-constant values that can be {@link Enumerable#parse(Class, CharSequence) parsed}
+ * for an enumerable type.
+ * <p>
+ * Parsing accepts any value, so untrusted input can create an unlimited number of distinct enumerable objects.
+ * Once the maximum number of distinct unknown values has been reached, any <em>new</em> unknown value is handled
+ * according to the {@link #overflow()} setting. Values that were accepted before remain accepted.
+ * <p>
+ * The limit can also be configured programmatically by calling
+ * {@link Enumerables#setUnknownValueLimit(Class, int, Overflow, String)}.
+ *
+ * @author Sjoerd Talsma
+ * @see Enumerables#statistics(Class)
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface UnknownValueLimit {
+
+    /**
+     * @return The maximum number of distinct non-constant values to accept.
+     */
+    int value();
+
+    /**
+     * @return What to do with new unknown values once the maximum has been reached.
+     */
+    Overflow overflow() default Overflow.REJECT;
+
+    /**
+     * @return The name of the constant to return instead of new unknown values
+     * when {@link Overflow#USE_CONSTANT} is configured.
+     */
+    String constant() default "";
+
+    /**
+     * What to do with new unknown values once the maximum number of distinct values has been reached.
+     */
+    enum Overflow {
+        /**
+         * Throw an {@link IllegalArgumentException} for new unknown values.
+         */
+        REJECT,
+
+        /**
+         * Return the {@link UnknownValueLimit#constant() configured constant} for new unknown values.
+         */
+        USE_CONSTANT,
+
+        /**
+         * Return a new instance for new unknown values without adding them to the
+         * {@link InternPolicy intern cache} of the type.
+         */
+        SKIP_INTERNING
+    }
+
+}
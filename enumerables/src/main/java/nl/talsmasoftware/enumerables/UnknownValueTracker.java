@@ -0,0 +1,201 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.enumerables;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Fixed-memory tracker of the most frequently parsed non-constant values of a single enumerable type.
+ * <p>
+ * The tracker uses the <em>Space-Saving</em> algorithm: a fixed number of counters is monitored, and a value that is
+ * not monitored when all counters are in use takes over the counter with the lowest count, inheriting that count
+ * as its error. Frequent values therefore stay monitored, with counts that are never underestimated.
+ * <p>
+ * To avoid serializing parsing threads, the tracker is striped by thread: each thread counts in one of several
+ * independent summaries, which are only merged when a snapshot is taken.
+ *
+ * @author Sjoerd Talsma
+ * @see Enumerables#trackUnknownValues(Class, int)
+ */
+final class UnknownValueTracker {
+    private static final int MAX_STRIPES = 16;
+
+    private final Summary[] stripes;
+    private final int shift;
+
+    /**
+     * @param capacity The number of values to monitor per stripe.
+     */
+    UnknownValueTracker(int capacity) {
+        if (capacity < 1) throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        int stripeCount = 1;
+        while (stripeCount < MAX_STRIPES && stripeCount < Runtime.getRuntime().availableProcessors()) {
+            stripeCount <<= 1;
+        }
+        this.stripes = new Summary[stripeCount];
+        for (int i = 0; i < stripeCount; i++) stripes[i] = new Summary(capacity);
+        this.shift = 64 - Integer.numberOfTrailingZeros(stripeCount);
+    }
+
+    /**
+     * Counts a parsed non-constant value.
+     *
+     * @param value The parsed value.
+     */
+    void offer(String value) {
+        final Summary stripe = stripes.length == 1 ? stripes[0]
+                : stripes[(int) ((Thread.currentThread().getId() * 0x9E3779B97F4A7C15L) >>> shift)];
+        synchronized (stripe) {
+            stripe.offer(value);
+        }
+    }
+
+    /**
+     * Merges the stripes into the most frequently parsed values.
+     * A value that is not monitored by a stripe may have been counted up to the minimum count of that stripe,
+     * which is added to both its count and its error.
+     *
+     * @param maximum The maximum number of values to return.
+     * @return The most frequently parsed values, by descending count.
+     */
+    List<UnknownValueCount> top(int maximum) {
+        final Map<String, long[]> merged = new HashMap<String, long[]>();
+        final long[] minimums = new long[stripes.length];
+        final List<Map<String, long[]>> copies = new ArrayList<Map<String, long[]>>(stripes.length);
+        long minimumTotal = 0L;
+        for (int i = 0; i < stripes.length; i++) {
+            synchronized (stripes[i]) {
+                copies.add(stripes[i].copy());
+                minimums[i] = stripes[i].minimum();
+            }
+            minimumTotal += minimums[i];
+        }
+        for (int i = 0; i < stripes.length; i++) {
+            for (Map.Entry<String, long[]> entry : copies.get(i).entrySet()) {
+                long[] countAndError = merged.get(entry.getKey());
+                if (countAndError == null) {
+                    countAndError = new long[]{minimumTotal, minimumTotal};
+                    merged.put(entry.getKey(), countAndError);
+                }
+                // Replace the assumed minimum of this stripe by its actual count and error.
+                countAndError[0] += entry.getValue()[0] - minimums[i];
+                countAndError[1] += entry.getValue()[1] - minimums[i];
+            }
+        }
+        final List<UnknownValueCount> counts = new ArrayList<UnknownValueCount>(merged.size());
+        for (Map.Entry<String, long[]> entry : merged.entrySet()) {
+            counts.add(new UnknownValueCount(entry.getKey(), entry.getValue()[0], entry.getValue()[1]));
+        }
+        Collections.sort(counts, new Comparator<UnknownValueCount>() {
+            public int compare(UnknownValueCount c1, UnknownValueCount c2) {
+                return c1.getCount() != c2.getCount() ? (c1.getCount() > c2.getCount() ? -1 : 1)
+                        : c1.getValue().compareTo(c2.getValue());
+            }
+        });
+        return counts.size() > maximum ? new ArrayList<UnknownValueCount>(counts.subList(0, maximum)) : counts;
+    }
+
+    /**
+     * Space-Saving summary with its counters in a min-heap by count, so the lowest counter can be taken over
+     * in logarithmic time. Not thread-safe.
+     */
+    private static final class Summary {
+        private final String[] values;
+        private final long[] counts;
+        private final long[] errors;
+        private final Map<String, Integer> positions;
+        private int size;
+
+        private Summary(int capacity) {
+            this.values = new String[capacity];
+            this.counts = new long[capacity];
+            this.errors = new long[capacity];
+            this.positions = new HashMap<String, Integer>(capacity * 2);
+        }
+
+        private void offer(String value) {
+            final Integer position = positions.get(value);
+            if (position != null) {
+                counts[position]++;
+                siftDown(position);
+            } else if (size < values.length) {
+                values[size] = value;
+                counts[size] = 1L;
+                errors[size] = 0L;
+                positions.put(value, size);
+                siftUp(size++);
+            } else { // Take over the counter with the lowest count.
+                positions.remove(values[0]);
+                values[0] = value;
+                errors[0] = counts[0];
+                counts[0]++;
+                positions.put(value, 0);
+                siftDown(0);
+            }
+        }
+
+        /**
+         * @return The lowest count if all counters are in use, otherwise zero (unmonitored values were not seen).
+         */
+        private long minimum() {
+            return size < values.length ? 0L : counts[0];
+        }
+
+        private Map<String, long[]> copy() {
+            final Map<String, long[]> copy = new HashMap<String, long[]>(size * 2);
+            for (int i = 0; i < size; i++) copy.put(values[i], new long[]{counts[i], errors[i]});
+            return copy;
+        }
+
+        private void siftUp(int position) {
+            while (position > 0) {
+                final int parent = (position - 1) >>> 1;
+                if (counts[parent] <= counts[position]) break;
+                swap(position, parent);
+                position = parent;
+            }
+        }
+
+        private void siftDown(int position) {
+            for (int child = 2 * position + 1; child < size; child = 2 * position + 1) {
+                if (child + 1 < size && counts[child + 1] < counts[child]) child++;
+                if (counts[position] <= counts[child]) break;
+                swap(position, child);
+                position = child;
+            }
+        }
+
+        private void swap(int i, int j) {
+            final String value = values[i];
+            values[i] = values[j];
+            values[j] = value;
+            final long count = counts[i];
+            counts[i] = counts[j];
+            counts[j] = count;
+            final long error = errors[i];
+            errors[i] = errors[j];
+            errors[j] = error;
+            positions.put(values[i], i);
+            positions.put(values[j], j);
+        }
+    }
+
+}
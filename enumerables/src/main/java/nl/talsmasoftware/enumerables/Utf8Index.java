@@ -0,0 +1,128 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.enumerables;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+
+/**
+ * Immutable index from the UTF-8 encoded bytes of a {@link String} key to its position in the array the index was
+ * built from.
+ * <p>
+ * The keys are encoded once when the index is built, so looking up encoded input needs no decoding.
+ * The index is an open-addressing hash table with linear probing over the encoded bytes.
+ * If the same key occurs more than once, the index of the first occurrence is returned.
+ *
+ * @author Sjoerd Talsma
+ * @see ValueIndex
+ */
+final class Utf8Index {
+    static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private final int mask;
+    private final byte[][] slots;
+    private final int[] indices;
+
+    /**
+     * @param keys The keys to index, <code>null</code> elements are skipped.
+     */
+    Utf8Index(String[] keys) {
+        final int size = ValueIndex.tableSizeFor(keys.length);
+        this.mask = size - 1;
+        this.slots = new byte[size][];
+        this.indices = new int[size];
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] == null) continue;
+            final byte[] encoded = encode(keys[i]);
+            if (encoded == null) continue;
+            int slot = spread(hash(encoded, 0, encoded.length)) & mask;
+            while (slots[slot] != null && !matches(slots[slot], encoded, 0, encoded.length)) slot = (slot + 1) & mask;
+            if (slots[slot] == null) {
+                slots[slot] = encoded;
+                indices[slot] = i;
+            }
+        }
+    }
+
+    /**
+     * @param bytes  The bytes containing the encoded key to look up.
+     * @param offset The offset of the first byte of the key.
+     * @param length The number of bytes of the key.
+     * @return The index of the key in the original array or {@code -1} if the key is not indexed.
+     */
+    int indexOf(byte[] bytes, int offset, int length) {
+        for (int slot = spread(hash(bytes, offset, length)) & mask; slots[slot] != null; slot = (slot + 1) & mask) {
+            if (matches(slots[slot], bytes, offset, length)) return indices[slot];
+        }
+        return -1;
+    }
+
+    /**
+     * Looks up the remaining bytes of the buffer, without changing its position.
+     *
+     * @param buffer The buffer containing the encoded key to look up (may be a direct buffer).
+     * @return The index of the key in the original array or {@code -1} if the key is not indexed.
+     */
+    int indexOf(ByteBuffer buffer) {
+        if (buffer.hasArray()) {
+            return indexOf(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        }
+        final int position = buffer.position(), limit = buffer.limit();
+        int hash = 0;
+        for (int i = position; i < limit; i++) hash = 31 * hash + buffer.get(i);
+        candidates:
+        for (int slot = spread(hash) & mask; slots[slot] != null; slot = (slot + 1) & mask) {
+            final byte[] key = slots[slot];
+            if (key.length != limit - position) continue;
+            for (int i = 0; i < key.length; i++) {
+                if (key[i] != buffer.get(position + i)) continue candidates;
+            }
+            return indices[slot];
+        }
+        return -1;
+    }
+
+    /**
+     * @param key The key to encode.
+     * @return The UTF-8 bytes of the key, or <code>null</code> if the key cannot be encoded without loss
+     * (e.g. because it contains unpaired surrogates).
+     */
+    private static byte[] encode(String key) {
+        final ByteBuffer encoded = UTF_8.encode(key);
+        final byte[] bytes = new byte[encoded.remaining()];
+        encoded.get(bytes);
+        return key.equals(UTF_8.decode(ByteBuffer.wrap(bytes)).toString()) ? bytes : null;
+    }
+
+    private static int hash(byte[] bytes, int offset, int length) {
+        int hash = 0;
+        for (int i = offset, end = offset + length; i < end; i++) hash = 31 * hash + bytes[i];
+        return hash;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private static boolean matches(byte[] key, byte[] bytes, int offset, int length) {
+        if (key.length != length) return false;
+        for (int i = 0; i < length; i++) {
+            if (key[i] != bytes[offset + i]) return false;
+        }
+        return true;
+    }
+
+}
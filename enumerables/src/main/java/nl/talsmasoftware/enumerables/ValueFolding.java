@@ -0,0 +1,91 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.enumerables;
+
+/**
+ * Folding of the characters of a value to find constants that match a parsed value <em>loosely</em>,
+ * e.g. regardless of case or whitespace.
+ * <p>
+ * A folding maps each character of a value to its folded form, or skips the character altogether.
+ * Two values match if their folded character sequences are equal.
+ * Folding is only used after parsing failed to find a constant with exactly the parsed value.
+ * If multiple constants have the same folded value, the first declared constant is returned.
+ * <p>
+ * Foldings are applied either explicitly with {@link Enumerable#parseFolded(Class, CharSequence, ValueFolding)}
+ * or by default for all parsing of a type {@link FoldedParsing annotated} with the folding.
+ * <p>
+ * Implementations must be stateless and provide a public no-argument constructor to be usable in the
+ * {@link FoldedParsing} annotation. Foldings of the same class are considered equal.
+ *
+ * @author Sjoerd Talsma
+ * @see FoldedParsing
+ */
+public abstract class ValueFolding {
+
+    /**
+     * Folding that ignores differences in case.
+     */
+    public static final ValueFolding IGNORE_CASE = new IgnoreCase();
+
+    /**
+     * Folding that ignores differences in case and any whitespace.
+     */
+    public static final ValueFolding IGNORE_CASE_AND_WHITESPACE = new IgnoreCaseAndWhitespace();
+
+    /**
+     * Folds a single character.
+     *
+     * @param ch The character to fold.
+     * @return The folded character, or {@code -1} if the character should be skipped.
+     */
+    public abstract int fold(char ch);
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other || (other != null && getClass().equals(other.getClass()));
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName();
+    }
+
+    /**
+     * Folding that ignores differences in case, comparable with {@link String#equalsIgnoreCase(String)}.
+     */
+    public static class IgnoreCase extends ValueFolding {
+        @Override
+        public int fold(char ch) {
+            return Character.toLowerCase(Character.toUpperCase(ch));
+        }
+    }
+
+    /**
+     * Folding that ignores differences in case and skips all {@link Character#isWhitespace(char) whitespace}.
+     */
+    public static class IgnoreCaseAndWhitespace extends IgnoreCase {
+        @Override
+        public int fold(char ch) {
+            return Character.isWhitespace(ch) ? -1 : super.fold(ch);
+        }
+    }
+
+}
@@ -0,0 +1,264 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.enumerables;
+
+/**
+ * Immutable index from a {@link String} key to its position in the array the index was built from.
+ * <p>
+ * The lookup strategy is chosen once, based on the number of keys:
+ * <ol>
+ * <li>A plain linear scan for tiny arrays, where hashing is not worth the effort.</li>
+ * <li>A <em>perfect</em> hash table if a multiplier can be found that places every key in its own slot,
+ * so every lookup needs at most a single comparison.</li>
+ * <li>An open-addressing hash table with linear probing otherwise.</li>
+ * </ol>
+ * Keys are hashed with {@link String#hashCode()}, which is cached by the strings themselves.
+ * Other character sequences and <code>char[]</code> ranges are hashed with the same algorithm and compared
+ * character by character, so they can be looked up without creating a {@link String} first.
+ * If the same key occurs more than once, the index of the first occurrence is returned.
+ *
+ * @author Sjoerd Talsma
+ */
+abstract class ValueIndex {
+    /**
+     * Arrays up to this size are scanned linearly.
+     */
+    static final int LINEAR_THRESHOLD = 8;
+
+    /**
+     * Multipliers to attempt for a perfect hash layout (odd constants with well-distributed bits).
+     */
+    private static final int[] MULTIPLIERS = {
+            0x9E3779B9, 0x85EBCA6B, 0xC2B2AE35, 0x27D4EB2F, 0x165667B1, 0xD3A2646D, 0xFD7046C5, 0xB55A4F09
+    };
+
+    /**
+     * @param key The key to look up.
+     * @return The index of the key in the original array or {@code -1} if the key is not indexed.
+     */
+    abstract int indexOf(String key);
+
+    /**
+     * @param key The key to look up.
+     * @return The index of the key in the original array or {@code -1} if the key is not indexed.
+     */
+    abstract int indexOf(CharSequence key);
+
+    /**
+     * @param chars  The characters containing the key to look up.
+     * @param offset The offset of the first character of the key.
+     * @param length The number of characters of the key.
+     * @return The index of the key in the original array or {@code -1} if the key is not indexed.
+     */
+    abstract int indexOf(char[] chars, int offset, int length);
+
+    /**
+     * Builds the most appropriate index for the given keys.
+     *
+     * @param keys The keys to index, <code>null</code> elements are skipped.
+     * @return The index for the keys.
+     */
+    static ValueIndex of(String[] keys) {
+        if (keys.length <= LINEAR_THRESHOLD) return new Linear(keys);
+        ValueIndex perfect = Perfect.attempt(keys);
+        return perfect != null ? perfect : new OpenAddressing(keys);
+    }
+
+    /**
+     * @param minimum The minimum value.
+     * @return The smallest power of two that is at least twice the minimum.
+     */
+    static int tableSizeFor(int minimum) {
+        int size = 2;
+        while (size < 2 * minimum) size <<= 1;
+        return size;
+    }
+
+    /**
+     * @param chars The characters to hash.
+     * @return The same hash as {@link String#hashCode()} would for the same characters.
+     */
+    static int hash(CharSequence chars) {
+        int hash = 0;
+        for (int i = 0, length = chars.length(); i < length; i++) hash = 31 * hash + chars.charAt(i);
+        return hash;
+    }
+
+    /**
+     * @param chars  The characters to hash.
+     * @param offset The offset of the first character.
+     * @param length The number of characters.
+     * @return The same hash as {@link String#hashCode()} would for the same characters.
+     */
+    static int hash(char[] chars, int offset, int length) {
+        int hash = 0;
+        for (int i = offset, end = offset + length; i < end; i++) hash = 31 * hash + chars[i];
+        return hash;
+    }
+
+    private static boolean matches(String key, CharSequence chars) {
+        if (key == null || key.length() != chars.length()) return false;
+        for (int i = key.length() - 1; i >= 0; i--) {
+            if (key.charAt(i) != chars.charAt(i)) return false;
+        }
+        return true;
+    }
+
+    private static boolean matches(String key, char[] chars, int offset, int length) {
+        if (key == null || key.length() != length) return false;
+        for (int i = length - 1; i >= 0; i--) {
+            if (key.charAt(i) != chars[offset + i]) return false;
+        }
+        return true;
+    }
+
+    static final class Linear extends ValueIndex {
+        private final String[] keys;
+
+        private Linear(String[] keys) {
+            this.keys = keys;
+        }
+
+        int indexOf(String key) {
+            for (int i = 0; i < keys.length; i++) {
+                if (key.equals(keys[i])) return i;
+            }
+            return -1;
+        }
+
+        int indexOf(CharSequence key) {
+            if (key instanceof String) return indexOf((String) key);
+            for (int i = 0; i < keys.length; i++) {
+                if (matches(keys[i], key)) return i;
+            }
+            return -1;
+        }
+
+        int indexOf(char[] chars, int offset, int length) {
+            for (int i = 0; i < keys.length; i++) {
+                if (matches(keys[i], chars, offset, length)) return i;
+            }
+            return -1;
+        }
+    }
+
+    static final class Perfect extends ValueIndex {
+        private final int multiplier, shift;
+        private final String[] slots;
+        private final int[] indices;
+
+        private Perfect(int multiplier, int shift, String[] slots, int[] indices) {
+            this.multiplier = multiplier;
+            this.shift = shift;
+            this.slots = slots;
+            this.indices = indices;
+        }
+
+        /**
+         * Tries to find a collision-free layout in a table of two or four times the number of keys.
+         *
+         * @param keys The keys to index.
+         * @return The perfect index, or <code>null</code> if no collision-free layout was found.
+         */
+        private static Perfect attempt(String[] keys) {
+            for (int size = tableSizeFor(keys.length), attempt = 0; attempt < 2; size <<= 1, attempt++) {
+                final int shift = 32 - Integer.numberOfTrailingZeros(size);
+                candidates:
+                for (int multiplier : MULTIPLIERS) {
+                    final String[] slots = new String[size];
+                    final int[] indices = new int[size];
+                    for (int i = 0; i < keys.length; i++) {
+                        if (keys[i] == null) continue;
+                        final int slot = (keys[i].hashCode() * multiplier) >>> shift;
+                        if (slots[slot] == null) {
+                            slots[slot] = keys[i];
+                            indices[slot] = i;
+                        } else if (!slots[slot].equals(keys[i])) {
+                            continue candidates; // collision, try the next multiplier.
+                        }
+                    }
+                    return new Perfect(multiplier, shift, slots, indices);
+                }
+            }
+            return null;
+        }
+
+        int indexOf(String key) {
+            final int slot = (key.hashCode() * multiplier) >>> shift;
+            return key.equals(slots[slot]) ? indices[slot] : -1;
+        }
+
+        int indexOf(CharSequence key) {
+            if (key instanceof String) return indexOf((String) key);
+            final int slot = (hash(key) * multiplier) >>> shift;
+            return matches(slots[slot], key) ? indices[slot] : -1;
+        }
+
+        int indexOf(char[] chars, int offset, int length) {
+            final int slot = (hash(chars, offset, length) * multiplier) >>> shift;
+            return matches(slots[slot], chars, offset, length) ? indices[slot] : -1;
+        }
+    }
+
+    static final class OpenAddressing extends ValueIndex {
+        private final int mask;
+        private final String[] slots;
+        private final int[] indices;
+
+        private OpenAddressing(String[] keys) {
+            final int size = tableSizeFor(keys.length);
+            this.mask = size - 1;
+            this.slots = new String[size];
+            this.indices = new int[size];
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] == null) continue;
+                int slot = spread(keys[i].hashCode()) & mask;
+                while (slots[slot] != null && !slots[slot].equals(keys[i])) slot = (slot + 1) & mask;
+                if (slots[slot] == null) {
+                    slots[slot] = keys[i];
+                    indices[slot] = i;
+                }
+            }
+        }
+
+        private static int spread(int hash) {
+            return hash ^ (hash >>> 16);
+        }
+
+        int indexOf(String key) {
+            for (int slot = spread(key.hashCode()) & mask; slots[slot] != null; slot = (slot + 1) & mask) {
+                if (key.equals(slots[slot])) return indices[slot];
+            }
+            return -1;
+        }
+
+        int indexOf(CharSequence key) {
+            if (key instanceof String) return indexOf((String) key);
+            for (int slot = spread(hash(key)) & mask; slots[slot] != null; slot = (slot + 1) & mask) {
+                if (matches(slots[slot], key)) return indices[slot];
+            }
+            return -1;
+        }
+
+        int indexOf(char[] chars, int offset, int length) {
+            for (int slot = spread(hash(chars, offset, length)) & mask; slots[slot] != null; slot = (slot + 1) & mask) {
+                if (matches(slots[slot], chars, offset, length)) return indices[slot];
+            }
+            return -1;
+        }
+    }
+
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.enumerables;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * {@link Events} recorded by the JDK Flight Recorder.
+ * <p>
+ * This class is compiled for Java 11 and only loaded reflectively if the JVM supports it.
+ * Events are only allocated while they are enabled in a running recording.
+ *
+ * @author Sjoerd Talsma
+ */
+final class JfrEvents extends Events {
+    private static final TypeInitialization INITIALIZATION = new TypeInitialization();
+    private static final UnknownValueInstantiation INSTANTIATION = new UnknownValueInstantiation();
+    private static final ConstantNotFound NOT_FOUND = new ConstantNotFound();
+
+    @Override
+    Object beginInitialization() {
+        if (!INITIALIZATION.isEnabled()) return null;
+        final TypeInitialization event = new TypeInitialization();
+        event.begin();
+        return event;
+    }
+
+    @Override
+    void endInitialization(Object event, Class<?> type, int constantCount) {
+        if (event instanceof TypeInitialization) {
+            final TypeInitialization initialization = (TypeInitialization) event;
+            initialization.end();
+            if (initialization.shouldCommit()) {
+                initialization.type = type;
+                initialization.constantCount = constantCount;
+                initialization.commit();
+            }
+        }
+    }
+
+    @Override
+    Object beginInstantiation() {
+        if (!INSTANTIATION.isEnabled()) return null;
+        final UnknownValueInstantiation event = new UnknownValueInstantiation();
+        event.begin();
+        return event;
+    }
+
+    @Override
+    void endInstantiation(Object event, Class<?> type, String value) {
+        if (event instanceof UnknownValueInstantiation) {
+            final UnknownValueInstantiation instantiation = (UnknownValueInstantiation) event;
+            instantiation.end();
+            if (instantiation.shouldCommit()) {
+                instantiation.type = type;
+                instantiation.valueLength = value.length();
+                instantiation.commit();
+            }
+        }
+    }
+
+    @Override
+    void constantNotFound(Class<?> type, CharSequence name) {
+        if (NOT_FOUND.isEnabled()) {
+            final ConstantNotFound event = new ConstantNotFound();
+            if (event.shouldCommit()) {
+                event.type = type;
+                event.name = name == null ? null : name.toString();
+                event.commit();
+            }
+        }
+    }
+
+    @Name("nl.talsmasoftware.enumerables.TypeInitialization")
+    @Label("Enumerable Type Initialization")
+    @Description("Initialization of an enumerable type, including finding its constants")
+    @Category("Enumerables")
+    static final class TypeInitialization extends Event {
+        @Label("Type")
+        Class<?> type;
+
+        @Label("Constant Count")
+        int constantCount;
+    }
+
+    @Name("nl.talsmasoftware.enumerables.UnknownValueInstantiation")
+    @Label("Enumerable Unknown Value Instantiation")
+    @Description("Creation of an enumerable object for a parsed value that matches no constant")
+    @Category("Enumerables")
+    @Threshold("1 ms")
+    static final class UnknownValueInstantiation extends Event {
+        @Label("Type")
+        Class<?> type;
+
+        @Label("Value Length")
+        int valueLength;
+    }
+
+    /**
+     * Misses can be as frequent as the calls themselves, so this event is disabled by default and records no stack
+     * trace unless the recording settings ask for it (<code>enabled=true</code>, <code>stackTrace=true</code>).
+     */
+    @Name("nl.talsmasoftware.enumerables.ConstantNotFound")
+    @Label("Enumerable Constant Not Found")
+    @Description("A constant was looked up by a name that matches no constant")
+    @Category("Enumerables")
+    @Enabled(false)
+    @StackTrace(false)
+    static final class ConstantNotFound extends Event {
+        @Label("Type")
+        Class<?> type;
+
+        @Label("Name")
+        String name;
+    }
+
+}
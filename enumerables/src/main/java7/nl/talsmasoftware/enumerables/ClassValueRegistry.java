@@ -0,0 +1,39 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.enumerables;
+
+/**
+ * {@link TypeRegistry} that attaches the registry entries to the enumerable classes themselves.
+ * <p>
+ * This class is compiled for Java 7 and only loaded reflectively if the JVM supports it.
+ *
+ * @author Sjoerd Talsma
+ */
+final class ClassValueRegistry extends TypeRegistry {
+
+    private final ClassValue<Entry> entries = new ClassValue<Entry>() {
+        @Override
+        protected Entry computeValue(Class<?> type) {
+            return new Entry();
+        }
+    };
+
+    @Override
+    Entry entryFor(Class<?> type) {
+        return entries.get(type);
+    }
+
+}
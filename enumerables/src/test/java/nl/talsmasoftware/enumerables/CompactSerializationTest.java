@@ -0,0 +1,108 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.enumerables;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.InvalidObjectException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static nl.talsmasoftware.enumerables.EnumerableTest.deserialize;
+import static nl.talsmasoftware.enumerables.EnumerableTest.serialize;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CompactSerializationTest {
+
+    @CompactSerialization
+    public static final class Currency extends Enumerable {
+        public static final Currency EUR = new Currency("Euro");
+        public static final Currency USD = new Currency("US Dollar");
+        public static final Currency GBP = new Currency("Pound sterling");
+
+        private Currency(String value) {
+            super(value);
+        }
+    }
+
+    @Test
+    void testConstantsResolveToSameInstance() {
+        for (Currency currency : Enumerable.values(Currency.class)) {
+            assertThat((Currency) deserialize(serialize(currency))).isSameAs(currency);
+        }
+    }
+
+    @Test
+    void testNonConstantValue() {
+        Currency deserialized = deserialize(serialize(Enumerable.parse(Currency.class, "Yen")));
+
+        assertThat(deserialized.getValue()).isEqualTo("Yen");
+        assertThat(deserialized.ordinal()).isEqualTo(Integer.MAX_VALUE);
+    }
+
+    @Test
+    void testListOfValues() {
+        ArrayList<Currency> currencies = new ArrayList<>(Arrays.asList(
+                Currency.USD, Enumerable.parse(Currency.class, "Yen"), Currency.EUR, Currency.USD));
+
+        List<Currency> deserialized = deserialize(serialize(currencies));
+
+        assertThat(deserialized).isEqualTo(currencies);
+        assertThat(deserialized.get(0)).isSameAs(Currency.USD);
+        assertThat(deserialized.get(3)).isSameAs(Currency.USD);
+    }
+
+    @Test
+    void testUnannotatedTypeIsNotReplaced() throws Exception {
+        assertThat(EnumerableTest.Fruit.APPLE.writeReplace()).isSameAs(EnumerableTest.Fruit.APPLE);
+        assertThat(Currency.EUR.writeReplace()).isInstanceOf(CompactForm.class);
+    }
+
+    @Test
+    void testChangedConstants() {
+        int fingerprint = Enumerable._metadata(Currency.class).fingerprint;
+        byte[] moved = serialize(new CompactForm(Currency.class, 0, fingerprint + 1, "Pound sterling"));
+        byte[] removed = serialize(new CompactForm(Currency.class, 300, fingerprint + 1, "Swiss franc"));
+        byte[] outOfRange = serialize(new CompactForm(Currency.class, 300, fingerprint, "US Dollar"));
+
+        assertThat((Currency) deserialize(moved)).isSameAs(Currency.GBP);
+        Currency franc = deserialize(removed);
+        assertThat(franc.getValue()).isEqualTo("Swiss franc");
+        assertThat(franc.ordinal()).isEqualTo(Integer.MAX_VALUE);
+        assertThat((Currency) deserialize(outOfRange)).isSameAs(Currency.USD);
+    }
+
+    @Test
+    void testMissingValue() {
+        byte[] bytes = serialize(new CompactForm(Currency.class, 1, 0, null));
+
+        assertThatThrownBy(() -> deserialize(bytes))
+                .hasCauseInstanceOf(InvalidObjectException.class)
+                .hasMessageContaining("Missing value");
+    }
+
+    @Test
+    void testNotAnEnumerableType() {
+        byte[] bytes = serialize(new CompactForm(String.class, 0, 0, null));
+
+        assertThatThrownBy(() -> deserialize(bytes))
+                .hasCauseInstanceOf(InvalidObjectException.class)
+                .hasMessageContaining("Not an enumerable type");
+    }
+
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.enumerables;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EnumerableConstantsTest {
+
+    static final class Planet extends Enumerable {
+        public static final Planet MERCURY = new Planet("Mercury");
+        public static final Planet VENUS = new Planet("Venus");
+
+        Planet(String value) {
+            super(value);
+        }
+    }
+
+    static final class Moon extends Enumerable {
+        public static final Moon LUNA = new Moon("Luna");
+
+        private Moon(String value) {
+            super(value);
+        }
+    }
+
+    static final class Star extends Enumerable {
+        public static final Star SUN = new Star("Sun");
+        public static final Star SIRIUS = new Star("Sirius");
+
+        private Star(String value) {
+            super(value);
+        }
+    }
+
+    static final class Comet extends Enumerable {
+        public static final Comet HALLEY = new Comet("Halley");
+
+        Comet(String value) {
+            super(value);
+        }
+    }
+
+    static final class Outer_Inner extends Enumerable {
+        private Outer_Inner(String value) {
+            super(value);
+        }
+    }
+
+    static final class Outer {
+        static final class Inner extends Enumerable {
+            private Inner(String value) {
+                super(value);
+            }
+        }
+    }
+
+    @Test
+    void testCompanionName() {
+        assertThat(EnumerableConstants.companionName(CarBrand.class))
+                .isEqualTo("nl.talsmasoftware.enumerables.CarBrand_EnumerableConstants");
+        assertThat(EnumerableConstants.companionName(Planet.class))
+                .isEqualTo("nl.talsmasoftware.enumerables.EnumerableConstantsTest_0Planet_EnumerableConstants");
+    }
+
+    @Test
+    void testCompanionName_noCollisions() {
+        assertThat(EnumerableConstants.companionName(Outer_Inner.class))
+                .isEqualTo("nl.talsmasoftware.enumerables.EnumerableConstantsTest_0Outer_1Inner_EnumerableConstants");
+        assertThat(EnumerableConstants.companionName(Outer.Inner.class))
+                .isEqualTo("nl.talsmasoftware.enumerables.EnumerableConstantsTest_0Outer_0Inner_EnumerableConstants");
+    }
+
+    @Test
+    void testGeneratedConstantsAreUsed() {
+        int created = EnumerableConstantsTest_0Planet_EnumerableConstants.CREATED.get();
+
+        assertThat(Enumerable.values(Planet.class)).containsExactly(Planet.MERCURY, Planet.VENUS);
+        assertThat(Planet.VENUS.ordinal()).isEqualTo(1);
+        assertThat(Planet.VENUS.name()).isEqualTo("VENUS");
+        assertThat(Enumerable.parse(Planet.class, "Venus")).isSameAs(Planet.VENUS);
+        assertThat(Enumerable.parse(Planet.class, "Pluto").getValue()).isEqualTo("Pluto");
+        assertThat(EnumerableConstantsTest_0Planet_EnumerableConstants.CREATED.get()).isEqualTo(created + 1);
+    }
+
+    @Test
+    void testInvalidGeneratedConstantsAreIgnored() {
+        assertThat(Enumerable.values(Moon.class)).containsExactly(Moon.LUNA);
+        assertThat(Enumerable.valueOf(Moon.class, "LUNA")).isSameAs(Moon.LUNA);
+    }
+
+    @Test
+    void testGeneratedConstantsMissingAConstantAreIgnored() {
+        assertThat(Enumerable.values(Star.class)).containsExactly(Star.SUN, Star.SIRIUS);
+        assertThat(Star.SIRIUS.ordinal()).isEqualTo(1);
+        assertThat(Enumerable.parse(Star.class, "Sirius")).isSameAs(Star.SIRIUS);
+    }
+
+    @Test
+    void testOutdatedGeneratedConstantsAreIgnored() {
+        assertThat(Enumerable.values(Comet.class)).containsExactly(Comet.HALLEY);
+        assertThat(Enumerable.valueOf(Comet.class, "HALLEY")).isSameAs(Comet.HALLEY);
+        assertThat(Enumerable.parse(Comet.class, "Encke").getValue()).isEqualTo("Encke");
+        assertThat(EnumerableConstants.create(new EnumerableConstantsTest_0Comet_EnumerableConstants(), "Encke"))
+                .isNull();
+    }
+
+    @Test
+    void testIsValid_requiresAllConstantFields() {
+        assertThat(EnumerableConstants.isValid(Planet.class,
+                new Planet[]{Planet.MERCURY, Planet.VENUS}, new String[]{"MERCURY", "VENUS"})).isTrue();
+        assertThat(EnumerableConstants.isValid(Planet.class,
+                new Planet[]{Planet.MERCURY}, new String[]{"MERCURY"})).isFalse();
+        assertThat(EnumerableConstants.isValid(Planet.class,
+                new Planet[]{Planet.MERCURY, Planet.VENUS}, new String[]{"MERCURY", "MERCURY"})).isFalse();
+        assertThat(EnumerableConstants.isValid(Planet.class,
+                new Planet[]{Planet.MERCURY, Planet.VENUS}, new String[]{"MERCURY", "MARS"})).isFalse();
+    }
+
+    @Test
+    void testNoGeneratedConstants() {
+        assertThat(EnumerableConstants.load(CarBrand.class)).isNull();
+    }
+
+}
+
+/**
+ * Hand-written equivalent of a generated companion class.
+ */
+final class EnumerableConstantsTest_0Planet_EnumerableConstants
+        extends EnumerableConstants<EnumerableConstantsTest.Planet> {
+    static final AtomicInteger CREATED = new AtomicInteger();
+
+    public EnumerableConstantsTest.Planet[] constants() {
+        return new EnumerableConstantsTest.Planet[]{
+                EnumerableConstantsTest.Planet.MERCURY, EnumerableConstantsTest.Planet.VENUS};
+    }
+
+    public String[] names() {
+        return new String[]{"MERCURY", "VENUS"};
+    }
+
+    @Override
+    public EnumerableConstantsTest.Planet create(String value) {
+        CREATED.incrementAndGet();
+        return new EnumerableConstantsTest.Planet(value);
+    }
+}
+
+/**
+ * Outdated companion class, missing a name.
+ */
+final class EnumerableConstantsTest_0Moon_EnumerableConstants extends EnumerableConstants<EnumerableConstantsTest.Moon> {
+    public EnumerableConstantsTest.Moon[] constants() {
+        return new EnumerableConstantsTest.Moon[]{EnumerableConstantsTest.Moon.LUNA};
+    }
+
+    public String[] names() {
+        return new String[0];
+    }
+}
+
+/**
+ * Outdated companion class, generated before the {@code SIRIUS} constant was added.
+ */
+final class EnumerableConstantsTest_0Star_EnumerableConstants extends EnumerableConstants<EnumerableConstantsTest.Star> {
+    public EnumerableConstantsTest.Star[] constants() {
+        return new EnumerableConstantsTest.Star[]{EnumerableConstantsTest.Star.SUN};
+    }
+
+    public String[] names() {
+        return new String[]{"SUN"};
+    }
+}
+
+/**
+ * Outdated companion class, referring to a constant field that was removed.
+ */
+final class EnumerableConstantsTest_0Comet_EnumerableConstants
+        extends EnumerableConstants<EnumerableConstantsTest.Comet> {
+    public EnumerableConstantsTest.Comet[] constants() {
+        throw new NoSuchFieldError("ENCKE");
+    }
+
+    public String[] names() {
+        return new String[]{"HALLEY", "ENCKE"};
+    }
+
+    @Override
+    public EnumerableConstantsTest.Comet create(String value) {
+        throw new NoSuchMethodError("Comet(String)");
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.enumerables;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EnumerableMapTest {
+
+    static final class Carrier extends Enumerable {
+        public static final Carrier DHL = new Carrier("DHL");
+        public static final Carrier UPS = new Carrier("UPS");
+        public static final Carrier DPD = new Carrier("DPD");
+
+        private Carrier(String value) {
+            super(value);
+        }
+    }
+
+    @Test
+    void testPutGetRemove() {
+        EnumerableMap<Carrier, String> map = new EnumerableMap<>(Carrier.class);
+        Carrier postnl = Enumerable.parse(Carrier.class, "PostNL");
+
+        assertThat(map.put(Carrier.UPS, "ups")).isNull();
+        assertThat(map.put(Carrier.UPS, "UPS")).isEqualTo("ups");
+        assertThat(map.put(postnl, "postnl")).isNull();
+        assertThat(map.put(Enumerable.parse(Carrier.class, "PostNL"), "PostNL")).isEqualTo("postnl");
+        assertThat(map.put(Carrier.DHL, null)).isNull();
+
+        assertThat(map).hasSize(3);
+        assertThat(map.get(Carrier.UPS)).isEqualTo("UPS");
+        assertThat(map.get(Enumerable.parse(Carrier.class, "UPS"))).isEqualTo("UPS");
+        assertThat(map.get(Enumerable.parse(Carrier.class, "PostNL"))).isEqualTo("PostNL");
+        assertThat(map.get(Carrier.DPD)).isNull();
+        assertThat(map.get("UPS")).isNull();
+        assertThat(map.get(null)).isNull();
+        assertThat(map.containsKey(Carrier.DHL)).isTrue();
+        assertThat(map.containsKey(Carrier.DPD)).isFalse();
+        assertThat(map.containsValue(null)).isTrue();
+        assertThat(map.containsValue("PostNL")).isTrue();
+        assertThat(map.containsValue("DPD")).isFalse();
+
+        assertThat(map.remove(Carrier.UPS)).isEqualTo("UPS");
+        assertThat(map.remove(Carrier.UPS)).isNull();
+        assertThat(map.remove(postnl)).isEqualTo("PostNL");
+        assertThat(map).hasSize(1).containsEntry(Carrier.DHL, null);
+        map.clear();
+        assertThat(map).isEmpty();
+    }
+
+    @Test
+    void testIterationOrder() {
+        Carrier zzz = Enumerable.parse(Carrier.class, "zzz");
+        Carrier aaa = Enumerable.parse(Carrier.class, "aaa");
+        EnumerableMap<Carrier, Integer> map = new EnumerableMap<>(Carrier.class);
+        map.put(zzz, 1);
+        map.put(Carrier.DPD, 2);
+        map.put(aaa, 3);
+        map.put(Carrier.DHL, 4);
+
+        assertThat(map.keySet()).containsExactly(Carrier.DHL, Carrier.DPD, aaa, zzz);
+        assertThat(map.values()).containsExactly(4, 2, 3, 1);
+    }
+
+    @Test
+    void testRejectsNullAndOtherKeyTypes() {
+        EnumerableMap<Carrier, String> map = new EnumerableMap<>(Carrier.class);
+        assertThatThrownBy(() -> map.put(null, "null")).isInstanceOf(NullPointerException.class);
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Map<Enumerable, String> raw = (Map) map;
+        assertThatThrownBy(() -> raw.put(CarBrand.AUDI, "audi")).isInstanceOf(ClassCastException.class);
+    }
+
+    @Test
+    void testEntrySetWritesThrough() {
+        Carrier postnl = Enumerable.parse(Carrier.class, "PostNL");
+        EnumerableMap<Carrier, String> map = new EnumerableMap<>(Carrier.class);
+        map.put(Carrier.DHL, "dhl");
+        map.put(Carrier.UPS, "ups");
+        map.put(postnl, "postnl");
+
+        for (Map.Entry<Carrier, String> entry : map.entrySet()) {
+            entry.setValue(entry.getValue().toUpperCase());
+        }
+        assertThat(map).containsEntry(Carrier.DHL, "DHL").containsEntry(postnl, "POSTNL");
+
+        for (Iterator<Carrier> it = map.keySet().iterator(); it.hasNext(); ) {
+            if (it.next() != Carrier.UPS) it.remove();
+        }
+        assertThat(map).hasSize(1).containsEntry(Carrier.UPS, "UPS");
+    }
+
+    @Test
+    void testEqualsAndHashCode() {
+        Carrier postnl = Enumerable.parse(Carrier.class, "PostNL");
+        Map<Carrier, String> hashMap = new HashMap<>();
+        hashMap.put(Carrier.DPD, "dpd");
+        hashMap.put(postnl, "postnl");
+        EnumerableMap<Carrier, String> map = new EnumerableMap<>(Carrier.class, hashMap);
+
+        assertThat(map).isEqualTo(hashMap).hasSameHashCodeAs(hashMap);
+        assertThat(hashMap).isEqualTo(map);
+        assertThat(map.toString()).isEqualTo("{Carrier{value=DPD}=dpd, Carrier{value=PostNL}=postnl}");
+    }
+
+    @Test
+    void testSerialization() throws Exception {
+        EnumerableMap<Carrier, String> map = new EnumerableMap<>(Carrier.class);
+        map.put(Carrier.UPS, "ups");
+        map.put(Enumerable.parse(Carrier.class, "PostNL"), "postnl");
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(map);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            Object deserialized = in.readObject();
+            assertThat(deserialized).isInstanceOf(EnumerableMap.class).isEqualTo(map);
+            assertThat(((Map<?, ?>) deserialized).keySet()).first().isSameAs(Carrier.UPS);
+        }
+    }
+
+}
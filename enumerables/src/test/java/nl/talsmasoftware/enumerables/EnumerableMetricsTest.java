@@ -0,0 +1,118 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.enumerables;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EnumerableMetricsTest {
+
+    /**
+     * Provider registered in the test resources.
+     */
+    public static final class CountingMetrics extends EnumerableMetrics {
+        static final Map<Class<?>, Counts> COUNTS = new ConcurrentHashMap<>();
+
+        @Override
+        public Recorder recorderFor(Class<? extends Enumerable> type) {
+            if (type == Untracked.class) return null;
+            Counts counts = new Counts();
+            COUNTS.put(type, counts);
+            return counts;
+        }
+    }
+
+    static final class Counts extends EnumerableMetrics.Recorder {
+        final AtomicLong initNanos = new AtomicLong(-1L);
+        final AtomicLong constants = new AtomicLong();
+        final AtomicLong unknowns = new AtomicLong();
+        final AtomicLong valueOfMisses = new AtomicLong();
+
+        @Override
+        public void initialized(long nanos) {
+            initNanos.set(nanos);
+        }
+
+        @Override
+        public void constantParsed() {
+            constants.incrementAndGet();
+        }
+
+        @Override
+        public void unknownParsed() {
+            unknowns.incrementAndGet();
+        }
+
+        @Override
+        public void valueOfMissed() {
+            valueOfMisses.incrementAndGet();
+        }
+    }
+
+    public static final class Planet extends Enumerable {
+        public static final Planet MERCURY = new Planet("Mercury");
+        public static final Planet VENUS = new Planet("Venus");
+
+        private Planet(String value) {
+            super(value);
+        }
+    }
+
+    public static final class Untracked extends Enumerable {
+        public static final Untracked CONSTANT = new Untracked("constant");
+
+        private Untracked(String value) {
+            super(value);
+        }
+    }
+
+    @Test
+    void testRecordedPerType() {
+        Enumerable.parse(Planet.class, "Mercury");
+        Enumerable.parse(Planet.class, new StringBuilder("Venus"));
+        Enumerable.parse(Planet.class, "Venus".toCharArray(), 0, 5);
+        Enumerable.parseUtf8(Planet.class, "Venus".getBytes(StandardCharsets.UTF_8), 0, 5);
+        Enumerable.parseUtf8(Planet.class, ByteBuffer.wrap("Mercury".getBytes(StandardCharsets.UTF_8)));
+        Enumerable.parseFolded(Planet.class, "VENUS", ValueFolding.IGNORE_CASE);
+        Enumerable.parse(Planet.class, "Pluto");
+        Enumerable.parseUtf8(Planet.class, "Pluto".getBytes(StandardCharsets.UTF_8), 0, 5);
+        Enumerable.valueOf(Planet.class, "MERCURY");
+        assertThatThrownBy(() -> Enumerable.valueOf(Planet.class, "PLUTO"))
+                .isInstanceOf(Enumerable.ConstantNotFoundException.class);
+
+        Counts counts = CountingMetrics.COUNTS.get(Planet.class);
+        assertThat(counts.initNanos.get()).isNotNegative();
+        assertThat(counts.constants.get()).isEqualTo(6L);
+        assertThat(counts.unknowns.get()).isEqualTo(2L);
+        assertThat(counts.valueOfMisses.get()).isEqualTo(1L);
+    }
+
+    @Test
+    void testProviderMayIgnoreTypes() {
+        assertThat(Enumerable.parse(Untracked.class, "constant")).isSameAs(Untracked.CONSTANT);
+        assertThat(Enumerable._metadata(Untracked.class).recorder).isNull();
+        assertThat(CountingMetrics.COUNTS).doesNotContainKey(Untracked.class);
+    }
+
+}
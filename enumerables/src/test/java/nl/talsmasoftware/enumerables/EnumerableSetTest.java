@@ -0,0 +1,221 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.enumerables;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EnumerableSetTest {
+
+    static final class Permission extends Enumerable {
+        public static final Permission READ = new Permission("read");
+        public static final Permission WRITE = new Permission("write");
+        public static final Permission DELETE = new Permission("delete");
+
+        private Permission(String value) {
+            super(value);
+        }
+    }
+
+    /**
+     * Type with more than 64 constants, so the bits span multiple words.
+     */
+    public static final class Flag extends Enumerable {
+        public static final Flag F00 = new Flag("f00"), F01 = new Flag("f01"), F02 = new Flag("f02"),
+                F03 = new Flag("f03"), F04 = new Flag("f04"), F05 = new Flag("f05"), F06 = new Flag("f06"),
+                F07 = new Flag("f07"), F08 = new Flag("f08"), F09 = new Flag("f09"), F10 = new Flag("f10"),
+                F11 = new Flag("f11"), F12 = new Flag("f12"), F13 = new Flag("f13"), F14 = new Flag("f14"),
+                F15 = new Flag("f15"), F16 = new Flag("f16"), F17 = new Flag("f17"), F18 = new Flag("f18"),
+                F19 = new Flag("f19"), F20 = new Flag("f20"), F21 = new Flag("f21"), F22 = new Flag("f22"),
+                F23 = new Flag("f23"), F24 = new Flag("f24"), F25 = new Flag("f25"), F26 = new Flag("f26"),
+                F27 = new Flag("f27"), F28 = new Flag("f28"), F29 = new Flag("f29"), F30 = new Flag("f30"),
+                F31 = new Flag("f31"), F32 = new Flag("f32"), F33 = new Flag("f33"), F34 = new Flag("f34"),
+                F35 = new Flag("f35"), F36 = new Flag("f36"), F37 = new Flag("f37"), F38 = new Flag("f38"),
+                F39 = new Flag("f39"), F40 = new Flag("f40"), F41 = new Flag("f41"), F42 = new Flag("f42"),
+                F43 = new Flag("f43"), F44 = new Flag("f44"), F45 = new Flag("f45"), F46 = new Flag("f46"),
+                F47 = new Flag("f47"), F48 = new Flag("f48"), F49 = new Flag("f49"), F50 = new Flag("f50"),
+                F51 = new Flag("f51"), F52 = new Flag("f52"), F53 = new Flag("f53"), F54 = new Flag("f54"),
+                F55 = new Flag("f55"), F56 = new Flag("f56"), F57 = new Flag("f57"), F58 = new Flag("f58"),
+                F59 = new Flag("f59"), F60 = new Flag("f60"), F61 = new Flag("f61"), F62 = new Flag("f62"),
+                F63 = new Flag("f63"), F64 = new Flag("f64"), F65 = new Flag("f65"), F66 = new Flag("f66");
+
+        private Flag(String value) {
+            super(value);
+        }
+    }
+
+    @Test
+    void testAddContainsRemove() {
+        EnumerableSet<Permission> set = EnumerableSet.noneOf(Permission.class);
+        Permission admin = Enumerable.parse(Permission.class, "admin");
+
+        assertThat(set.add(Permission.WRITE)).isTrue();
+        assertThat(set.add(Permission.WRITE)).isFalse();
+        assertThat(set.add(admin)).isTrue();
+        assertThat(set.add(Enumerable.parse(Permission.class, "admin"))).isFalse();
+
+        assertThat(set).hasSize(2);
+        assertThat(set.contains(Permission.WRITE)).isTrue();
+        assertThat(set.contains(Permission.READ)).isFalse();
+        assertThat(set.contains(Enumerable.parse(Permission.class, "admin"))).isTrue();
+        assertThat(set.contains(Enumerable.parse(Permission.class, "Admin"))).isFalse();
+        assertThat(set.contains("write")).isFalse();
+        assertThat(set.contains(null)).isFalse();
+
+        assertThat(set.remove(Permission.WRITE)).isTrue();
+        assertThat(set.remove(admin)).isTrue();
+        assertThat(set).isEmpty();
+    }
+
+    @Test
+    void testIterationOrder() {
+        Permission zzz = Enumerable.parse(Permission.class, "zzz");
+        Permission aaa = Enumerable.parse(Permission.class, "aaa");
+        EnumerableSet<Permission> set = EnumerableSet.of(Permission.class,
+                zzz, Permission.DELETE, aaa, Permission.READ);
+        assertThat(set).containsExactly(Permission.READ, Permission.DELETE, aaa, zzz);
+    }
+
+    @Test
+    void testRejectsNullAndOtherTypes() {
+        EnumerableSet<Permission> set = EnumerableSet.noneOf(Permission.class);
+        assertThatThrownBy(() -> set.add(null)).isInstanceOf(NullPointerException.class);
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Set<Enumerable> raw = (Set) set;
+        assertThatThrownBy(() -> raw.add(Flag.F00)).isInstanceOf(ClassCastException.class);
+    }
+
+    @Test
+    void testAllOf_multipleWords() {
+        EnumerableSet<Flag> all = EnumerableSet.allOf(Flag.class);
+        assertThat(all).hasSize(67).containsExactly(Enumerable.values(Flag.class));
+        assertThat(all.contains(Flag.F66)).isTrue();
+        assertThat(EnumerableSet.allOf(Permission.class)).containsExactly(Enumerable.values(Permission.class));
+    }
+
+    @Test
+    void testBulkOperations_sameType() {
+        Flag unknown1 = Enumerable.parse(Flag.class, "unknown1");
+        Flag unknown2 = Enumerable.parse(Flag.class, "unknown2");
+        EnumerableSet<Flag> first = EnumerableSet.of(Flag.class, Flag.F01, Flag.F63, Flag.F64, unknown1);
+        EnumerableSet<Flag> second = EnumerableSet.of(Flag.class, Flag.F63, Flag.F66, unknown1, unknown2);
+
+        EnumerableSet<Flag> union = EnumerableSet.copyOf(Flag.class, first);
+        assertThat(union.addAll(second)).isTrue();
+        assertThat(union).containsExactly(Flag.F01, Flag.F63, Flag.F64, Flag.F66, unknown1, unknown2);
+        assertThat(union.containsAll(first)).isTrue();
+        assertThat(union.containsAll(second)).isTrue();
+        assertThat(first.containsAll(second)).isFalse();
+        assertThat(union.addAll(second)).isFalse();
+
+        EnumerableSet<Flag> intersection = EnumerableSet.copyOf(Flag.class, first);
+        assertThat(intersection.retainAll(second)).isTrue();
+        assertThat(intersection).containsExactly(Flag.F63, unknown1);
+        assertThat(intersection.retainAll(second)).isFalse();
+
+        EnumerableSet<Flag> difference = EnumerableSet.copyOf(Flag.class, first);
+        assertThat(difference.removeAll(second)).isTrue();
+        assertThat(difference).containsExactly(Flag.F01, Flag.F64);
+        assertThat(difference.removeAll(second)).isFalse();
+    }
+
+    @Test
+    void testBulkOperations_otherCollections() {
+        EnumerableSet<Permission> set = EnumerableSet.allOf(Permission.class);
+        assertThat(set.containsAll(Arrays.asList(Permission.READ, Permission.WRITE))).isTrue();
+        assertThat(set.retainAll(new HashSet<>(Arrays.asList(Permission.READ, Permission.WRITE)))).isTrue();
+        assertThat(set).containsExactly(Permission.READ, Permission.WRITE);
+        assertThat(set.removeAll(Arrays.asList(Permission.READ))).isTrue();
+        assertThat(set).containsExactly(Permission.WRITE);
+    }
+
+    @Test
+    void testIteratorRemove() {
+        Permission other = Enumerable.parse(Permission.class, "other");
+        EnumerableSet<Permission> set = EnumerableSet.of(Permission.class, Permission.READ, Permission.WRITE, other);
+        for (Iterator<Permission> it = set.iterator(); it.hasNext(); ) {
+            Permission permission = it.next();
+            if (permission != Permission.WRITE) it.remove();
+        }
+        assertThat(set).containsExactly(Permission.WRITE);
+    }
+
+    @Test
+    void testEqualsAndHashCode() {
+        Permission other = Enumerable.parse(Permission.class, "other");
+        EnumerableSet<Permission> set = EnumerableSet.of(Permission.class, Permission.READ, other);
+        Set<Permission> hashSet = new HashSet<>(Arrays.asList(Permission.READ, other));
+
+        assertThat(set).isEqualTo(hashSet).hasSameHashCodeAs(hashSet);
+        assertThat(hashSet).isEqualTo(set);
+        assertThat(set).isEqualTo(EnumerableSet.of(Permission.class, Enumerable.parse(Permission.class, "other"),
+                Permission.READ));
+        assertThat(set).isNotEqualTo(EnumerableSet.of(Permission.class, Permission.READ));
+    }
+
+    @Test
+    void testUnmodifiable() {
+        EnumerableSet<Permission> set = EnumerableSet.unmodifiableCopyOf(Permission.class,
+                Arrays.asList(Permission.READ, Permission.WRITE));
+        assertThat(set).containsExactly(Permission.READ, Permission.WRITE);
+        assertThatThrownBy(() -> set.add(Permission.DELETE)).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> set.remove(Permission.READ)).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(set::clear).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> {
+            Iterator<Permission> it = set.iterator();
+            it.next();
+            it.remove();
+        }).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void testSetOf_returnsEnumerableSet() {
+        assertThat(Enumerable.setOf(Permission.WRITE, Permission.READ))
+                .isInstanceOf(EnumerableSet.class)
+                .containsExactly(Permission.READ, Permission.WRITE);
+        assertThat(Enumerable.setOf(Permission.WRITE, Flag.F00))
+                .isNotInstanceOf(EnumerableSet.class)
+                .containsExactly(Permission.WRITE, Flag.F00);
+    }
+
+    @Test
+    void testSerialization() throws Exception {
+        Permission other = Enumerable.parse(Permission.class, "other");
+        EnumerableSet<Permission> set = EnumerableSet.of(Permission.class, Permission.DELETE, other);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(set);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            Object deserialized = in.readObject();
+            assertThat(deserialized).isInstanceOf(EnumerableSet.class).isEqualTo(set);
+            assertThat((Set<?>) deserialized).first().isSameAs(Permission.DELETE);
+        }
+    }
+
+}
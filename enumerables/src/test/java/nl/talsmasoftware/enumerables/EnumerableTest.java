@@ -24,8 +24,16 @@ import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import static java.lang.Integer.signum;
@@ -84,6 +92,15 @@ class EnumerableTest {
         }
     }
 
+    static final class Synonyms extends Enumerable {
+        public static final Synonyms FIRST = new Synonyms("first");
+        public static final Synonyms PRIMARY = new Synonyms("first");
+
+        private Synonyms(String value) {
+            super(value);
+        }
+    }
+
     @Test
     void testParse_null() {
         assertThat(Enumerable.parse(BigCo.class, null)).isNull();
@@ -97,6 +114,53 @@ class EnumerableTest {
         assertThat(bigCoEmpty).hasToString("BigCo{value=}");
     }
 
+    @Test
+    void testParse_charSequence() {
+        assertThat(Enumerable.parse(BigCo.class, new StringBuilder("Microsoft"))).isSameAs(BigCo.MICROSOFT);
+        assertThat(Enumerable.parse(BigCo.class, CharBuffer.wrap("Microsoft"))).isSameAs(BigCo.MICROSOFT);
+        assertThat(Enumerable.parse(BigCo.class, new StringBuilder("Netscape")).getValue()).isEqualTo("Netscape");
+    }
+
+    @Test
+    void testParse_charArrayRange() {
+        char[] buffer = "[\"Microsoft\",\"Netscape\"]".toCharArray();
+        assertThat(Enumerable.parse(BigCo.class, buffer, 2, 9)).isSameAs(BigCo.MICROSOFT);
+        BigCo netscape = Enumerable.parse(BigCo.class, buffer, 14, 8);
+        assertThat(netscape.getValue()).isEqualTo("Netscape");
+        assertThat(netscape.ordinal()).isEqualTo(Integer.MAX_VALUE);
+        assertThat(Enumerable.parse(BigCo.class, buffer, 0, 0).getValue()).isEmpty();
+        assertThat(Enumerable.parse(BigCo.class, (char[]) null, 0, 0)).isNull();
+        assertThatThrownBy(() -> Enumerable.parse(BigCo.class, buffer, 20, 9))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> Enumerable.parse(BigCo.class, buffer, -1, 2))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void testParseUtf8_byteArrayRange() {
+        byte[] buffer = "[\"Microsoft\",\"Cr\u00e8me\"]".getBytes(StandardCharsets.UTF_8);
+        assertThat(Enumerable.parseUtf8(BigCo.class, buffer, 2, 9)).isSameAs(BigCo.MICROSOFT);
+        BigCo creme = Enumerable.parseUtf8(BigCo.class, buffer, 14, 6);
+        assertThat(creme.getValue()).isEqualTo("Cr\u00e8me");
+        assertThat(creme.ordinal()).isEqualTo(Integer.MAX_VALUE);
+        assertThat(Enumerable.parseUtf8(BigCo.class, (byte[]) null, 0, 0)).isNull();
+        assertThatThrownBy(() -> Enumerable.parseUtf8(BigCo.class, buffer, 20, 9))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void testParseUtf8_byteBuffer() {
+        ByteBuffer direct = ByteBuffer.allocateDirect(32);
+        direct.put("Oracle".getBytes(StandardCharsets.UTF_8)).flip();
+        assertThat(Enumerable.parseUtf8(BigCo.class, direct)).isSameAs(BigCo.ORACLE);
+        assertThat(direct.position()).isZero();
+
+        ByteBuffer heap = ByteBuffer.wrap("Sun Microsystems".getBytes(StandardCharsets.UTF_8));
+        assertThat(Enumerable.parseUtf8(BigCo.class, heap).getValue()).isEqualTo("Sun Microsystems");
+        assertThat(heap.remaining()).isEqualTo(16);
+        assertThat(Enumerable.parseUtf8(BigCo.class, (ByteBuffer) null)).isNull();
+    }
+
     @Test
     void testConstructorNull() {
         assertThatThrownBy(() -> new Fruit(null))
@@ -176,6 +240,31 @@ class EnumerableTest {
                 .hasMessageContaining("value \"Dummy value\"");
     }
 
+    @Test
+    void testParse_stringConstructorIsResolvedOnce() throws Exception {
+        Enumerable.parse(Wordpairs.class, "stressed");
+        TypeMetadata<Wordpairs> metadata = Enumerable._metadata(Wordpairs.class);
+        assertThat(metadata.stringConstructor()).isSameAs(metadata.stringConstructor());
+        assertThat(metadata.stringConstructor().isAccessible()).isTrue();
+    }
+
+    @Test
+    void testParse_unknownValuesConcurrently() throws Exception {
+        ExecutorService threads = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Wordpairs>> results = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                final String value = "word " + i;
+                results.add(threads.submit(() -> Enumerable.parse(Wordpairs.class, value)));
+            }
+            for (int i = 0; i < 100; i++) {
+                assertThat(results.get(i).get().getValue()).isEqualTo("word " + i);
+            }
+        } finally {
+            threads.shutdown();
+        }
+    }
+
     @Test
     void testValues_typeNull() {
         assertThatThrownBy(() -> Enumerable.values(null))
@@ -283,6 +372,28 @@ class EnumerableTest {
         assertThat(BigCo.APPLE.compareTo(Fruit.APPLE)).isNotZero();
     }
 
+    @Test
+    void testEquals_consistentWithCompareTo() {
+        Enumerable[] values = {Fruit.APPLE, Fruit.ORANGE, new Fruit("Apple"), new Fruit("Grapefruit"),
+                new Fruit("grapefruit"), new Fruit("Grapefruit"), BigCo.APPLE, Synonyms.FIRST, Synonyms.PRIMARY,
+                new Synonyms("first"), new Synonyms("second")};
+        for (Enumerable value : values) {
+            for (Enumerable other : values) {
+                assertThat(value.equals(other)).as("%s equals %s", value, other)
+                        .isEqualTo(value.compareTo(other) == 0);
+            }
+        }
+    }
+
+    @Test
+    void testEquals_constantsSharingAValue() {
+        assertThat(Synonyms.FIRST).isNotEqualTo(Synonyms.PRIMARY);
+        assertThat(Synonyms.FIRST).isEqualTo(new Synonyms("first"));
+        assertThat(Synonyms.PRIMARY).isNotEqualTo(new Synonyms("first"));
+        assertThat(Synonyms.PRIMARY.ordinal()).isEqualTo(1);
+        assertThat(signum(Synonyms.FIRST.compareTo(Synonyms.PRIMARY))).isEqualTo(-1);
+    }
+
     @Test
     void testCompareTo_constantsBeforeParsedValues() {
         Fruit nonConstant = Enumerable.parse(Fruit.class, "Kiwano");
@@ -292,6 +403,25 @@ class EnumerableTest {
         }
     }
 
+    @Test
+    void testParse_allConstantsOfLargerType() {
+        CarBrand[] brands = Enumerable.values(CarBrand.class);
+        for (int i = 0; i < brands.length; i++) {
+            CarBrand parsed = Enumerable.parse(CarBrand.class, new StringBuilder(brands[i].getValue()));
+            assertThat(parsed).isSameAs(brands[i]);
+            assertThat(parsed.ordinal()).isEqualTo(i);
+        }
+        CarBrand unknown = Enumerable.parse(CarBrand.class, "Trabant");
+        assertThat(unknown.ordinal()).isEqualTo(Integer.MAX_VALUE);
+        assertThat(unknown.name()).isNull();
+    }
+
+    @Test
+    void testOrdinal_instanceWithConstantValue() {
+        assertThat(new Fruit("Orange").ordinal()).isEqualTo(1);
+        assertThat(Enumerable.parse(CarBrand.class, "Volvo").ordinal()).isEqualTo(CarBrand.VOLVO.ordinal());
+    }
+
     @Test
     void testSetOf_null() {
         assertThat(Enumerable.setOf((Enumerable[]) null)).isNotNull().isEmpty();
@@ -352,6 +482,28 @@ class EnumerableTest {
                 .hasMessageContaining("No Enumerable constant \"Fruit.Grapefruit\" found.");
     }
 
+    @Test
+    void testFindByName() {
+        for (CarBrand brand : Enumerable.values(CarBrand.class)) {
+            assertThat(Enumerable.findByName(CarBrand.class, new StringBuilder(brand.name()))).isSameAs(brand);
+        }
+        assertThat(Enumerable.findByName(Fruit.class, "APPLE")).isSameAs(Fruit.APPLE);
+    }
+
+    @Test
+    void testFindByName_notFound() {
+        assertThat(Enumerable.findByName(Fruit.class, "Grapefruit")).isNull();
+        assertThat(Enumerable.findByName(Fruit.class, "Apple")).isNull(); // value instead of name
+        assertThat(Enumerable.findByName(Fruit.class, null)).isNull();
+    }
+
+    @Test
+    void testFindByName_typeNull() {
+        assertThatThrownBy(() -> Enumerable.findByName(null, "someName"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Enumerable type is <null>");
+    }
+
     @Test
     void testDeserialize_nonConstantValue() {
         Fruit grapefruit = Enumerable.parse(Fruit.class, "Grapefruit");
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.enumerables;
+
+import jdk.jfr.EventType;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EventsTest {
+    private static final String PREFIX = "nl.talsmasoftware.enumerables.";
+
+    @TempDir
+    Path tempDir;
+
+    public static final class Metal extends Enumerable {
+        public static final Metal GOLD = new Metal("gold");
+        public static final Metal SILVER = new Metal("silver");
+
+        private Metal(String value) {
+            super(value);
+        }
+    }
+
+    @UnknownValueLimit(value = 1, overflow = UnknownValueLimit.Overflow.USE_CONSTANT, constant = "OTHER")
+    public static final class Alloy extends Enumerable {
+        public static final Alloy BRONZE = new Alloy("bronze");
+
+        private Alloy(String value) {
+            super(value);
+        }
+    }
+
+    @Test
+    void testFlightRecorderEventsAreAvailable() {
+        assertThat(Events.EVENTS).isInstanceOf(JfrEvents.class);
+    }
+
+    @Test
+    void testRecordedEvents() throws Exception {
+        Path file = tempDir.resolve("enumerables.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(PREFIX + "TypeInitialization");
+            recording.enable(PREFIX + "UnknownValueInstantiation").withThreshold(Duration.ZERO);
+            recording.enable(PREFIX + "ConstantNotFound");
+            recording.start();
+
+            Enumerable.parse(Metal.class, "copper");
+            assertThatThrownBy(() -> Enumerable.valueOf(Metal.class, "COPPER"))
+                    .isInstanceOf(Enumerable.ConstantNotFoundException.class);
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().startsWith(PREFIX))
+                .filter(event -> Metal.class.getName().equals(event.getClass("type").getName()))
+                .collect(Collectors.toList());
+        assertThat(events).extracting(event -> event.getEventType().getName()).containsExactlyInAnyOrder(
+                PREFIX + "TypeInitialization", PREFIX + "UnknownValueInstantiation", PREFIX + "ConstantNotFound");
+        for (RecordedEvent event : events) {
+            String name = event.getEventType().getName();
+            if (name.endsWith("TypeInitialization")) assertThat(event.getInt("constantCount")).isEqualTo(2);
+            if (name.endsWith("UnknownValueInstantiation")) assertThat(event.getInt("valueLength")).isEqualTo(6);
+            if (name.endsWith("ConstantNotFound")) {
+                assertThat(event.getString("name")).isEqualTo("COPPER");
+                assertThat(event.getStackTrace()).isNull();
+            }
+        }
+    }
+
+    @Test
+    void testConstantNotFoundIsDisabledByDefault() {
+        EventType constantNotFound = EventType.getEventType(JfrEvents.ConstantNotFound.class);
+        assertThat(constantNotFound.isEnabled()).isFalse();
+    }
+
+    @Test
+    void testConstantNotFoundForOverflowConstant() throws Exception {
+        Path file = tempDir.resolve("overflow.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(PREFIX + "ConstantNotFound");
+            recording.start();
+
+            assertThatThrownBy(() -> Enumerable.values(Alloy.class))
+                    .isInstanceOf(Enumerable.ConstantNotFoundException.class);
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        assertThat(RecordingFile.readAllEvents(file))
+                .filteredOn(event -> event.getEventType().getName().equals(PREFIX + "ConstantNotFound"))
+                .filteredOn(event -> Alloy.class.getName().equals(event.getClass("type").getName()))
+                .extracting(event -> event.getString("name"))
+                .containsExactly("OTHER");
+    }
+
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.enumerables;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InternPolicyTest {
+
+    static final class Carrier extends Enumerable {
+        public static final Carrier DHL = new Carrier("DHL");
+        public static final Carrier UPS = new Carrier("UPS");
+
+        private Carrier(String value) {
+            super(value);
+        }
+    }
+
+    @AfterEach
+    void disableInterning() {
+        Enumerables.setInternPolicy(Carrier.class, null);
+    }
+
+    @Test
+    void testNoInterningByDefault() {
+        assertThat(Enumerable.parse(Carrier.class, "PostNL")).isNotSameAs(Enumerable.parse(Carrier.class, "PostNL"));
+        assertThat(Enumerables.statistics(Carrier.class).getInternMisses()).isZero();
+    }
+
+    @Test
+    void testLeastRecentlyUsed() {
+        Enumerables.setInternPolicy(Carrier.class, InternPolicy.leastRecentlyUsed(2));
+        Carrier postnl = Enumerable.parse(Carrier.class, "PostNL");
+        Carrier fedex = Enumerable.parse(Carrier.class, "FedEx");
+
+        assertThat(Enumerable.parse(Carrier.class, "PostNL")).isSameAs(postnl);
+        assertThat(Enumerable.parse(Carrier.class, new StringBuilder("FedEx"))).isSameAs(fedex);
+        assertThat(Enumerable.parse(Carrier.class, "PostNL")).isSameAs(postnl); // most recently used
+        Carrier dpd = Enumerable.parse(Carrier.class, "DPD"); // evicts FedEx
+
+        assertThat(Enumerable.parse(Carrier.class, "PostNL")).isSameAs(postnl);
+        assertThat(Enumerable.parse(Carrier.class, "DPD")).isSameAs(dpd);
+        assertThat(Enumerable.parse(Carrier.class, "FedEx")).isNotSameAs(fedex).isEqualTo(fedex);
+
+        EnumerableStatistics statistics = Enumerables.statistics(Carrier.class);
+        assertThat(statistics.getInternHits()).isEqualTo(5L);
+        assertThat(statistics.getInternMisses()).isEqualTo(4L);
+        assertThat(statistics.getInternEvictions()).isEqualTo(2L);
+        assertThat(statistics.getInternedCount()).isEqualTo(2);
+    }
+
+    @Test
+    void testConstantsAreNotInterned() {
+        Enumerables.setInternPolicy(Carrier.class, InternPolicy.leastRecentlyUsed(10));
+        assertThat(Enumerable.parse(Carrier.class, "DHL")).isSameAs(Carrier.DHL);
+        assertThat(Enumerables.statistics(Carrier.class).getInternMisses()).isZero();
+        assertThat(Enumerables.statistics(Carrier.class).getInternedCount()).isZero();
+    }
+
+    @Test
+    void testInternedValuesAreNonConstant() {
+        Enumerables.setInternPolicy(Carrier.class, InternPolicy.weakReferences());
+        Carrier postnl = Enumerable.parse(Carrier.class, "PostNL");
+        assertThat(Enumerable.parse(Carrier.class, "PostNL")).isSameAs(postnl);
+        assertThat(postnl.ordinal()).isEqualTo(Integer.MAX_VALUE);
+        assertThat(postnl.name()).isNull();
+    }
+
+    @Test
+    void testSoftReferences() {
+        Enumerables.setInternPolicy(Carrier.class, InternPolicy.softReferences());
+        Carrier postnl = Enumerable.parse(Carrier.class, "PostNL");
+        assertThat(Enumerable.parse(Carrier.class, "PostNL")).isSameAs(postnl);
+        assertThat(Enumerables.statistics(Carrier.class).getInternedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testChangingPolicyDiscardsInternedValues() {
+        Enumerables.setInternPolicy(Carrier.class, InternPolicy.leastRecentlyUsed(10));
+        Carrier postnl = Enumerable.parse(Carrier.class, "PostNL");
+        Enumerables.setInternPolicy(Carrier.class, InternPolicy.weakReferences());
+        assertThat(Enumerable.parse(Carrier.class, "PostNL")).isNotSameAs(postnl);
+        Enumerables.setInternPolicy(Carrier.class, InternPolicy.NONE);
+        assertThat(Enumerables.statistics(Carrier.class).getInternedCount()).isZero();
+    }
+
+    @Test
+    void testLargeLeastRecentlyUsedCacheStaysBounded() {
+        Enumerables.setInternPolicy(Carrier.class, InternPolicy.leastRecentlyUsed(100));
+        for (int i = 0; i < 1000; i++) {
+            Enumerable.parse(Carrier.class, "Carrier " + i);
+        }
+        EnumerableStatistics statistics = Enumerables.statistics(Carrier.class);
+        assertThat(statistics.getInternedCount()).isLessThanOrEqualTo(100);
+        assertThat(statistics.getInternEvictions()).isEqualTo(1000L - statistics.getInternedCount());
+    }
+
+    @Test
+    void testInvalidMaximumSize() {
+        assertThatThrownBy(() -> InternPolicy.leastRecentlyUsed(0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Maximum size must be positive");
+    }
+
+    @Test
+    void testToString() {
+        assertThat(InternPolicy.NONE).hasToString("InternPolicy{None}");
+        assertThat(InternPolicy.leastRecentlyUsed(5)).hasToString("InternPolicy{Least recently used, maximum size 5}");
+    }
+
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.enumerables;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PreloadTest {
+
+    public static final class Colour extends Enumerable {
+        public static final Colour RED = new Colour("red");
+
+        private Colour(String value) {
+            super(value);
+        }
+    }
+
+    public static final class Shape extends Enumerable {
+        public static final Shape CIRCLE = new Shape("circle");
+
+        private Shape(String value) {
+            super(value);
+        }
+    }
+
+    @Test
+    void testPreloadClasses() {
+        PreloadReport report = Enumerables.preload(Colour.class, Shape.class, CarBrand.class);
+
+        assertThat(report.getInitNanos()).containsOnlyKeys(
+                Colour.class.getName(), Shape.class.getName(), CarBrand.class.getName());
+        assertThat(report.getFailures()).isEmpty();
+        assertThat(report.getTotalNanos()).isPositive();
+        assertThat(report).hasToString("PreloadReport{preloaded=3, failed=0, totalMillis="
+                + report.getTotalNanos() / 1000000L + "}");
+    }
+
+    @Test
+    void testPreloadOnExecutor() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            PreloadReport report = Enumerables.preload(executor, Colour.class, String.class, Enumerable.class);
+            assertThat(report.getInitNanos()).containsOnlyKeys(Colour.class.getName());
+            assertThat(report.getFailures()).containsOnlyKeys(String.class.getName(), Enumerable.class.getName());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testPreloadOnDiscardingExecutor() {
+        PreloadReport report = Enumerables.preload(task -> {
+        }, Colour.class, Shape.class);
+
+        assertThat(report.getInitNanos()).containsOnlyKeys(Colour.class.getName(), Shape.class.getName());
+        assertThat(report.getFailures()).isEmpty();
+    }
+
+    @Test
+    void testPreloadOnRejectingExecutor() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        executor.shutdown();
+
+        PreloadReport report = Enumerables.preload(executor, Colour.class, Shape.class);
+        assertThat(report.getInitNanos()).isEmpty();
+        assertThat(report.getFailures()).containsOnlyKeys(Colour.class.getName(), Shape.class.getName());
+        assertThat(report.getFailures().get(Colour.class.getName())).isInstanceOf(RejectedExecutionException.class);
+    }
+
+    @Test
+    void testPreloadNothing() {
+        assertThat(Enumerables.preload().getInitNanos()).isEmpty();
+        assertThat(Enumerables.preload((Class<?>[]) null).getInitNanos()).isEmpty();
+    }
+
+    @Test
+    void testPreloadIndexed() {
+        // See src/test/resources/META-INF/enumerables/types
+        PreloadReport report = Enumerables.preloadIndexed(null, Runnable::run);
+        assertThat(report.getInitNanos()).containsOnlyKeys(Colour.class.getName(), CarBrand.class.getName());
+        assertThat(report.getFailures()).containsOnlyKeys("nl.talsmasoftware.enumerables.DoesNotExist");
+    }
+
+    @Test
+    void testPreloadIndexed_packages() {
+        PreloadReport report = Enumerables.preloadIndexed(getClass().getClassLoader(), null, "com.example");
+        assertThat(report.getInitNanos()).isEmpty();
+        assertThat(report.getFailures()).isEmpty();
+
+        report = Enumerables.preloadIndexed(null, null, "nl.talsmasoftware.enumerables");
+        assertThat(report.getInitNanos()).hasSize(2);
+    }
+
+}
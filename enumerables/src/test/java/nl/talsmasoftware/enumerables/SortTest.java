@@ -0,0 +1,99 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.enumerables;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SortTest {
+    private static final String[] UNKNOWN_VALUES = {
+            "Trabant", "trabant", "TRABANT", "Lada", "lada", "Škoda", "ŠKODA", "ß", "SS", "", " ", "Zastava",
+            "𐐀bc", "𐐨bc", "Ab", "aB"};
+
+    private static List<CarBrand> randomBrands(Random random, int size) {
+        final CarBrand[] constants = Enumerable.values(CarBrand.class);
+        final List<CarBrand> brands = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            if (random.nextInt(3) == 0) {
+                brands.add(Enumerable.parse(CarBrand.class, UNKNOWN_VALUES[random.nextInt(UNKNOWN_VALUES.length)]));
+            } else {
+                final CarBrand constant = constants[random.nextInt(constants.length)];
+                brands.add(random.nextBoolean() ? constant : Enumerable.parse(CarBrand.class, constant.getValue()));
+            }
+        }
+        return brands;
+    }
+
+    private static void assertSameInstances(List<?> actual, List<?> expected) {
+        assertThat(actual).hasSameSizeAs(expected);
+        for (int i = 0; i < expected.size(); i++) {
+            assertThat(actual.get(i)).as("element %d", i).isSameAs(expected.get(i));
+        }
+    }
+
+    @Test
+    void testSortList_sameOrderAsCollectionsSort() {
+        Random random = new Random(42L);
+        for (int round = 0; round < 20; round++) {
+            List<CarBrand> brands = randomBrands(random, random.nextInt(500));
+            List<CarBrand> expected = new ArrayList<>(brands);
+            Collections.sort(expected);
+
+            Enumerables.sort(brands);
+
+            assertSameInstances(brands, expected); // also verifies stability
+        }
+    }
+
+    @Test
+    void testSortArray_sameOrderAsArraysSort() {
+        CarBrand[] brands = randomBrands(new Random(7L), 300).toArray(new CarBrand[0]);
+        CarBrand[] expected = brands.clone();
+        Arrays.sort(expected);
+
+        Enumerables.sort(brands);
+
+        assertSameInstances(Arrays.asList(brands), Arrays.asList(expected));
+    }
+
+    @Test
+    void testSort_mixedTypes() {
+        List<Enumerable> mixed = new ArrayList<>(Arrays.<Enumerable>asList(
+                CarBrand.VOLVO, EnumerableTest.Fruit.ORANGE, CarBrand.AUDI, EnumerableTest.Fruit.APPLE));
+
+        Enumerables.sort(mixed);
+
+        assertThat(mixed).containsExactly(
+                CarBrand.AUDI, CarBrand.VOLVO, EnumerableTest.Fruit.APPLE, EnumerableTest.Fruit.ORANGE);
+    }
+
+    @Test
+    void testSort_null() {
+        Enumerables.sort((List<CarBrand>) null);
+        Enumerables.sort((CarBrand[]) null);
+        assertThatThrownBy(() -> Enumerables.sort(new CarBrand[]{CarBrand.AUDI, null}))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+}
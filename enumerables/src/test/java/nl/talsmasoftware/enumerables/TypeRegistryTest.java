@@ -0,0 +1,133 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.enumerables;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TypeRegistryTest {
+
+    public static final class Colour extends Enumerable {
+        public static final Colour RED = new Colour("Red");
+        public static final Colour GREEN = new Colour("Green");
+        public static final Colour BLUE = new Colour("Blue");
+
+        private Colour(String value) {
+            super(value);
+        }
+    }
+
+    /**
+     * Classloader that defines its own copy of a single class and delegates everything else to its parent.
+     */
+    static final class IsolatingClassLoader extends ClassLoader {
+        private final String isolatedName;
+
+        IsolatingClassLoader(String isolatedName) {
+            super(IsolatingClassLoader.class.getClassLoader());
+            this.isolatedName = isolatedName;
+        }
+
+        @Override
+        protected synchronized Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!isolatedName.equals(name)) return super.loadClass(name, resolve);
+            Class<?> loaded = findLoadedClass(name);
+            if (loaded == null) {
+                byte[] bytes = readClassBytes(name);
+                loaded = defineClass(name, bytes, 0, bytes.length);
+            }
+            return loaded;
+        }
+
+        private static byte[] readClassBytes(String name) throws ClassNotFoundException {
+            try (InputStream in = IsolatingClassLoader.class.getResourceAsStream('/' + name.replace('.', '/') + ".class")) {
+                if (in == null) throw new ClassNotFoundException(name);
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                byte[] buf = new byte[4096];
+                for (int read = in.read(buf); read >= 0; read = in.read(buf)) out.write(buf, 0, read);
+                return out.toByteArray();
+            } catch (IOException ioe) {
+                throw new ClassNotFoundException(name, ioe);
+            }
+        }
+    }
+
+    @Test
+    void testClassValueRegistryIsUsedWhenAvailable() {
+        assertThat(TypeRegistry.create()).isInstanceOf(ClassValueRegistry.class);
+    }
+
+    @Test
+    void testMapRegistry() {
+        TypeRegistry registry = new TypeRegistry.MapRegistry();
+        TypeMetadata<CarBrand> metadata = registry.get(CarBrand.class);
+        assertThat(metadata.constants).containsExactly(Enumerable.values(CarBrand.class));
+        assertThat(registry.get(CarBrand.class)).isSameAs(metadata);
+    }
+
+    @Test
+    void testConcurrentInitializationReflectsOnce() throws Exception {
+        final TypeRegistry registry = TypeRegistry.create();
+        final CountDownLatch start = new CountDownLatch(1);
+        ExecutorService threads = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<TypeMetadata<Colour>>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(threads.submit(new Callable<TypeMetadata<Colour>>() {
+                    public TypeMetadata<Colour> call() throws Exception {
+                        start.await();
+                        return registry.get(Colour.class);
+                    }
+                }));
+            }
+            start.countDown();
+            TypeMetadata<Colour> first = results.get(0).get();
+            for (Future<TypeMetadata<Colour>> result : results) {
+                assertThat(result.get()).isSameAs(first);
+            }
+        } finally {
+            threads.shutdown();
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testSameClassNameFromDifferentClassLoaders() throws Exception {
+        Class<? extends Enumerable> isolated = (Class<? extends Enumerable>)
+                new IsolatingClassLoader(Colour.class.getName()).loadClass(Colour.class.getName());
+        assertThat(isolated).isNotSameAs(Colour.class);
+        assertThat(isolated.getName()).isEqualTo(Colour.class.getName());
+
+        Enumerable[] isolatedValues = Enumerable.values(isolated);
+        assertThat(isolatedValues).hasSize(3).allMatch(isolated::isInstance);
+        assertThat(Enumerable.values(Colour.class)).containsExactly(Colour.RED, Colour.GREEN, Colour.BLUE);
+        assertThat(Enumerable.parse(isolated, "Green")).isSameAs(isolatedValues[1]);
+        assertThat(Enumerable.parse(Colour.class, "Green")).isSameAs(Colour.GREEN);
+    }
+
+}
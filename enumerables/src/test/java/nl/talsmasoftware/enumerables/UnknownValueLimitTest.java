@@ -0,0 +1,121 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.enumerables;
+
+import nl.talsmasoftware.enumerables.UnknownValueLimit.Overflow;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UnknownValueLimitTest {
+
+    @UnknownValueLimit(value = 2, overflow = Overflow.USE_CONSTANT, constant = "OTHER")
+    static final class Country extends Enumerable {
+        public static final Country NL = new Country("NL");
+        public static final Country BE = new Country("BE");
+        public static final Country OTHER = new Country("??");
+
+        private Country(String value) {
+            super(value);
+        }
+    }
+
+    static final class Currency extends Enumerable {
+        public static final Currency EUR = new Currency("EUR");
+
+        private Currency(String value) {
+            super(value);
+        }
+    }
+
+    @AfterEach
+    void resetLimits() {
+        Enumerables.removeUnknownValueLimit(Currency.class);
+        Enumerables.setInternPolicy(Currency.class, null);
+    }
+
+    @Test
+    void testAnnotatedLimitUsesConstant() {
+        assertThat(Enumerable.parse(Country.class, "DE").getValue()).isEqualTo("DE");
+        assertThat(Enumerable.parse(Country.class, "FR").getValue()).isEqualTo("FR");
+        assertThat(Enumerable.parse(Country.class, "DE").getValue()).isEqualTo("DE"); // accepted before
+        assertThat(Enumerable.parse(Country.class, "LU")).isSameAs(Country.OTHER);
+        assertThat(Enumerable.parse(Country.class, "NL")).isSameAs(Country.NL); // constants are not limited
+
+        EnumerableStatistics statistics = Enumerables.statistics(Country.class);
+        assertThat(statistics.getUnknownValueCount()).isEqualTo(2);
+        assertThat(statistics.getUnknownValueLimitExceeded()).isEqualTo(1L);
+    }
+
+    @Test
+    void testReject() {
+        Enumerables.setUnknownValueLimit(Currency.class, 1, Overflow.REJECT, null);
+        Currency usd = Enumerable.parse(Currency.class, "USD");
+        assertThat(Enumerable.parse(Currency.class, "USD")).isEqualTo(usd);
+        assertThatThrownBy(() -> Enumerable.parse(Currency.class, "GBP"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Maximum of 1 unknown \"Currency\" values reached, value \"GBP\" was rejected.");
+        assertThat(Enumerables.statistics(Currency.class).getUnknownValueLimitExceeded()).isEqualTo(1L);
+    }
+
+    @Test
+    void testDeserializationIsNotLimited() {
+        byte[] jpy = EnumerableTest.serialize(Enumerable.parse(Currency.class, "JPY"));
+        byte[] eur = EnumerableTest.serialize(Currency.EUR);
+        Enumerables.setUnknownValueLimit(Currency.class, 0, Overflow.REJECT, null);
+
+        Currency deserialized = EnumerableTest.deserialize(jpy);
+        assertThat(deserialized.getValue()).isEqualTo("JPY");
+        assertThat((Currency) EnumerableTest.deserialize(eur)).isSameAs(Currency.EUR);
+        assertThat(Enumerables.statistics(Currency.class).getUnknownValueLimitExceeded()).isZero();
+    }
+
+    @Test
+    void testSkipInterning() {
+        Enumerables.setInternPolicy(Currency.class, InternPolicy.leastRecentlyUsed(100));
+        Enumerables.setUnknownValueLimit(Currency.class, 1, Overflow.SKIP_INTERNING, null);
+        Currency usd = Enumerable.parse(Currency.class, "USD");
+        assertThat(Enumerable.parse(Currency.class, "USD")).isSameAs(usd);
+        Currency gbp = Enumerable.parse(Currency.class, "GBP");
+        assertThat(Enumerable.parse(Currency.class, "GBP")).isNotSameAs(gbp).isEqualTo(gbp);
+        assertThat(Enumerables.statistics(Currency.class).getInternedCount()).isEqualTo(1);
+        assertThat(Enumerables.statistics(Currency.class).getUnknownValueLimitExceeded()).isEqualTo(2L);
+    }
+
+    @Test
+    void testUseUnknownConstant() {
+        assertThatThrownBy(() -> Enumerables.setUnknownValueLimit(Currency.class, 10, Overflow.USE_CONSTANT, "XXX"))
+                .isInstanceOf(Enumerable.ConstantNotFoundException.class)
+                .hasMessageContaining("Currency.XXX");
+    }
+
+    @Test
+    void testNegativeMaximum() {
+        assertThatThrownBy(() -> Enumerables.setUnknownValueLimit(Currency.class, -1, Overflow.REJECT, null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testRemoveLimit() {
+        Enumerables.setUnknownValueLimit(Currency.class, 0, Overflow.REJECT, null);
+        assertThatThrownBy(() -> Enumerable.parse(Currency.class, "USD")).isInstanceOf(IllegalArgumentException.class);
+        Enumerables.removeUnknownValueLimit(Currency.class);
+        assertThat(Enumerable.parse(Currency.class, "USD").getValue()).isEqualTo("USD");
+    }
+
+}
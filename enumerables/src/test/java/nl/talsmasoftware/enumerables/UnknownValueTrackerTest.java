@@ -0,0 +1,120 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.enumerables;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UnknownValueTrackerTest {
+
+    public static final class Country extends Enumerable {
+        public static final Country NL = new Country("Netherlands");
+
+        private Country(String value) {
+            super(value);
+        }
+    }
+
+    @Test
+    void testExactCountsWithinCapacity() {
+        UnknownValueTracker tracker = new UnknownValueTracker(10);
+        for (int i = 0; i < 5; i++) tracker.offer("five");
+        for (int i = 0; i < 3; i++) tracker.offer("three");
+        tracker.offer("one");
+
+        assertThat(tracker.top(10)).hasToString("[five=5, three=3, one=1]");
+        assertThat(tracker.top(2)).extracting(UnknownValueCount::getValue).containsExactly("five", "three");
+    }
+
+    @Test
+    void testHeavyHittersAmongUniqueValues() {
+        UnknownValueTracker tracker = new UnknownValueTracker(20);
+        Random random = new Random(1L);
+        int hot = 0, warm = 0;
+        for (int i = 0; i < 100000; i++) {
+            int dice = random.nextInt(10);
+            if (dice < 2) {
+                tracker.offer("hot");
+                hot++;
+            } else if (dice < 3) {
+                tracker.offer("warm");
+                warm++;
+            } else {
+                tracker.offer("unique " + i);
+            }
+        }
+
+        List<UnknownValueCount> top = tracker.top(2);
+        assertThat(top).extracting(UnknownValueCount::getValue).containsExactly("hot", "warm");
+        assertThat(top.get(0).getCount()).isGreaterThanOrEqualTo(hot);
+        assertThat(top.get(0).getCount() - top.get(0).getError()).isLessThanOrEqualTo(hot);
+        assertThat(top.get(1).getCount()).isGreaterThanOrEqualTo(warm);
+        assertThat(top.get(1).getCount() - top.get(1).getError()).isLessThanOrEqualTo(warm);
+    }
+
+    @Test
+    void testConcurrentThreads() throws Exception {
+        UnknownValueTracker tracker = new UnknownValueTracker(4);
+        ExecutorService threads = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(threads.submit(() -> {
+                    for (int i = 0; i < 1000; i++) tracker.offer(i % 2 == 0 ? "even" : "odd");
+                }));
+            }
+            for (Future<?> future : futures) future.get();
+        } finally {
+            threads.shutdown();
+        }
+
+        assertThat(tracker.top(5)).hasToString("[even=4000, odd=4000]");
+    }
+
+    @Test
+    void testCapacityMustBePositive() {
+        assertThatThrownBy(() -> new UnknownValueTracker(0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Capacity must be positive");
+    }
+
+    @Test
+    void testTrackingParsedValues() {
+        assertThat(Enumerables.topUnknownValues(Country.class, 3)).isEmpty();
+
+        Enumerables.trackUnknownValues(Country.class, 10);
+        Enumerable.parse(Country.class, "Netherlands");
+        Enumerable.parse(Country.class, "Belgium");
+        Enumerable.parse(Country.class, "Belgium".toCharArray(), 0, 7);
+        Enumerable.parse(Country.class, "Germany");
+
+        assertThat(Enumerables.topUnknownValues(Country.class, 3)).hasToString("[Belgium=2, Germany=1]");
+        assertThat(Enumerables.topUnknownValues(Country.class, 1)).hasSize(1);
+
+        Enumerables.stopTrackingUnknownValues(Country.class);
+        assertThat(Enumerables.topUnknownValues(Country.class, 3)).isEmpty();
+    }
+
+}
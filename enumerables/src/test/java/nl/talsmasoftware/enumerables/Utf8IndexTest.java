@@ -0,0 +1,76 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.enumerables;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class Utf8IndexTest {
+
+    static byte[] utf8(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    static void assertIndexed(Utf8Index index, String[] keys) {
+        for (int i = 0; i < keys.length; i++) {
+            byte[] padded = utf8("<" + keys[i] + ">");
+            int length = padded.length - 2;
+            assertThat(index.indexOf(padded, 1, length)).as(keys[i]).isEqualTo(i);
+            if (length > 0) assertThat(index.indexOf(padded, 0, length)).as("shifted " + keys[i]).isEqualTo(-1);
+
+            ByteBuffer heap = ByteBuffer.wrap(padded, 1, length);
+            assertThat(index.indexOf(heap.slice())).as("heap buffer " + keys[i]).isEqualTo(i);
+
+            ByteBuffer direct = ByteBuffer.allocateDirect(padded.length);
+            direct.put(padded).position(1).limit(1 + length);
+            assertThat(index.indexOf(direct)).as("direct buffer " + keys[i]).isEqualTo(i);
+            assertThat(direct.position()).isEqualTo(1);
+        }
+        assertThat(index.indexOf(utf8("missing"), 0, 7)).isEqualTo(-1);
+    }
+
+    @Test
+    void testEmpty() {
+        assertIndexed(new Utf8Index(new String[0]), new String[0]);
+    }
+
+    @Test
+    void testSmallAndLargeIndex() {
+        assertIndexed(new Utf8Index(ValueIndexTest.keys(3)), ValueIndexTest.keys(3));
+        assertIndexed(new Utf8Index(ValueIndexTest.keys(500)), ValueIndexTest.keys(500));
+    }
+
+    @Test
+    void testMultiByteCharacters() {
+        String[] keys = {"café", "€", "😀", "naïve", ""};
+        assertIndexed(new Utf8Index(keys), keys);
+        // Same characters, different encoding:
+        assertThat(new Utf8Index(keys).indexOf("cafe".getBytes(StandardCharsets.ISO_8859_1), 0, 4)).isEqualTo(-1);
+    }
+
+    @Test
+    void testUnencodableKeysAreSkipped() {
+        String[] keys = {"?", "\ud800"};
+        Utf8Index index = new Utf8Index(keys);
+        assertThat(index.indexOf(utf8("?"), 0, 1)).isZero();
+        assertThat(index.indexOf(utf8("\ud800"), 0, 1)).isZero(); // encodes as '?'
+    }
+
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.enumerables;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ValueFoldingTest {
+
+    static final class CardType extends Enumerable {
+        public static final CardType VISA = new CardType("Visa");
+        public static final CardType MASTERCARD = new CardType("MasterCard");
+        public static final CardType AMEX = new CardType("American Express");
+
+        private CardType(String value) {
+            super(value);
+        }
+    }
+
+    @FoldedParsing(ValueFolding.IgnoreCaseAndWhitespace.class)
+    static final class Scheme extends Enumerable {
+        public static final Scheme HTTP = new Scheme("http");
+        public static final Scheme HTTPS = new Scheme("https");
+        public static final Scheme UPPER_HTTPS = new Scheme("HTTPS");
+
+        private Scheme(String value) {
+            super(value);
+        }
+    }
+
+    @Test
+    void testFoldingIsNotAppliedByDefault() {
+        assertThat(Enumerable.parse(CardType.class, "visa")).isNotSameAs(CardType.VISA);
+    }
+
+    @Test
+    void testParseFolded_ignoreCase() {
+        assertThat(Enumerable.parseFolded(CardType.class, "visa", ValueFolding.IGNORE_CASE)).isSameAs(CardType.VISA);
+        assertThat(Enumerable.parseFolded(CardType.class, new StringBuilder("MASTERCARD"), ValueFolding.IGNORE_CASE))
+                .isSameAs(CardType.MASTERCARD);
+        CardType unknown = Enumerable.parseFolded(CardType.class, "american  express", ValueFolding.IGNORE_CASE);
+        assertThat(unknown.ordinal()).isEqualTo(Integer.MAX_VALUE);
+        assertThat(unknown.getValue()).isEqualTo("american  express");
+        assertThat(Enumerable.parseFolded(CardType.class, null, ValueFolding.IGNORE_CASE)).isNull();
+    }
+
+    @Test
+    void testParseFolded_ignoreCaseAndWhitespace() {
+        assertThat(Enumerable.parseFolded(CardType.class, " american\texpress ",
+                ValueFolding.IGNORE_CASE_AND_WHITESPACE)).isSameAs(CardType.AMEX);
+        assertThat(Enumerable.parseFolded(CardType.class, "AmericanExpress",
+                ValueFolding.IGNORE_CASE_AND_WHITESPACE)).isSameAs(CardType.AMEX);
+        assertThat(Enumerable.parseFolded(CardType.class, "American Expres",
+                ValueFolding.IGNORE_CASE_AND_WHITESPACE).ordinal()).isEqualTo(Integer.MAX_VALUE);
+    }
+
+    @Test
+    void testParseFolded_customFolding() {
+        ValueFolding ignoreDashes = new ValueFolding.IgnoreCase() {
+            @Override
+            public int fold(char ch) {
+                return ch == '-' ? -1 : super.fold(ch);
+            }
+        };
+        assertThat(Enumerable.parseFolded(CardType.class, "master-card", ignoreDashes))
+                .isSameAs(CardType.MASTERCARD);
+    }
+
+    @Test
+    void testAnnotatedType_exactMatchFirst() {
+        assertThat(Enumerable.parse(Scheme.class, "HTTPS")).isSameAs(Scheme.UPPER_HTTPS);
+        assertThat(Enumerable.parse(Scheme.class, "https")).isSameAs(Scheme.HTTPS);
+    }
+
+    @Test
+    void testAnnotatedType_firstDeclaredConstantWins() {
+        assertThat(Enumerable.parse(Scheme.class, " Https ")).isSameAs(Scheme.HTTPS);
+        assertThat(Enumerable.parse(Scheme.class, " HTTP\n")).isSameAs(Scheme.HTTP);
+        assertThat(Enumerable.parse(Scheme.class, "ftp").ordinal()).isEqualTo(Integer.MAX_VALUE);
+    }
+
+    @Test
+    void testAnnotatedType_otherParseMethods() {
+        char[] chars = "[Http]".toCharArray();
+        assertThat(Enumerable.parse(Scheme.class, chars, 1, 4)).isSameAs(Scheme.HTTP);
+        byte[] bytes = " Http ".getBytes(StandardCharsets.UTF_8);
+        assertThat(Enumerable.parseUtf8(Scheme.class, bytes, 0, bytes.length)).isSameAs(Scheme.HTTP);
+    }
+
+    @Test
+    void testFoldingsOfSameClassAreEqual() {
+        assertThat(new ValueFolding.IgnoreCase()).isEqualTo(ValueFolding.IGNORE_CASE)
+                .hasSameHashCodeAs(ValueFolding.IGNORE_CASE)
+                .isNotEqualTo(ValueFolding.IGNORE_CASE_AND_WHITESPACE);
+    }
+
+}
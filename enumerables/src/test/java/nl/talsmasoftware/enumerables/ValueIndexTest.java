@@ -0,0 +1,118 @@
+/*
+ * Copyright 2016-2026 Talsma ICT
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.talsmasoftware.enumerables;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.CharBuffer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ValueIndexTest {
+
+    static String[] keys(int count) {
+        String[] keys = new String[count];
+        for (int i = 0; i < count; i++) {
+            keys[i] = "Value " + i;
+        }
+        return keys;
+    }
+
+    static void assertIndexed(ValueIndex index, String[] keys) {
+        for (int i = 0; i < keys.length; i++) {
+            assertThat(index.indexOf(keys[i])).as(keys[i]).isEqualTo(i);
+            assertThat(index.indexOf(new String(keys[i]))).as("Copy of " + keys[i]).isEqualTo(i);
+        }
+        assertThat(index.indexOf("Value " + keys.length)).isEqualTo(-1);
+        assertThat(index.indexOf("")).isEqualTo(-1);
+        assertIndexedAsCharacters(index, keys);
+    }
+
+    static void assertIndexedAsCharacters(ValueIndex index, String[] keys) {
+        for (int i = 0; i < keys.length; i++) {
+            char[] padded = ("<" + keys[i] + ">").toCharArray();
+            assertThat(index.indexOf(new StringBuilder(keys[i]))).as("StringBuilder " + keys[i]).isEqualTo(i);
+            assertThat(index.indexOf(CharBuffer.wrap(padded, 1, keys[i].length())))
+                    .as("CharBuffer " + keys[i]).isEqualTo(i);
+            assertThat(index.indexOf(padded, 1, keys[i].length())).as("char[] " + keys[i]).isEqualTo(i);
+            assertThat(index.indexOf(padded, 0, keys[i].length())).as("shifted " + keys[i]).isEqualTo(-1);
+        }
+        assertThat(index.indexOf(new StringBuilder("Value " + keys.length))).isEqualTo(-1);
+        assertThat(index.indexOf(new char[0], 0, 0)).isEqualTo(-1);
+    }
+
+    @Test
+    void testHashMatchesStringHashCode() {
+        for (String key : new String[]{"", "a", "Value 42", "\u00e9\ud83d\ude00"}) {
+            char[] padded = ("xx" + key).toCharArray();
+            assertThat(ValueIndex.hash(new StringBuilder(key))).isEqualTo(key.hashCode());
+            assertThat(ValueIndex.hash(padded, 2, key.length())).isEqualTo(key.hashCode());
+        }
+    }
+
+    @Test
+    void testEmpty() {
+        assertIndexed(ValueIndex.of(new String[0]), new String[0]);
+    }
+
+    @Test
+    void testTinyIndexIsLinear() {
+        String[] keys = keys(ValueIndex.LINEAR_THRESHOLD);
+        ValueIndex index = ValueIndex.of(keys);
+        assertThat(index).isInstanceOf(ValueIndex.Linear.class);
+        assertIndexed(index, keys);
+    }
+
+    @Test
+    void testLargerIndexIsHashed() {
+        String[] keys = keys(ValueIndex.LINEAR_THRESHOLD + 1);
+        ValueIndex index = ValueIndex.of(keys);
+        assertThat(index).isNotInstanceOf(ValueIndex.Linear.class);
+        assertIndexed(index, keys);
+    }
+
+    @Test
+    void testLargeIndex() {
+        String[] keys = keys(1000);
+        ValueIndex index = ValueIndex.of(keys);
+        assertThat(index).isInstanceOf(ValueIndex.OpenAddressing.class);
+        assertIndexed(index, keys);
+    }
+
+    @Test
+    void testCollidingHashCodes() {
+        // "Aa" and "BB" share the same String hashCode.
+        String[] keys = {"Aa", "BB", "AaAa", "AaBB", "BBAa", "BBBB", "AaAaAa", "AaAaBB", "AaBBAa", "BBAaAa"};
+        ValueIndex index = ValueIndex.of(keys);
+        assertThat(index).isInstanceOf(ValueIndex.OpenAddressing.class);
+        for (int i = 0; i < keys.length; i++) {
+            assertThat(index.indexOf(keys[i])).isEqualTo(i);
+        }
+        assertThat(index.indexOf("BBBBBB")).isEqualTo(-1);
+        assertIndexedAsCharacters(index, keys);
+        assertThat(index.indexOf(new StringBuilder("BBBBBB"))).isEqualTo(-1);
+    }
+
+    @Test
+    void testDuplicateKeysReturnFirstIndex() {
+        String[] keys = keys(20);
+        keys[15] = keys[3];
+        assertThat(ValueIndex.of(keys).indexOf(keys[3])).isEqualTo(3);
+        String[] tiny = {"a", "b", "a"};
+        assertThat(ValueIndex.of(tiny).indexOf("a")).isZero();
+    }
+
+}